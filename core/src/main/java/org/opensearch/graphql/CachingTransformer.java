@@ -0,0 +1,159 @@
+package org.opensearch.graphql;
+
+import org.opensearch.schema.ontology.Accessor;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Optional memoizing transformer in front of a query {@link Transformer}
+ * <br>
+ * The translation of a GQL query text is deterministic for a given ontology, therefore translated queries are cached by the
+ * ontology name and the query text. Each entry remembers the {@link Accessor} it was translated with - once a new accessor
+ * (a changed ontology) is used for the same ontology name, the previous entries are no longer returned.
+ * Entries are evicted by size (least recently used) and by time-to-live - the entries dropped for a changed ontology are
+ * invalidated rather than evicted and are not counted as evictions.
+ * <br>
+ * Cached queries are shared between callers, each caller receives the result of the given copy function over the cached query
+ * (a deep copy for mutable query types - e.g. {@link org.opensearch.languages.oql.query.Query.QueryUtils#copy}, identity for
+ * immutable ones)
+ *
+ * @param <T>
+ */
+public class CachingTransformer<T> implements Transformer<T> {
+    public static final int DEFAULT_MAX_SIZE = 1000;
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    private final Transformer<T> transformer;
+    private final UnaryOperator<T> copy;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final Map<Key, Entry<T>> queries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingTransformer(Transformer<T> transformer, UnaryOperator<T> copy) {
+        this(transformer, copy, DEFAULT_MAX_SIZE, DEFAULT_TTL);
+    }
+
+    public CachingTransformer(Transformer<T> transformer, UnaryOperator<T> copy, int maxSize, Duration ttl) {
+        this(transformer, copy, maxSize, ttl, System::nanoTime);
+    }
+
+    CachingTransformer(Transformer<T> transformer, UnaryOperator<T> copy, int maxSize, Duration ttl, LongSupplier ticker) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("Cache size must be positive, was " + maxSize);
+        this.transformer = transformer;
+        this.copy = copy;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+        this.queries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry<T>> eldest) {
+                if (size() > CachingTransformer.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public T transform(Accessor accessor, String query) {
+        Key key = new Key(accessor.name(), query);
+        long now = ticker.getAsLong();
+        Entry<T> entry;
+        synchronized (queries) {
+            entry = queries.get(key);
+            if (entry != null && entry.accessor != accessor) {
+                //stale ontology
+                queries.remove(key);
+                entry = null;
+            } else if (entry != null && now - entry.created >= ttlNanos) {
+                //expired entry
+                queries.remove(key);
+                evictions.increment();
+                entry = null;
+            }
+        }
+        if (entry != null) {
+            hits.increment();
+            return copy.apply(entry.query);
+        }
+        misses.increment();
+        //translate outside the lock - translation errors are not cached
+        T translated = transformer.transform(accessor, query);
+        synchronized (queries) {
+            queries.put(key, new Entry<>(accessor, translated, now));
+        }
+        return copy.apply(translated);
+    }
+
+    public int size() {
+        synchronized (queries) {
+            return queries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (queries) {
+            queries.clear();
+        }
+    }
+
+    /**
+     * @return a snapshot of the cache metrics
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    private static final class Entry<T> {
+        private final Accessor accessor;
+        private final T query;
+        private final long created;
+
+        private Entry(Accessor accessor, T query, long created) {
+            this.accessor = accessor;
+            this.query = query;
+            this.created = created;
+        }
+    }
+
+    private static final class Key {
+        private final String ontology;
+        private final String query;
+        private final int hash;
+
+        private Key(String ontology, String query) {
+            this.ontology = ontology;
+            this.query = query;
+            this.hash = Objects.hash(ontology, query);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return hash == key.hash &&
+                    Objects.equals(ontology, key.ontology) &&
+                    query.equals(key.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
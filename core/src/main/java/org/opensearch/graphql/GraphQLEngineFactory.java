@@ -8,21 +8,36 @@ import graphql.schema.idl.errors.SchemaProblem;
 import org.opensearch.schema.SchemaError;
 
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static graphql.Scalars.GraphQLString;
 
 /**
  * This is the GraphQL schema & engine factory
+ * <br>
+ * The type registry is copy-on-write: mutations (addType / reset) publish a new registry instance, so schema compilations
+ * running concurrently always work on a consistent snapshot of the registered types
  */
 public class GraphQLEngineFactory {
     private static final SchemaParser schemaParser = new SchemaParser();
     private static final SchemaGenerator schemaGenerator = new SchemaGenerator();
-    private static TypeDefinitionRegistry typeRegistry = new TypeDefinitionRegistry();
-    private static GraphQLSchema graphQLSchema;
-    private static GraphQL gql;
+    private static volatile TypeDefinitionRegistry typeRegistry = new TypeDefinitionRegistry();
+    private static volatile GraphQLSchema graphQLSchema;
+    private static volatile GraphQL gql;
+    private static final AtomicLong registryVersion = new AtomicLong();
+    private static final PreparsedDocumentCache documentCache = new PreparsedDocumentCache();
+    private static volatile SchemaDocumentCache schemaCache = new SchemaDocumentCache();
 
     /**
      * add GQL type using inputStream
@@ -38,15 +53,39 @@ public class GraphQLEngineFactory {
      *
      * @return validation if the type successfully merged
      */
-    public static boolean addType(TypeDefinitionRegistry type) {
+    public static synchronized boolean addType(TypeDefinitionRegistry type) {
         try {
-            typeRegistry.merge(type);
+            typeRegistry = new TypeDefinitionRegistry()
+                    .merge(typeRegistry)
+                    .merge(type);
+            registryVersion.incrementAndGet();
         } catch (SchemaProblem err) {
             return false;
         }
         return true;
     }
 
+    /**
+     * add GQL types - the registries are merged in the given order into a single new registry which is published once.
+     * A registry which fails merging is skipped (as in {@link #addType(TypeDefinitionRegistry)})
+     *
+     * @return validation if all the types successfully merged
+     */
+    public static synchronized boolean addTypes(List<TypeDefinitionRegistry> types) {
+        TypeDefinitionRegistry merged = new TypeDefinitionRegistry().merge(typeRegistry);
+        boolean valid = true;
+        for (TypeDefinitionRegistry type : types) {
+            try {
+                merged.merge(type);
+            } catch (SchemaProblem err) {
+                valid = false;
+            }
+        }
+        typeRegistry = merged;
+        registryVersion.incrementAndGet();
+        return valid;
+    }
+
     /**
      * generate GQL schema - will create a new schema even if schema was already created
      *
@@ -55,7 +94,7 @@ public class GraphQLEngineFactory {
      */
     public static GraphQLSchema generateSchema(WiringFactory factory,List<InputStream> streams) {
         // each registry is merged into the main registry
-        streams.forEach(GraphQLEngineFactory::addType);
+        addTypes(parseAll(streams));
         return generateSchema(factory);
     }
 
@@ -67,7 +106,7 @@ public class GraphQLEngineFactory {
      */
     public static GraphQLSchema generateSchema(List<InputStream> streams) {
         // each registry is merged into the main registry
-        streams.forEach(GraphQLEngineFactory::addType);
+        addTypes(parseAll(streams));
         return generateSchema(new EchoingWiringFactory());
     }
 
@@ -77,6 +116,63 @@ public class GraphQLEngineFactory {
      * @return
      */
     public static GraphQLSchema generateSchema(WiringFactory factory) {
+        GraphQLSchema schema = buildSchema(typeRegistry, factory);
+        graphQLSchema = schema;
+        return schema;
+    }
+
+    /**
+     * compile an executable GQL engine over the current type registry using the given wiring factory.
+     * <br>
+     * The compiled engine is not registered as the factory's schema / engine so it can be kept and reused by its owner
+     * across many query executions - the wiring factory is expected to take the per-query state from the execution's GraphQL context.
+     * Parsed & validated query documents are shared through the factory's document cache under the current registry version
+     *
+     * @param factory - the wiring factory (data-fetchers & type-resolvers) of the engine
+     * @return
+     */
+    public static GraphQL compileEngine(WiringFactory factory) {
+        String version;
+        TypeDefinitionRegistry registry;
+        //take the registry together with its version
+        synchronized (GraphQLEngineFactory.class) {
+            version = "default#" + registryVersion.get();
+            registry = typeRegistry;
+        }
+        return GraphQL.newGraphQL(buildSchema(registry, factory))
+                .preparsedDocumentProvider(documentCache.provider(version))
+                .build();
+    }
+
+    /**
+     * provider of an engine compiled over the registered types using the given wiring factory - the engine is compiled on the
+     * first use and recompiled on the first use after the registered types change (addType / reset).
+     * Only the engine of the latest registry version is held
+     *
+     * @param factory - the wiring factory (data-fetchers & type-resolvers) of the engine
+     * @return
+     */
+    public static Supplier<GraphQL> compiledEngine(Supplier<WiringFactory> factory) {
+        AtomicReference<Map.Entry<Long, GraphQL>> compiled = new AtomicReference<>();
+        return () -> {
+            long version = registryVersion.get();
+            Map.Entry<Long, GraphQL> entry = compiled.get();
+            if (entry == null || entry.getKey() != version) {
+                entry = new AbstractMap.SimpleImmutableEntry<>(version, compileEngine(factory.get()));
+                compiled.set(entry);
+            }
+            return entry.getValue();
+        };
+    }
+
+    /**
+     * build an executable GQL schema from the given type registry
+     *
+     * @param registry - the type definitions of the schema
+     * @param factory  - the wiring factory (data-fetchers & type-resolvers) of the schema
+     * @return
+     */
+    static GraphQLSchema buildSchema(TypeDefinitionRegistry registry, WiringFactory factory) {
         //create schema
         RuntimeWiring.Builder builder = RuntimeWiring.newRuntimeWiring()
                 .wiringFactory(factory)
@@ -95,22 +191,73 @@ public class GraphQLEngineFactory {
                 .scalar(ExtendedScalars.Url)
                 .scalar(ExtendedScalars.DateTime)
                 .scalar(ExtendedScalars.Time);
-        graphQLSchema = schemaGenerator.makeExecutableSchema(
+        return schemaGenerator.makeExecutableSchema(
                 SchemaGenerator.Options.defaultOptions(),
-                typeRegistry,
+                registry,
                 builder.build());
-        return schema().get();
     }
 
-    private static TypeDefinitionRegistry parse(InputStream s) {
+    static TypeDefinitionRegistry parse(InputStream s) {
         try {
-            return schemaParser.parse(new InputStreamReader(s));
+            return schemaParser.buildRegistry(schemaCache.document(s));
+        } catch (SchemaError.SchemaErrorException err) {
+            throw err;
         } catch (Throwable err) {
             //log parse errors
             throw new SchemaError.SchemaErrorException("Couldn't parse the input schema file", err);
         }
     }
 
+    static TypeDefinitionRegistry parse(String sdl) {
+        try {
+            return schemaParser.buildRegistry(schemaCache.document(sdl));
+        } catch (SchemaError.SchemaErrorException err) {
+            throw err;
+        } catch (Throwable err) {
+            //log parse errors
+            throw new SchemaError.SchemaErrorException("Couldn't parse the input schema file", err);
+        }
+    }
+
+    /**
+     * parse the GQL schema files in parallel - each file into its own type registry.
+     * The registries are returned in the order of the given files so that merging them is deterministic,
+     * a file which fails parsing fails the entire call (the first failing file in order is reported)
+     *
+     * @param streams - list of GQL schema files
+     * @return
+     */
+    static List<TypeDefinitionRegistry> parseAll(List<InputStream> streams) {
+        return parseAll(streams, GraphQLEngineFactory::parse);
+    }
+
+    /**
+     * parse the already read GQL schema files content in parallel - as {@link #parseAll(List)}
+     *
+     * @param contents - list of GQL schema files content
+     * @return
+     */
+    static List<TypeDefinitionRegistry> parseAllContents(List<String> contents) {
+        return parseAll(contents, GraphQLEngineFactory::parse);
+    }
+
+    private static <T> List<TypeDefinitionRegistry> parseAll(List<T> sources, Function<T, TypeDefinitionRegistry> parser) {
+        List<CompletableFuture<TypeDefinitionRegistry>> parsed = sources.stream()
+                .map(s -> CompletableFuture.supplyAsync(() -> parser.apply(s)))
+                .collect(Collectors.toList());
+        List<TypeDefinitionRegistry> registries = new ArrayList<>(parsed.size());
+        for (CompletableFuture<TypeDefinitionRegistry> registry : parsed) {
+            try {
+                registries.add(registry.join());
+            } catch (CompletionException err) {
+                if (err.getCause() instanceof SchemaError.SchemaErrorException)
+                    throw (SchemaError.SchemaErrorException) err.getCause();
+                throw new SchemaError.SchemaErrorException("Couldn't parse the input schema file", err.getCause());
+            }
+        }
+        return registries;
+    }
+
 
     /**
      * generate GQL engine - will create a new engine even if engine was already created
@@ -119,8 +266,9 @@ public class GraphQLEngineFactory {
      * @return
      */
     public static GraphQL generateEngine(GraphQLSchema schema) {
-        gql = GraphQL.newGraphQL(schema).build();
-        return engine().get();
+        GraphQL engine = GraphQL.newGraphQL(schema).build();
+        gql = engine;
+        return engine;
     }
 
     /**
@@ -129,10 +277,7 @@ public class GraphQLEngineFactory {
      * @return
      */
     public static Optional<GraphQL> engine() {
-        if (gql != null)
-            return Optional.of(gql);
-
-        return Optional.empty();
+        return Optional.ofNullable(gql);
     }
 
     /**
@@ -144,24 +289,49 @@ public class GraphQLEngineFactory {
         return typeRegistry;
     }
 
+    /**
+     * get the parsed query documents cache of the engines compiled by this factory
+     *
+     * @return
+     */
+    public static PreparsedDocumentCache documentCache() {
+        return documentCache;
+    }
+
+    /**
+     * get the parsed GQL schema files cache of this factory
+     *
+     * @return
+     */
+    public static SchemaDocumentCache schemaCache() {
+        return schemaCache;
+    }
+
+    /**
+     * replace the parsed GQL schema files cache - e.g. with a cache of another size
+     *
+     * @param cache
+     */
+    public static void schemaCache(SchemaDocumentCache cache) {
+        schemaCache = cache;
+    }
+
     /**
      * get GQL schema
      *
      * @return
      */
     public static Optional<GraphQLSchema> schema() {
-        if (graphQLSchema != null)
-            return Optional.of(graphQLSchema);
-
-        return Optional.empty();
+        return Optional.ofNullable(graphQLSchema);
     }
 
     /**
      * reset all state from GQL schema & types
      * @return
      */
-    public static boolean reset() {
+    public static synchronized boolean reset() {
         typeRegistry = new TypeDefinitionRegistry();
+        registryVersion.incrementAndGet();
         graphQLSchema = null;
         gql = null;
         return true;
@@ -0,0 +1,276 @@
+package org.opensearch.graphql;
+
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.EchoingWiringFactory;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import graphql.schema.idl.WiringFactory;
+import org.opensearch.graphql.translation.GraphQLToOntologyTransformer;
+import org.opensearch.schema.SchemaError;
+import org.opensearch.schema.ontology.Accessor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Multi-tenant registry of isolated GraphQL schemas & engines keyed by the ontology (domain) name
+ * <br>
+ * Each domain entry holds its own type definition registry, schema, ontology accessor and compiled engines (one per target language).
+ * Entries are built lazily on first access from the domain's SDL sources, different domains are built concurrently and the least
+ * recently used domains are evicted once the registry exceeds its capacity (an evicted domain is rebuilt when accessed again)
+ */
+public class GraphQLEngineRegistry {
+    public static final int DEFAULT_MAX_DOMAINS = 64;
+
+    private final Function<String, List<InputStream>> sources;
+    private final int maxDomains;
+    private final Map<String, Domain> domains = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+    private final PreparsedDocumentCache documentCache;
+    private final OntologyArtifactCache artifacts;
+
+    /**
+     * @param sources - provides the GQL SDL streams of a domain by its name
+     */
+    public GraphQLEngineRegistry(Function<String, List<InputStream>> sources) {
+        this(sources, DEFAULT_MAX_DOMAINS);
+    }
+
+    /**
+     * @param sources    - provides the GQL SDL streams of a domain by its name
+     * @param maxDomains - the maximal number of domains kept in the registry
+     */
+    public GraphQLEngineRegistry(Function<String, List<InputStream>> sources, int maxDomains) {
+        this(sources, maxDomains, new PreparsedDocumentCache());
+    }
+
+    /**
+     * @param sources       - provides the GQL SDL streams of a domain by its name
+     * @param maxDomains    - the maximal number of domains kept in the registry
+     * @param documentCache - the parsed query documents cache shared by all the domains' engines
+     */
+    public GraphQLEngineRegistry(Function<String, List<InputStream>> sources, int maxDomains, PreparsedDocumentCache documentCache) {
+        this(sources, maxDomains, documentCache, new OntologyArtifactCache());
+    }
+
+    /**
+     * @param sources       - provides the GQL SDL streams of a domain by its name
+     * @param maxDomains    - the maximal number of domains kept in the registry
+     * @param documentCache - the parsed query documents cache shared by all the domains' engines
+     * @param artifacts     - the compiled ontologies cache - a domain's ontology is translated only when its SDL sources changed
+     */
+    public GraphQLEngineRegistry(Function<String, List<InputStream>> sources, int maxDomains, PreparsedDocumentCache documentCache,
+                                 OntologyArtifactCache artifacts) {
+        if (maxDomains < 1)
+            throw new IllegalArgumentException("Registry capacity must be positive, was " + maxDomains);
+        this.sources = sources;
+        this.maxDomains = maxDomains;
+        this.documentCache = documentCache;
+        this.artifacts = artifacts;
+    }
+
+    /**
+     * get the domain entry by its name - building it on first access
+     *
+     * @param name - the ontology (domain) name
+     * @return
+     */
+    public Domain domain(String name) {
+        Domain domain = domains.get(name);
+        if (domain == null) {
+            Domain created = new Domain(name);
+            domain = domains.putIfAbsent(name, created);
+            if (domain == null) {
+                domain = created;
+                evictExcess(created);
+            }
+        }
+        domain.lastAccess = clock.incrementAndGet();
+        try {
+            return domain.build();
+        } catch (RuntimeException err) {
+            //failed domains are not kept - the next access will try building them again
+            domains.remove(name, domain);
+            throw err;
+        }
+    }
+
+    /**
+     * @return the compiled ontologies cache of the domains
+     */
+    public OntologyArtifactCache artifacts() {
+        return artifacts;
+    }
+
+    /**
+     * evict the domain from the registry
+     *
+     * @param name
+     * @return true if the domain was present
+     */
+    public boolean evict(String name) {
+        return domains.remove(name) != null;
+    }
+
+    /**
+     * @return the names of the domains currently held by the registry
+     */
+    public Set<String> domains() {
+        return Set.copyOf(domains.keySet());
+    }
+
+    public int size() {
+        return domains.size();
+    }
+
+    /**
+     * @return the parsed query documents cache of the domains' engines
+     */
+    public PreparsedDocumentCache documentCache() {
+        return documentCache;
+    }
+
+    private static List<String> read(List<InputStream> streams) {
+        List<String> contents = new ArrayList<>(streams.size());
+        for (InputStream stream : streams) {
+            try {
+                contents.add(new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+            } catch (IOException err) {
+                throw new SchemaError.SchemaErrorException("Couldn't read the input schema file", err);
+            }
+        }
+        return contents;
+    }
+
+    /**
+     * evict the least recently used domains (other than the added one) while the registry exceeds its capacity.
+     * This runs only when a domain is added (not on access) and scans the held domains - at most maxDomains plus the domains
+     * added concurrently, so the registry may transiently hold a few more domains than its capacity while concurrent additions
+     * are evicting. A new domain starts as the most recently used one so a concurrent addition never evicts it
+     */
+    private void evictExcess(Domain added) {
+        while (domains.size() > maxDomains) {
+            Optional<Domain> eldest = domains.values().stream()
+                    .filter(d -> d != added)
+                    .min(Comparator.comparingLong(d -> d.lastAccess));
+            if (eldest.isEmpty())
+                return;
+            domains.remove(eldest.get().name, eldest.get());
+        }
+    }
+
+    /**
+     * isolated domain entry - its own registry, schema, ontology and compiled engines
+     */
+    public class Domain {
+        private final String name;
+        private final String version;
+        private final Map<String, GraphQL> engines = new ConcurrentHashMap<>();
+        private volatile long lastAccess;
+        private volatile List<String> sdl;
+        private volatile TypeDefinitionRegistry registry;
+        private volatile GraphQLSchema schema;
+        private volatile OntologyArtifact artifact;
+
+        private Domain(String name) {
+            this.name = name;
+            this.lastAccess = clock.incrementAndGet();
+            //a rebuilt domain gets a new version so it never sees documents validated against its previous schema
+            this.version = name + "#" + generation.incrementAndGet();
+        }
+
+        private Domain build() {
+            if (schema == null) {
+                //lock only this domain so that other domains are built concurrently
+                synchronized (this) {
+                    if (schema == null) {
+                        TypeDefinitionRegistry typeRegistry = new TypeDefinitionRegistry();
+                        List<InputStream> streams = sources.apply(name);
+                        if (streams == null || streams.isEmpty())
+                            throw new SchemaError.SchemaErrorException("No GraphQL schema sources", "No GraphQL schema sources found for domain[" + name + "]");
+                        List<String> contents = read(streams);
+                        //the sources are parsed in parallel and merged in their given order
+                        GraphQLEngineFactory.parseAllContents(contents).forEach(typeRegistry::merge);
+                        sdl = contents;
+                        registry = typeRegistry;
+                        schema = GraphQLEngineFactory.buildSchema(typeRegistry, new EchoingWiringFactory());
+                    }
+                }
+            }
+            return this;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        /**
+         * @return the domain's own GQL type definition registry
+         */
+        public TypeDefinitionRegistry registry() {
+            return registry;
+        }
+
+        /**
+         * @return the domain's GQL schema (echoing wiring)
+         */
+        public GraphQLSchema schema() {
+            return schema;
+        }
+
+        /**
+         * get the domain's compiled ontology - the ontology is generated from the domain schema on first access, unless the
+         * registry's artifact cache already holds the compiled ontology of the same SDL sources
+         *
+         * @return
+         */
+        public OntologyArtifact artifact() {
+            if (artifact == null) {
+                synchronized (this) {
+                    if (artifact == null) {
+                        artifact = artifacts.artifact(name, sdl, () -> new GraphQLToOntologyTransformer().transform(name, schema));
+                    }
+                }
+            }
+            return artifact;
+        }
+
+        /**
+         * get the domain's ontology accessor
+         *
+         * @return
+         */
+        public Accessor accessor() {
+            return artifact().accessor();
+        }
+
+        /**
+         * get (or compile once) the domain's engine for the given target language
+         *
+         * @param language - the target language of the engine
+         * @param factory  - creates the language's wiring factory
+         * @return
+         */
+        public GraphQL engine(String language, Supplier<WiringFactory> factory) {
+            return engines.computeIfAbsent(language, l -> GraphQL.newGraphQL(GraphQLEngineFactory.buildSchema(registry, factory.get()))
+                    .preparsedDocumentProvider(documentCache.provider(version))
+                    .build());
+        }
+    }
+}
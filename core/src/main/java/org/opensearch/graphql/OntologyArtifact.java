@@ -0,0 +1,80 @@
+package org.opensearch.graphql;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.opensearch.schema.index.schema.IndexProvider;
+import org.opensearch.schema.ontology.Accessor;
+import org.opensearch.schema.ontology.Ontology;
+
+/**
+ * The compiled form of a domain's GQL SDL sources - the translated ontology and its generated index provider, identified by
+ * the hash of the sources they were compiled from
+ * <br>
+ * Only the ontology is persisted - the index provider is generated from it again (no GQL translation) when the artifact is read.
+ * The ontology & index provider are shared by all the users of the artifact and must not be modified
+ */
+@JsonPropertyOrder({
+        "sourcesHash",
+        "ontology"
+})
+public final class OntologyArtifact {
+    @JsonProperty("sourcesHash")
+    private final String sourcesHash;
+    @JsonProperty("ontology")
+    private final Ontology ontology;
+    @JsonIgnore
+    private final IndexProvider indexProvider;
+    @JsonIgnore
+    private volatile Accessor accessor;
+
+    @JsonCreator
+    public OntologyArtifact(@JsonProperty("sourcesHash") String sourcesHash,
+                            @JsonProperty("ontology") Ontology ontology) {
+        this(sourcesHash, ontology, IndexProvider.Builder.generate(ontology));
+    }
+
+    public OntologyArtifact(String sourcesHash, Ontology ontology, IndexProvider indexProvider) {
+        this.sourcesHash = sourcesHash;
+        this.ontology = ontology;
+        this.indexProvider = indexProvider;
+    }
+
+    public String getSourcesHash() {
+        return sourcesHash;
+    }
+
+    public Ontology getOntology() {
+        return ontology;
+    }
+
+    @JsonIgnore
+    public IndexProvider getIndexProvider() {
+        return indexProvider;
+    }
+
+    /**
+     * the accessor over the artifact's ontology - its indexes are built once per loaded artifact and shared by all callers
+     *
+     * @return
+     */
+    @JsonIgnore
+    public Accessor accessor() {
+        Accessor current = accessor;
+        if (current == null) {
+            synchronized (this) {
+                current = accessor;
+                if (current == null) {
+                    accessor = current = new Accessor(ontology);
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return "OntologyArtifact [ontology = " + ontology.getOnt() + ", sourcesHash = " + sourcesHash + "]";
+    }
+}
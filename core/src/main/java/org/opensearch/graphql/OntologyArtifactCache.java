@@ -0,0 +1,183 @@
+package org.opensearch.graphql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.EchoingWiringFactory;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import org.opensearch.graphql.translation.GraphQLToOntologyTransformer;
+import org.opensearch.schema.ontology.Ontology;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache of compiled ontology artifacts keyed by the hash of the domain's GQL SDL sources (and the ontology name)
+ * <br>
+ * Translating the SDL into an ontology runs the entire {@link GraphQLToOntologyTransformer} strategies chain and the ontology finalizer,
+ * the artifact cache runs it only once per distinct SDL content - the compiled artifact is kept in memory and, when given a directory,
+ * persisted there as a compact binary (SMILE) file which is read back instead of translated after a node restart or domain reload
+ * (see {@link OntologyArtifact} for the persisted parts).
+ * A missing, unreadable or stale (other sources hash) file is translated & written again
+ */
+public class OntologyArtifactCache {
+    public static final int DEFAULT_MAX_SIZE = 64;
+    /**
+     * version of the persisted artifact format & the translation producing it - part of the artifact key so that files written
+     * by an older ontology model or translator are never read back. Increment it on any change of either
+     */
+    public static final int FORMAT_VERSION = 1;
+    private static final String SUFFIX = ".ontology.sml";
+    private static final ObjectMapper artifactMapper = new ObjectMapper(new SmileFactory());
+
+    private final int maxSize;
+    private final Optional<Path> directory;
+    private final Map<String, OntologyArtifact> artifacts;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public OntologyArtifactCache() {
+        this(DEFAULT_MAX_SIZE, null);
+    }
+
+    /**
+     * @param maxSize   - the maximal number of artifacts kept in memory
+     * @param directory - the directory persisting the artifacts between restarts, null for an in-memory cache
+     */
+    public OntologyArtifactCache(int maxSize, Path directory) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("Cache size must be positive, was " + maxSize);
+        this.maxSize = maxSize;
+        this.directory = Optional.ofNullable(directory);
+        this.artifacts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, OntologyArtifact> eldest) {
+                if (size() > OntologyArtifactCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * get the compiled artifact of the given SDL sources - compiling the sources into a schema & ontology when not cached
+     *
+     * @param ontologyName
+     * @param sources      - the SDL sources content (in their merge order)
+     * @return
+     */
+    public OntologyArtifact artifact(String ontologyName, List<String> sources) {
+        return artifact(ontologyName, sources, () -> {
+            TypeDefinitionRegistry registry = new TypeDefinitionRegistry();
+            GraphQLEngineFactory.parseAllContents(sources).forEach(registry::merge);
+            GraphQLSchema schema = GraphQLEngineFactory.buildSchema(registry, new EchoingWiringFactory());
+            return new GraphQLToOntologyTransformer().transform(ontologyName, schema);
+        });
+    }
+
+    /**
+     * get the compiled artifact of the given SDL sources - using the given translation when not cached
+     *
+     * @param ontologyName
+     * @param sources      - the SDL sources content (in their merge order)
+     * @param translation  - translates the sources into the ontology
+     * @return
+     */
+    public OntologyArtifact artifact(String ontologyName, List<String> sources, Supplier<Ontology> translation) {
+        String key = hash(ontologyName, sources);
+        OntologyArtifact artifact;
+        synchronized (artifacts) {
+            artifact = artifacts.get(key);
+        }
+        if (artifact != null) {
+            hits.increment();
+            return artifact;
+        }
+        misses.increment();
+        //read or translate outside the lock
+        artifact = read(key).orElseGet(() -> {
+            Ontology ontology = translation.get();
+            OntologyArtifact compiled = new OntologyArtifact(key, ontology);
+            write(compiled);
+            return compiled;
+        });
+        synchronized (artifacts) {
+            artifacts.put(key, artifact);
+        }
+        return artifact;
+    }
+
+    /**
+     * the artifact key - a hash of the format version, the ontology name and the sources content hashes in their order
+     *
+     * @param ontologyName
+     * @param sources
+     * @return
+     */
+    public static String hash(String ontologyName, List<String> sources) {
+        StringBuilder key = new StringBuilder().append(FORMAT_VERSION).append('\n').append(ontologyName);
+        sources.forEach(sdl -> key.append('\n').append(SchemaDocumentCache.hash(sdl)));
+        return SchemaDocumentCache.hash(key.toString());
+    }
+
+    private Optional<OntologyArtifact> read(String key) {
+        if (directory.isEmpty() || !Files.isRegularFile(file(key)))
+            return Optional.empty();
+        try (InputStream input = Files.newInputStream(file(key))) {
+            OntologyArtifact artifact = artifactMapper.readValue(input, OntologyArtifact.class);
+            return key.equals(artifact.getSourcesHash()) ? Optional.of(artifact) : Optional.empty();
+        } catch (IOException err) {
+            //corrupted or incompatible (other ontology model version) file - translate again
+            return Optional.empty();
+        }
+    }
+
+    private void write(OntologyArtifact artifact) {
+        if (directory.isEmpty())
+            return;
+        try {
+            Files.createDirectories(directory.get());
+            Path temp = Files.createTempFile(directory.get(), artifact.getSourcesHash(), ".tmp");
+            artifactMapper.writeValue(temp.toFile(), artifact);
+            Files.move(temp, file(artifact.getSourcesHash()), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException err) {
+            //persisting is best effort - the sources are translated again after a restart
+        }
+    }
+
+    private Path file(String key) {
+        return directory.get().resolve(key + SUFFIX);
+    }
+
+    public int size() {
+        synchronized (artifacts) {
+            return artifacts.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (artifacts) {
+            artifacts.clear();
+        }
+    }
+
+    /**
+     * @return a snapshot of the cache metrics
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+}
@@ -0,0 +1,130 @@
+package org.opensearch.graphql;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded (LRU) cache of parsed & validated GQL query documents
+ * <br>
+ * Entries are keyed by the schema version together with the query text & operation name, so that engines compiled over
+ * different schemas (or different versions of the same schema) share the cache without ever seeing each other's documents.
+ * Only successfully validated documents are kept - queries with parse / validation errors are re-processed on every execution.
+ */
+public class PreparsedDocumentCache {
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final int maxSize;
+    private final Map<Key, PreparsedDocumentEntry> documents;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PreparsedDocumentCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public PreparsedDocumentCache(int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("Cache size must be positive, was " + maxSize);
+        this.maxSize = maxSize;
+        this.documents = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, PreparsedDocumentEntry> eldest) {
+                if (size() > PreparsedDocumentCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * get the document provider of a given schema version - to be plugged into the engines compiled over this schema
+     *
+     * @param schemaVersion
+     * @return
+     */
+    public PreparsedDocumentProvider provider(String schemaVersion) {
+        return (executionInput, computeFunction) -> getDocument(schemaVersion, executionInput, computeFunction);
+    }
+
+    private PreparsedDocumentEntry getDocument(String schemaVersion, ExecutionInput executionInput,
+                                               Function<ExecutionInput, PreparsedDocumentEntry> computeFunction) {
+        Key key = new Key(schemaVersion, executionInput.getQuery(), executionInput.getOperationName());
+        PreparsedDocumentEntry entry;
+        synchronized (documents) {
+            entry = documents.get(key);
+        }
+        if (entry != null) {
+            hits.increment();
+            return entry;
+        }
+        misses.increment();
+        //parse & validate outside the lock
+        entry = computeFunction.apply(executionInput);
+        if (!entry.hasErrors()) {
+            synchronized (documents) {
+                documents.put(key, entry);
+            }
+        }
+        return entry;
+    }
+
+    public int size() {
+        synchronized (documents) {
+            return documents.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (documents) {
+            documents.clear();
+        }
+    }
+
+    /**
+     * @return a snapshot of the cache metrics
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    private static final class Key {
+        private final String schemaVersion;
+        private final String query;
+        private final String operationName;
+        private final int hash;
+
+        private Key(String schemaVersion, String query, String operationName) {
+            this.schemaVersion = schemaVersion;
+            this.query = query;
+            this.operationName = operationName;
+            this.hash = Objects.hash(schemaVersion, query, operationName);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return hash == key.hash &&
+                    schemaVersion.equals(key.schemaVersion) &&
+                    query.equals(key.query) &&
+                    Objects.equals(operationName, key.operationName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
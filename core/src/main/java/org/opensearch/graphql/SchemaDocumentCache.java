@@ -0,0 +1,146 @@
+package org.opensearch.graphql;
+
+import graphql.language.Document;
+import graphql.parser.InvalidSyntaxException;
+import graphql.parser.Parser;
+import graphql.parser.ParserOptions;
+import org.opensearch.schema.SchemaError;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded (LRU) cache of parsed GQL SDL documents keyed by the SHA-256 hash of their content
+ * <br>
+ * The same SDL files (utils, filter, aggregation and the shared ECS / OTel types) are part of many domains - each distinct file
+ * is parsed once and its (immutable) document is shared by every registry built from it.
+ * The documents are kept in memory only and are not persisted - after a node restart every SDL file is parsed again on first use.
+ * Surviving a restart is provided only by the {@link OntologyArtifactCache}, which persists the compiled ontology of a domain so that
+ * its translation (the expensive part of loading a domain) is not repeated
+ */
+public class SchemaDocumentCache {
+    public static final int DEFAULT_MAX_SIZE = 256;
+    private static final ParserOptions sdlOptions = ParserOptions.getDefaultParserOptions().transform(options -> options.maxTokens(Integer.MAX_VALUE));
+
+    private final int maxSize;
+    private final Map<String, Document> documents;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public SchemaDocumentCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize - the maximal number of documents kept in memory
+     */
+    public SchemaDocumentCache(int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("Cache size must be positive, was " + maxSize);
+        this.maxSize = maxSize;
+        this.documents = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Document> eldest) {
+                if (size() > SchemaDocumentCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * read & parse the SDL stream (the stream is consumed but not closed)
+     *
+     * @param stream
+     * @return
+     */
+    public Document document(InputStream stream) {
+        try {
+            return document(new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException err) {
+            throw new SchemaError.SchemaErrorException("Couldn't read the input schema file", err);
+        }
+    }
+
+    /**
+     * get the parsed document of the given SDL - parsing it only when the same content was not parsed before
+     *
+     * @param sdl
+     * @return
+     */
+    public Document document(String sdl) {
+        String key = hash(sdl);
+        Document document;
+        synchronized (documents) {
+            document = documents.get(key);
+        }
+        if (document != null) {
+            hits.increment();
+            return document;
+        }
+        misses.increment();
+        //parse outside the lock
+        document = parse(sdl);
+        synchronized (documents) {
+            documents.put(key, document);
+        }
+        return document;
+    }
+
+    private static Document parse(String sdl) {
+        try {
+            return new Parser().parseDocument(new StringReader(sdl), sdlOptions);
+        } catch (InvalidSyntaxException err) {
+            throw new SchemaError.SchemaErrorException("Couldn't parse the input schema file", err);
+        }
+    }
+
+    /**
+     * the SHA-256 hash of the SDL content
+     *
+     * @param sdl
+     * @return
+     */
+    public static String hash(String sdl) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sdl.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new SchemaError.SchemaErrorException("Failed hashing the schema file", e);
+        }
+    }
+
+    public int size() {
+        synchronized (documents) {
+            return documents.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (documents) {
+            documents.clear();
+        }
+    }
+
+    /**
+     * @return a snapshot of the cache metrics
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+}
@@ -1,7 +1,27 @@
 package org.opensearch.graphql;
 
+import graphql.language.AstPrinter;
+import graphql.language.Document;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.Node;
+import graphql.language.OperationDefinition;
+import graphql.parser.Parser;
 import org.opensearch.schema.ontology.Accessor;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * general purpose transformer for query
  * @param <T>
@@ -14,4 +34,95 @@ public interface Transformer<T> {
      * @return
      */
     T transform(Accessor accessor, String query);
+
+    /**
+     * transforms a batch of queries on the common fork-join pool
+     *
+     * @param accessor
+     * @param queries
+     * @return
+     */
+    default List<Translation<T>> transformAll(Accessor accessor, List<String> queries) {
+        return transformAll(accessor, queries, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * transforms a batch of queries in parallel on the given executor - all the queries share the same accessor (and therefore
+     * the same compiled engine / schema of the transformer).
+     * Each query gets its own translation outcome in the order of the given queries - a failed query does not abort the batch
+     *
+     * @param accessor
+     * @param queries
+     * @param executor
+     * @return
+     */
+    default List<Translation<T>> transformAll(Accessor accessor, List<String> queries, Executor executor) {
+        List<CompletableFuture<Translation<T>>> translations = queries.stream()
+                .map(query -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return Translation.success(query, transform(accessor, query));
+                    } catch (RuntimeException e) {
+                        return Translation.<T>failure(query, e);
+                    }
+                }, executor))
+                .collect(Collectors.toList());
+        List<Translation<T>> results = new ArrayList<>(queries.size());
+        for (int i = 0; i < translations.size(); i++) {
+            try {
+                results.add(translations.get(i).join());
+            } catch (CompletionException e) {
+                //the executor failed the task itself
+                results.add(Translation.failure(queries.get(i), e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * transforms each operation of a multi-operation GQL document in parallel on the given executor
+     *
+     * @param accessor
+     * @param document
+     * @param executor
+     * @return
+     * @see #operations(String)
+     */
+    default List<Translation<T>> transformDocument(Accessor accessor, String document, Executor executor) {
+        return transformAll(accessor, operations(document), executor);
+    }
+
+    /**
+     * split a (multi-operation) GQL document into standalone queries - one per operation in the document's order, each with
+     * the fragment definitions it (transitively) spreads
+     *
+     * @param document
+     * @return
+     */
+    static List<String> operations(String document) {
+        Document parsed = new Parser().parseDocument(document);
+        Map<String, FragmentDefinition> fragments = parsed.getDefinitionsOfType(FragmentDefinition.class).stream()
+                .collect(Collectors.toMap(FragmentDefinition::getName, Function.identity(), (first, second) -> first, LinkedHashMap::new));
+        return parsed.getDefinitionsOfType(OperationDefinition.class).stream()
+                .map(operation -> {
+                    Set<String> used = new LinkedHashSet<>();
+                    spreads(operation, fragments, used);
+                    Document.Builder single = Document.newDocument().definition(operation);
+                    used.forEach(name -> single.definition(fragments.get(name)));
+                    return AstPrinter.printAst(single.build());
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static void spreads(Node<?> node, Map<String, FragmentDefinition> fragments, Set<String> used) {
+        if (node instanceof FragmentSpread) {
+            String name = ((FragmentSpread) node).getName();
+            //unknown fragments are left for the validation of the translated query
+            if (fragments.containsKey(name) && used.add(name))
+                spreads(fragments.get(name), fragments, used);
+            return;
+        }
+        for (Node<?> child : node.getChildren()) {
+            spreads(child, fragments, used);
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package org.opensearch.graphql;
+
+import java.util.Optional;
+
+/**
+ * the outcome of a single query of a batch translation - either the translated query or the error it failed with
+ *
+ * @param <T>
+ */
+public final class Translation<T> {
+    private final String query;
+    private final T result;
+    private final RuntimeException error;
+
+    private Translation(String query, T result, RuntimeException error) {
+        this.query = query;
+        this.result = result;
+        this.error = error;
+    }
+
+    public static <T> Translation<T> success(String query, T result) {
+        return new Translation<>(query, result, null);
+    }
+
+    public static <T> Translation<T> failure(String query, RuntimeException error) {
+        return new Translation<>(query, null, error);
+    }
+
+    /**
+     * @return the GQL text query which was translated
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public Optional<T> getResult() {
+        return Optional.ofNullable(result);
+    }
+
+    public Optional<RuntimeException> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * @return the translated query, rethrows the translation error of a failed query
+     */
+    public T get() {
+        if (error != null)
+            throw error;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Translation [query = " + query + (isSuccess() ? ", result = " + result : ", error = " + error.getMessage()) + "]";
+    }
+}
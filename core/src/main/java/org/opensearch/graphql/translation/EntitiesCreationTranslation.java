@@ -6,6 +6,7 @@ import org.opensearch.schema.ontology.EntityType;
 import org.opensearch.schema.ontology.Property;
 
 import java.util.List;
+import java.util.Set;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -17,8 +18,16 @@ import static org.opensearch.graphql.translation.TranslationUtils.populateProper
  */
 public class EntitiesCreationTranslation implements TranslationStrategy {
 
+    /**
+     * the entities properties are resolved by the object types names, their parent types are the interfaces entities
+     */
+    @Override
+    public Set<Class<? extends TranslationStrategy>> dependencies() {
+        return Set.of(ObjectTypeTranslation.class, InterfaceTypeTranslation.class);
+    }
+
     public void translate(GraphQLSchema graphQLSchema, TranslationContext context) {
-        List<EntityType> collect = graphQLSchema.getAllTypesAsList().stream()
+        List<EntityType> collect = context.getTypes(graphQLSchema).stream()
                 .filter(p -> GraphQLObjectType.class.isAssignableFrom(p.getClass()))
                 .filter(p -> getDirective((GraphQLObjectType) p, "autoGen").isEmpty())
                 .filter(p -> !context.getLanguageTypes().contains(p.getName()))
@@ -15,7 +15,7 @@ import java.util.stream.Collectors;
 public class EnumTypeTranslation implements TranslationStrategy{
 
     public void translate(GraphQLSchema graphQLSchema, TranslationContext context) {
-       List<EnumeratedType> collect = graphQLSchema.getAllTypesAsList().stream()
+       List<EnumeratedType> collect = context.getTypes(graphQLSchema).stream()
                 .filter(p -> GraphQLEnumType.class.isAssignableFrom(p.getClass()))
                 .filter(p -> !context.getLanguageTypes().contains(p.getName()))
                 .filter(p -> !p.getName().startsWith("__"))
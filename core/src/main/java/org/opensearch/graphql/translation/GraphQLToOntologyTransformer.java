@@ -14,7 +14,13 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 /**
@@ -48,8 +54,17 @@ import java.util.stream.Collectors;
 
 public class GraphQLToOntologyTransformer implements OntologyTransformerIfc<String, Ontology>, GraphQLSchemaUtils {
     private List<TranslationStrategy> chain;
+    private Executor executor;
 
     public GraphQLToOntologyTransformer() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param executor - runs the independent translation strategies concurrently
+     */
+    public GraphQLToOntologyTransformer(Executor executor) {
+        this.executor = executor;
         chain = List.of(
                 new ObjectTypeTranslation(),
                 new PrimitivesTranslation(),
@@ -109,14 +124,41 @@ public class GraphQLToOntologyTransformer implements OntologyTransformerIfc<Stri
         //validate language type
         validateLanguageType(graphQLSchema, context);
         //run translations strategy chain
-        chain.forEach(element -> element.translate(graphQLSchema, context));
+        translate(graphQLSchema, context);
         //generate the ontology
         return OntologyFinalizer.finalize(context.build());
     }
 
+    /**
+     * run the strategies chain - each strategy starts once the strategies it depends on (and which are part of the chain) completed,
+     * strategies with no dependency between them run concurrently
+     *
+     * @param graphQLSchema
+     * @param context
+     */
+    private void translate(GraphQLSchema graphQLSchema, TranslationStrategy.TranslationContext context) {
+        Map<Class<?>, CompletableFuture<Void>> translations = new LinkedHashMap<>();
+        for (TranslationStrategy strategy : chain) {
+            //a strategy may only depend on strategies preceding it in the chain
+            CompletableFuture<?>[] dependencies = strategy.dependencies().stream()
+                    .filter(translations::containsKey)
+                    .map(translations::get)
+                    .toArray(CompletableFuture[]::new);
+            translations.put(strategy.getClass(), CompletableFuture.allOf(dependencies)
+                    .thenRunAsync(() -> strategy.translate(graphQLSchema, context), executor));
+        }
+        try {
+            CompletableFuture.allOf(translations.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
 
     private void validateLanguageType(GraphQLSchema graphQLSchema, TranslationStrategy.TranslationContext context) {
-        List<GraphQLNamedType> types = graphQLSchema.getAllTypesAsList().stream()
+        List<GraphQLNamedType> types = context.getTypes(graphQLSchema).stream()
                 .filter(p -> context.getLanguageTypes().contains(p.getName())).collect(Collectors.toList());
 
         if (types.size() != context.getLanguageTypes().size())
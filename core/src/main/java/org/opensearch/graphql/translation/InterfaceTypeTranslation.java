@@ -6,6 +6,7 @@ import org.opensearch.schema.ontology.EntityType;
 import org.opensearch.schema.ontology.Property;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.opensearch.graphql.translation.TranslationUtils.populateProperties;
@@ -15,8 +16,16 @@ import static org.opensearch.graphql.translation.TranslationUtils.populateProper
  */
 public class InterfaceTypeTranslation implements TranslationStrategy {
 
+    /**
+     * the interfaces properties are resolved by the object types names
+     */
+    @Override
+    public Set<Class<? extends TranslationStrategy>> dependencies() {
+        return Set.of(ObjectTypeTranslation.class);
+    }
+
     public void translate(GraphQLSchema graphQLSchema, TranslationContext context) {
-        List<EntityType> collect = graphQLSchema.getAllTypesAsList().stream()
+        List<EntityType> collect = context.getTypes(graphQLSchema).stream()
                 .filter(p -> GraphQLInterfaceType.class.isAssignableFrom(p.getClass()))
                 .map(ifc -> createInterface(((GraphQLInterfaceType) ifc), context))
                 .collect(Collectors.toList());
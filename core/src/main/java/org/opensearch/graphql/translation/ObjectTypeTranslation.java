@@ -14,10 +14,10 @@ import java.util.stream.Stream;
 public class ObjectTypeTranslation implements TranslationStrategy{
 
     public void translate(GraphQLSchema graphQLSchema,TranslationStrategy.TranslationContext context) {
-        context.addObjectTypes(Stream.concat(graphQLSchema.getAllTypesAsList().stream()
+        context.addObjectTypes(Stream.concat(context.getTypes(graphQLSchema).stream()
                                 .filter(p -> GraphQLInterfaceType.class.isAssignableFrom(p.getClass()))
                                 .map(GraphQLNamedSchemaElement::getName),
-                        graphQLSchema.getAllTypesAsList().stream()
+                        context.getTypes(graphQLSchema).stream()
                                 .filter(p -> GraphQLObjectType.class.isAssignableFrom(p.getClass()))
                                 .map(GraphQLNamedSchemaElement::getName)
                 )
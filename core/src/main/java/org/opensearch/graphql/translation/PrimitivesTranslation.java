@@ -13,7 +13,7 @@ import java.util.stream.Collectors;
 public class PrimitivesTranslation implements TranslationStrategy{
 
     public void translate(GraphQLSchema graphQLSchema, TranslationContext context) {
-        Set<PrimitiveType> types = graphQLSchema.getAllTypesAsList().stream()
+        Set<PrimitiveType> types = context.getTypes(graphQLSchema).stream()
                 .filter(p -> GraphQLScalarType.class.isAssignableFrom(p.getClass()))
                 .filter(p -> !PrimitiveType.Types.contains(p.getName().toUpperCase()))
                 .map(p -> createPrimitive((GraphQLScalarType) p))
@@ -14,6 +14,14 @@ import java.util.stream.Stream;
  */
 public class PropertiesTranslation implements TranslationStrategy{
 
+    /**
+     * the properties are collected while creating the interfaces & entities
+     */
+    @Override
+    public Set<Class<? extends TranslationStrategy>> dependencies() {
+        return Set.of(InterfaceTypeTranslation.class, EntitiesCreationTranslation.class);
+    }
+
     public void translate(GraphQLSchema graphQLSchema, TranslationContext context) {
         context.getBuilder().withProperties(new HashSet<>(context.getProperties()));
     }
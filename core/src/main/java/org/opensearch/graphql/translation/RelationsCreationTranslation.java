@@ -24,8 +24,16 @@ import static org.opensearch.schema.ontology.DirectiveEnumTypes.RELATION;
 public class RelationsCreationTranslation implements TranslationStrategy {
     public static final String HAS = "has_";
 
+    /**
+     * the relations sides are the created entities
+     */
+    @Override
+    public Set<Class<? extends TranslationStrategy>> dependencies() {
+        return Set.of(ObjectTypeTranslation.class, EntitiesCreationTranslation.class);
+    }
+
     public void translate(GraphQLSchema graphQLSchema, TranslationStrategy.TranslationContext context) {
-        Map<String, List<RelationshipType>> collect = graphQLSchema.getAllTypesAsList().stream()
+        Map<String, List<RelationshipType>> collect = context.getTypes(graphQLSchema).stream()
                 .filter(p -> GraphQLObjectType.class.isAssignableFrom(p.getClass()))
                 .filter(p -> getDirective((GraphQLObjectType) p, "autoGen").isEmpty())
                 .filter(p -> !context.getLanguageTypes().contains(p.getName()))
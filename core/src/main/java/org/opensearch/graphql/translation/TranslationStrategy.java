@@ -1,13 +1,15 @@
 package org.opensearch.graphql.translation;
 
+import graphql.schema.GraphQLNamedType;
 import graphql.schema.GraphQLSchema;
 import org.opensearch.schema.ontology.Ontology;
 import org.opensearch.schema.ontology.Property;
 
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.opensearch.graphql.GraphQLSchemaUtils.QUERY;
 
@@ -26,24 +28,57 @@ public interface TranslationStrategy {
      */
     void translate(GraphQLSchema graphQLSchema, TranslationStrategy.TranslationContext context);
 
+    /**
+     * the strategies whose translation must complete before this strategy runs - strategies with no dependency between them
+     * may run concurrently over the same context
+     *
+     * @return
+     */
+    default Set<Class<? extends TranslationStrategy>> dependencies() {
+        return Collections.emptySet();
+    }
+
     /**
      * A context for graphQL to Ontology translation session
+     * <br>
+     * The context is shared by concurrently running strategies - its collections are concurrent and the schema types list is
+     * computed once for all the strategies. Concurrent strategies populate disjoint parts of the ontology builder
      */
     class TranslationContext {
         private Ontology.OntologyBuilder builder;
         private Set<String> objectTypes;
         private Set<Property> properties;
+        private volatile List<GraphQLNamedType> types;
 
-        private Set<String> languageTypes = new HashSet<>();
+        private Set<String> languageTypes = ConcurrentHashMap.newKeySet();
 
         public TranslationContext(String ontologyName) {
-            objectTypes = new HashSet<>();
-            properties = new HashSet<>();
+            objectTypes = ConcurrentHashMap.newKeySet();
+            properties = ConcurrentHashMap.newKeySet();
             languageTypes.addAll(Arrays.asList(QUERY));
             builder = Ontology.OntologyBuilder.anOntology(ontologyName);
 
         }
 
+        /**
+         * the schema's types (sorted by name) - scanned once and shared by all the strategies of the session
+         *
+         * @param graphQLSchema
+         * @return
+         */
+        public List<GraphQLNamedType> getTypes(GraphQLSchema graphQLSchema) {
+            List<GraphQLNamedType> current = types;
+            if (current == null) {
+                synchronized (this) {
+                    current = types;
+                    if (current == null) {
+                        types = current = graphQLSchema.getAllTypesAsList();
+                    }
+                }
+            }
+            return current;
+        }
+
         public void addObjectTypes(List<String> types) {
             objectTypes.addAll(types);
         }
@@ -3,6 +3,8 @@ package org.opensearch.graphql.wiring;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+import java.util.Map;
+
 @JsonInclude(JsonInclude.Include.NON_EMPTY)
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class InputTypeConstraint {
@@ -34,4 +36,27 @@ public class InputTypeConstraint {
     public String getExpression() {
         return expression;
     }
+
+    /**
+     * convert the (already coerced) GQL constraint input value into the constraint - scalar values are kept as their string form
+     *
+     * @param argument map of the input type fields
+     * @return
+     */
+    public static InputTypeConstraint of(Map<?, ?> argument) {
+        return new InputTypeConstraint(asString(argument.get("operand")), asString(argument.get("operator")), asString(argument.get("expression")));
+    }
+
+    private static String asString(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "InputTypeConstraint{" +
+                "operand='" + operand + '\'' +
+                ", operator='" + operator + '\'' +
+                ", expression='" + expression + '\'' +
+                '}';
+    }
 }
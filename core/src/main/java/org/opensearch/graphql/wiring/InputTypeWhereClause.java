@@ -4,7 +4,10 @@ package org.opensearch.graphql.wiring;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @JsonInclude(JsonInclude.Include.NON_EMPTY)
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -28,6 +31,31 @@ public class InputTypeWhereClause {
         return constraints;
     }
 
+    /**
+     * convert the (already coerced) GQL where argument value into the where clause - the same clause the JSON mapping of the
+     * argument gives (operator by name, scalar expressions as strings, unknown fields ignored)
+     *
+     * @param argument the where argument value - map of the input type fields
+     * @return
+     */
+    public static InputTypeWhereClause of(Map<?, ?> argument) {
+        Object operator = argument.get("operator");
+        Object constraints = argument.get("constraints");
+        if (constraints != null && !(constraints instanceof List))
+            throw new IllegalArgumentException("Where clause constraints must be a list, found " + constraints);
+        return new InputTypeWhereClause(
+                operator == null || operator instanceof WhereOperator ? (WhereOperator) operator : WhereOperator.valueOf(operator.toString()),
+                constraints == null ? Collections.emptyList() : ((List<?>) constraints).stream()
+                        .map(InputTypeWhereClause::constraint)
+                        .collect(Collectors.toList()));
+    }
+
+    private static InputTypeConstraint constraint(Object constraint) {
+        if (!(constraint instanceof Map))
+            throw new IllegalArgumentException("Where clause constraint must be an input object, found " + constraint);
+        return InputTypeConstraint.of((Map<?, ?>) constraint);
+    }
+
     public enum WhereOperator {
         AND,
         OR
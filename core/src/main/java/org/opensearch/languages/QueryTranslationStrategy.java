@@ -5,7 +5,9 @@ import graphql.schema.GraphQLSchema;
 import graphql.schema.GraphQLType;
 import org.opensearch.schema.ontology.Accessor;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -14,21 +16,29 @@ import java.util.Optional;
  * <br>
  * An interface for the translation of a specific section in the query
  * <br>
- * A context for graphQL to Ontology Query translation session
+ * A context for graphQL to Ontology Query translation session - the context is created per translation request and handed
+ * to the (shared) compiled GQL engine within the execution's GraphQL context, under {@link QueryTranslatorContext#KEY}
  */
 public interface QueryTranslationStrategy<T extends QueryBuilder > {
 
     Optional<Object> translate(QueryTranslatorContext<T> context, GraphQLType fieldType) ;
 
     class QueryTranslatorContext<T extends QueryBuilder> {
+        /**
+         * the key of the translation context within the execution's GraphQL context
+         */
+        public static final Object KEY = QueryTranslatorContext.class;
+
         private GraphQLSchema schema;
         private T builder;
         private DataFetchingEnvironment env;
         private Accessor accessor;
         private Map<String, Integer> pathContext;
+        private List<QueryTranslationStrategy<T>> strategies;
 
 
-        public QueryTranslatorContext(Accessor accessor, T builder,GraphQLSchema schema, DataFetchingEnvironment env) {
+        public QueryTranslatorContext(List<QueryTranslationStrategy<T>> strategies, Accessor accessor, T builder, GraphQLSchema schema, DataFetchingEnvironment env) {
+            this.strategies = strategies;
             this.accessor = accessor;
             this.builder = builder;
             this.schema = schema;
@@ -36,10 +46,22 @@ public interface QueryTranslationStrategy<T extends QueryBuilder > {
             this.pathContext = new HashMap<>();
         }
 
+        public QueryTranslatorContext(Accessor accessor, T builder,GraphQLSchema schema, DataFetchingEnvironment env) {
+            this(Collections.emptyList(), accessor, builder, schema, env);
+        }
+
+        public QueryTranslatorContext(List<QueryTranslationStrategy<T>> strategies, Accessor accessor, T builder, GraphQLSchema schema) {
+            this(strategies, accessor, builder, schema, null);
+        }
+
         public QueryTranslatorContext(Accessor accessor, T builder, GraphQLSchema schema) {
             this(accessor,builder,schema,null);
         }
 
+        public List<QueryTranslationStrategy<T>> getStrategies() {
+            return strategies;
+        }
+
         public GraphQLSchema getSchema() {
             return schema;
         }
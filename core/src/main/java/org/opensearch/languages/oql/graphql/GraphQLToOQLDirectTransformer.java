@@ -0,0 +1,286 @@
+package org.opensearch.languages.oql.graphql;
+
+
+import graphql.ExceptionWhileDataFetching;
+import graphql.ExecutionInput;
+import graphql.GraphQLContext;
+import graphql.GraphQLError;
+import graphql.GraphQLException;
+import graphql.ParseAndValidate;
+import graphql.ParseAndValidateResult;
+import graphql.TypeMismatchError;
+import graphql.execution.DefaultValueUnboxer;
+import graphql.execution.ExecutionStepInfo;
+import graphql.execution.FieldCollector;
+import graphql.execution.FieldCollectorParameters;
+import graphql.execution.MergedField;
+import graphql.execution.MergedSelectionSet;
+import graphql.execution.ResultPath;
+import graphql.execution.ValuesResolver;
+import graphql.language.Document;
+import graphql.language.FragmentDefinition;
+import graphql.language.NodeUtil;
+import graphql.language.OperationDefinition;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLInterfaceType;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLOutputType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLUnionType;
+import org.opensearch.graphql.GraphQLEngineFactory;
+import org.opensearch.graphql.GraphQLEngineRegistry;
+import org.opensearch.graphql.Transformer;
+import org.opensearch.languages.QueryTranslationStrategy;
+import org.opensearch.languages.QueryTranslationStrategy.QueryTranslatorContext;
+import org.opensearch.languages.oql.graphql.wiring.OQLTraversalWiringFactory;
+import org.opensearch.languages.oql.query.Query;
+import org.opensearch.schema.SchemaError;
+import org.opensearch.schema.ontology.Accessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static graphql.schema.DataFetchingEnvironmentImpl.newDataFetchingEnvironment;
+import static org.opensearch.languages.oql.graphql.GraphQLToOQLTransformer.LANGUAGE;
+
+/**
+ * This component transforms a GQL text query into an OQL query without executing the GQL engine
+ * <br>
+ * The query document is parsed & validated against the (compiled) GQL schema and its selection sets are walked directly in
+ * the engine's execution order - each field is handed to the translation strategies with the same data fetching environment
+ * (execution step info, field & coerced arguments) the engine would have given, so the translated query is identical to the one
+ * of the {@link GraphQLToOQLTransformer}.
+ * <br>
+ * The strategies are given no selection set ({@link DataFetchingEnvironment#getSelectionSet()}) - the OQL strategies do not use it
+ */
+public class GraphQLToOQLDirectTransformer implements Transformer<Query> {
+    private static final ValuesResolver valuesResolver = new ValuesResolver();
+    private static final FieldCollector fieldCollector = new FieldCollector();
+
+    /**
+     * compiled GQL schema provider - the schema of the compiled engine of each ontology
+     */
+    private final Function<Accessor, GraphQLSchema> schemas;
+
+    /**
+     * transformer compiling its schemas from the {@link GraphQLEngineFactory} registered types
+     */
+    public GraphQLToOQLDirectTransformer() {
+        Map<Accessor, GraphQLSchema> compiled = new ConcurrentHashMap<>();
+        this.schemas = accessor -> compiled.computeIfAbsent(accessor, a -> GraphQLEngineFactory.compileEngine(new OQLTraversalWiringFactory()).getGraphQLSchema());
+    }
+
+    /**
+     * transformer using the engines of the accessor's domain (by the ontology name) in the given registry
+     *
+     * @param registry
+     */
+    public GraphQLToOQLDirectTransformer(GraphQLEngineRegistry registry) {
+        this.schemas = accessor -> registry.domain(accessor.name()).engine(LANGUAGE, OQLTraversalWiringFactory::new).getGraphQLSchema();
+    }
+
+    @Override
+    public Query transform(Accessor accessor, String query) {
+        return transform(GraphQLToOQLTransformer.strategies(), accessor, query, Collections.emptyMap());
+    }
+
+    public Query transform(List<QueryTranslationStrategy<Query.Builder>> translationStrategies, Accessor accessor, String query) {
+        return transform(translationStrategies, accessor, query, Collections.emptyMap());
+    }
+
+    /**
+     * translates graphQL textual query with the given variables into a OQL ( Ontological Query Language) query
+     *
+     * @param translationStrategies
+     * @param accessor
+     * @param query
+     * @param variables
+     * @return
+     */
+    public Query transform(List<QueryTranslationStrategy<Query.Builder>> translationStrategies, Accessor accessor, String query, Map<String, Object> variables) {
+        GraphQLSchema schema = schemas.apply(accessor);
+        ParseAndValidateResult parsed = ParseAndValidate.parseAndValidate(schema, ExecutionInput.newExecutionInput()
+                .query(query)
+                .variables(variables)
+                .build());
+        if (parsed.isFailure())
+            throw error(parsed.getErrors().stream().map(GraphQLError::getMessage).collect(Collectors.toList()));
+
+        Query.Builder instance = Query.Builder.instance();
+        QueryTranslatorContext<Query.Builder> context = new QueryTranslatorContext<>(translationStrategies, accessor, instance, schema);
+        Traversal traversal;
+        try {
+            traversal = new Traversal(schema, context, parsed.getDocument(), variables);
+        } catch (GraphQLException e) {
+            //unknown operation or variables coercion errors
+            throw error(Collections.singletonList(e.getMessage()));
+        }
+        traversal.run();
+        if (traversal.errors.isEmpty())
+            return instance.build();
+        throw error(traversal.errors);
+    }
+
+    private static SchemaError.SchemaErrorException error(List<String> errors) {
+        // throw error over failed query parsing
+        return new SchemaError.SchemaErrorException("Error Transforming the GQL text query into a OQL query", errors);
+    }
+
+    /**
+     * a single query document walk - visits the operation's fields in the engine's (depth first) execution order
+     */
+    private static class Traversal {
+        private final GraphQLSchema schema;
+        private final QueryTranslatorContext<Query.Builder> context;
+        private final GraphQLContext graphQLContext;
+        private final Document document;
+        private final OperationDefinition operation;
+        private final Map<String, FragmentDefinition> fragments;
+        private final Map<String, Object> variables;
+        private final List<String> errors = new ArrayList<>();
+
+        private Traversal(GraphQLSchema schema, QueryTranslatorContext<Query.Builder> context, Document document, Map<String, Object> variables) {
+            NodeUtil.GetOperationResult operation = NodeUtil.getOperation(document, null);
+            this.schema = schema;
+            this.context = context;
+            this.graphQLContext = GraphQLContext.of(Map.of(QueryTranslatorContext.KEY, context));
+            this.document = document;
+            this.operation = operation.operationDefinition;
+            this.fragments = operation.fragmentsByName;
+            this.variables = valuesResolver.coerceVariableValues(schema, this.operation.getVariableDefinitions(), variables);
+        }
+
+        private void run() {
+            GraphQLObjectType rootType = rootType();
+            ExecutionStepInfo root = ExecutionStepInfo.newExecutionStepInfo()
+                    .type(rootType)
+                    .path(ResultPath.rootPath())
+                    .build();
+            MergedSelectionSet fields = fieldCollector.collectFields(parameters(rootType), operation.getSelectionSet());
+            for (Map.Entry<String, MergedField> field : fields.getSubFields().entrySet()) {
+                field(root, rootType, field.getKey(), field.getValue());
+            }
+        }
+
+        private GraphQLObjectType rootType() {
+            switch (operation.getOperation()) {
+                case MUTATION:
+                    return schema.getMutationType();
+                case SUBSCRIPTION:
+                    return schema.getSubscriptionType();
+                default:
+                    return schema.getQueryType();
+            }
+        }
+
+        private FieldCollectorParameters parameters(GraphQLObjectType objectType) {
+            return FieldCollectorParameters.newParameters()
+                    .schema(schema)
+                    .objectType(objectType)
+                    .fragments(fragments)
+                    .variables(variables)
+                    .build();
+        }
+
+        /**
+         * translate a single field - the same as the engine's data fetcher of the field
+         */
+        private void field(ExecutionStepInfo parent, GraphQLObjectType parentType, String resultKey, MergedField field) {
+            //introspection fields are resolved by the engine itself and are never translated
+            if (field.getName().startsWith("__"))
+                return;
+
+            GraphQLFieldDefinition definition = parentType.getFieldDefinition(field.getName());
+            ResultPath path = parent.getPath().segment(resultKey);
+            Map<String, Object> arguments = valuesResolver.getArgumentValues(schema.getCodeRegistry(), definition.getArguments(), field.getArguments(), variables);
+            ExecutionStepInfo info = ExecutionStepInfo.newExecutionStepInfo()
+                    .type(definition.getType())
+                    .fieldDefinition(definition)
+                    .fieldContainer(parentType)
+                    .field(field)
+                    .path(path)
+                    .parentInfo(parent)
+                    .arguments(() -> arguments)
+                    .build();
+            DataFetchingEnvironment env = newDataFetchingEnvironment()
+                    .graphQLContext(graphQLContext)
+                    .arguments(arguments)
+                    .fieldDefinition(definition)
+                    .mergedField(field)
+                    .fieldType(definition.getType())
+                    .parentType(parentType)
+                    .graphQLSchema(schema)
+                    .fragmentsByName(fragments)
+                    .executionStepInfo(info)
+                    .operationDefinition(operation)
+                    .document(document)
+                    .variables(variables)
+                    .build();
+
+            Object value;
+            try {
+                context.setEnv(env);
+                GraphQLType fieldType = definition.getType();
+                if (fieldType instanceof GraphQLList) {
+                    value = Collections.singletonList(OQLTraversalWiringFactory.translate(context, ((GraphQLList) fieldType).getWrappedType()));
+                } else {
+                    value = OQLTraversalWiringFactory.translate(context, fieldType);
+                }
+            } catch (RuntimeException e) {
+                errors.add(new ExceptionWhileDataFetching(path, e, field.getSingleField().getSourceLocation()).getMessage());
+                return;
+            }
+            complete(info, value);
+        }
+
+        /**
+         * walk into the field's value - list elements & the (resolved) object's fields
+         */
+        private void complete(ExecutionStepInfo info, Object value) {
+            value = DefaultValueUnboxer.unboxValue(value);
+            if (value == null)
+                return;
+
+            GraphQLOutputType type = info.getUnwrappedNonNullType();
+            if (type instanceof GraphQLList) {
+                if (!(value instanceof Iterable)) {
+                    errors.add(new TypeMismatchError(info.getPath(), type).getMessage());
+                    return;
+                }
+                GraphQLOutputType elementType = (GraphQLOutputType) ((GraphQLList) type).getWrappedType();
+                int index = 0;
+                for (Object element : (Iterable<?>) value) {
+                    ResultPath elementPath = info.getPath().segment(index++);
+                    complete(info.transform(builder -> builder.parentInfo(info).type(elementType).path(elementPath)), element);
+                }
+            } else if (type instanceof GraphQLObjectType || type instanceof GraphQLInterfaceType || type instanceof GraphQLUnionType) {
+                GraphQLObjectType objectType = resolveType(type);
+                ExecutionStepInfo object = info.changeTypeWithPreservedNonNull(objectType);
+                MergedSelectionSet fields = fieldCollector.collectFields(parameters(objectType), info.getField());
+                for (Map.Entry<String, MergedField> field : fields.getSubFields().entrySet()) {
+                    field(object, objectType, field.getKey(), field.getValue());
+                }
+            }
+            //scalars & enums have no inner fields
+        }
+
+        /**
+         * the same type resolution as the {@link OQLTraversalWiringFactory} type resolvers
+         */
+        private GraphQLObjectType resolveType(GraphQLOutputType type) {
+            if (type instanceof GraphQLInterfaceType)
+                return schema.getImplementations((GraphQLInterfaceType) type).get(0);
+            if (type instanceof GraphQLUnionType)
+                return schema.getQueryType();
+            return (GraphQLObjectType) type;
+        }
+    }
+}
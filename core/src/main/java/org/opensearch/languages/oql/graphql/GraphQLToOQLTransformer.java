@@ -1,20 +1,49 @@
 package org.opensearch.languages.oql.graphql;
 
 
+import graphql.ExecutionInput;
 import graphql.ExecutionResult;
+import graphql.GraphQL;
 import graphql.GraphQLError;
+import graphql.Scalars;
+import graphql.language.Document;
+import graphql.language.ListType;
+import graphql.language.NonNullType;
+import graphql.language.OperationDefinition;
+import graphql.language.Type;
+import graphql.language.TypeName;
+import graphql.parser.InvalidSyntaxException;
+import graphql.parser.Parser;
+import graphql.scalars.ExtendedScalars;
+import graphql.schema.GraphQLEnumType;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
 import org.opensearch.graphql.GraphQLEngineFactory;
+import org.opensearch.graphql.GraphQLEngineRegistry;
 import org.opensearch.graphql.Transformer;
 import org.opensearch.languages.QueryTranslationStrategy;
-import org.opensearch.languages.oql.graphql.wiring.*;
+import org.opensearch.languages.QueryTranslationStrategy.QueryTranslatorContext;
+import org.opensearch.languages.oql.graphql.wiring.OQLTraversalWiringFactory;
 import org.opensearch.languages.oql.graphql.wiring.strategies.EntityWithPredicateTranslation;
 import org.opensearch.languages.oql.graphql.wiring.strategies.InterfaceTranslation;
 import org.opensearch.languages.oql.graphql.wiring.strategies.ValuesTranslation;
+import org.opensearch.languages.oql.query.ParameterizedQuery;
 import org.opensearch.languages.oql.query.Query;
 import org.opensearch.schema.SchemaError;
 import org.opensearch.schema.ontology.Accessor;
 
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -22,6 +51,30 @@ import java.util.stream.Collectors;
  * will transform this GQL query into a valid OQL -  Ontological Query Language
  */
 public class GraphQLToOQLTransformer implements Transformer<Query> {
+    public static final String LANGUAGE = "oql";
+    /**
+     * compiled GQL engines provider - one engine per ontology, compiled once on the first translation and reused afterwards.
+     * The engines are immutable and the translation state is per request, so translations run concurrently without locking
+     */
+    private final Function<Accessor, GraphQL> engines;
+
+    /**
+     * transformer compiling its engine from the {@link GraphQLEngineFactory} registered types - the engine does not depend on the
+     * accessor and is recompiled once the registered types change
+     */
+    public GraphQLToOQLTransformer() {
+        Supplier<GraphQL> engine = GraphQLEngineFactory.compiledEngine(OQLTraversalWiringFactory::new);
+        this.engines = accessor -> engine.get();
+    }
+
+    /**
+     * transformer using the engines of the accessor's domain (by the ontology name) in the given registry
+     *
+     * @param registry
+     */
+    public GraphQLToOQLTransformer(GraphQLEngineRegistry registry) {
+        this.engines = accessor -> registry.domain(accessor.name()).engine(LANGUAGE, OQLTraversalWiringFactory::new);
+    }
 
     /**
      * translates graphQL textual query into a OQL ( Ontological Query Language) query
@@ -30,13 +83,38 @@ public class GraphQLToOQLTransformer implements Transformer<Query> {
      * @param query
      * @return
      */
-    public synchronized Query transform(List<QueryTranslationStrategy<Query.Builder>> translationStrategies, Accessor accessor, String query) {
+    public Query transform(List<QueryTranslationStrategy<Query.Builder>> translationStrategies, Accessor accessor, String query) {
+        return translate(translationStrategies, accessor, query, schema -> Collections.emptyMap());
+    }
+
+    /**
+     * translates graphQL textual query with variables into a parameterized OQL query (template) - each where clause constraint
+     * whose expression is a query variable ($name) becomes a named parameter.
+     * The template is translated once and bound per execution using {@link ParameterizedQuery#bind(Map)} without running the GQL engine again
+     *
+     * @param translationStrategies
+     * @param accessor
+     * @param query
+     * @return
+     */
+    public ParameterizedQuery template(List<QueryTranslationStrategy<Query.Builder>> translationStrategies, Accessor accessor, String query) {
+        return ParameterizedQuery.of(translate(translationStrategies, accessor, query, schema -> placeholders(query, schema)));
+    }
+
+    public ParameterizedQuery template(Accessor accessor, String query) {
+        return template(strategies(), accessor, query);
+    }
+
+    private Query translate(List<QueryTranslationStrategy<Query.Builder>> translationStrategies, Accessor accessor, String query,
+                            Function<GraphQLSchema, Map<String, Object>> variables) {
         Query.Builder instance = Query.Builder.instance();
-        OQLTraversalWiringFactory factory = new OQLTraversalWiringFactory(translationStrategies, accessor, instance);
-        ExecutionResult execute = GraphQLEngineFactory
-                .generateEngine(
-                        GraphQLEngineFactory.generateSchema(factory)
-                ).execute(query);
+        GraphQL engine = engines.apply(accessor);
+        QueryTranslatorContext<Query.Builder> context = new QueryTranslatorContext<>(translationStrategies, accessor, instance, engine.getGraphQLSchema());
+        ExecutionResult execute = engine.execute(ExecutionInput.newExecutionInput()
+                .query(query)
+                .variables(variables.apply(engine.getGraphQLSchema()))
+                .graphQLContext(Map.of(QueryTranslatorContext.KEY, context))
+                .build());
         if (execute.getErrors().isEmpty())
             return instance.build();
         // throw error over failed query parsing
@@ -44,12 +122,78 @@ public class GraphQLToOQLTransformer implements Transformer<Query> {
                 execute.getErrors().stream().map(GraphQLError::getMessage).collect(Collectors.toList()));
     }
 
-    public synchronized Query transform(Accessor accessor, String query) {
-        List<QueryTranslationStrategy<Query.Builder>> translationStrategies = List.of(
+    public Query transform(Accessor accessor, String query) {
+        return transform(strategies(), accessor, query);
+    }
+
+    static List<QueryTranslationStrategy<Query.Builder>> strategies() {
+        return List.of(
                 new EntityWithPredicateTranslation(),
                 new InterfaceTranslation(),
                 new ValuesTranslation());
-        return transform(translationStrategies, accessor, query);
     }
 
+    /**
+     * the template variables have no values while translating - each variable is given a placeholder value of its declared type
+     * so that non-null variables are accepted by the engine: the textual variables are given their own name ($name), other scalars
+     * a neutral value of their type, enums their first value and lists an empty list. Input object variables are left unset
+     *
+     * @param query
+     * @param schema
+     * @return
+     */
+    private static Map<String, Object> placeholders(String query, GraphQLSchema schema) {
+        Document document;
+        try {
+            document = new Parser().parseDocument(query);
+        } catch (InvalidSyntaxException e) {
+            //the syntax error is reported by the engine
+            return Collections.emptyMap();
+        }
+        Map<String, Object> placeholders = new HashMap<>();
+        document.getDefinitionsOfType(OperationDefinition.class).stream()
+                .flatMap(operation -> operation.getVariableDefinitions().stream())
+                .forEach(variable -> {
+                    Object placeholder = placeholder(variable.getName(), variable.getType(), schema);
+                    if (placeholder != null)
+                        placeholders.put(variable.getName(), placeholder);
+                });
+        return placeholders;
+    }
+
+    private static Object placeholder(String name, Type<?> type, GraphQLSchema schema) {
+        if (type instanceof NonNullType)
+            return placeholder(name, ((NonNullType) type).getType(), schema);
+        if (type instanceof ListType)
+            return Collections.emptyList();
+        if (!(type instanceof TypeName))
+            return null;
+
+        //an unknown type is reported by the engine
+        GraphQLType namedType = schema.getType(((TypeName) type).getName());
+        if (namedType instanceof GraphQLEnumType)
+            return ((GraphQLEnumType) namedType).getValues().get(0).getName();
+        if (!(namedType instanceof GraphQLScalarType))
+            return null;
+
+        String scalar = ((GraphQLScalarType) namedType).getName();
+        if (scalar.equals(Scalars.GraphQLInt.getName())) {
+            return 0;
+        } else if (scalar.equals(Scalars.GraphQLFloat.getName())) {
+            return 0.0;
+        } else if (scalar.equals(Scalars.GraphQLBoolean.getName())) {
+            return false;
+        } else if (scalar.equals(ExtendedScalars.GraphQLLong.getName())) {
+            return 0L;
+        } else if (scalar.equals(ExtendedScalars.DateTime.getName())) {
+            return OffsetDateTime.ofInstant(Instant.EPOCH, ZoneOffset.UTC);
+        } else if (scalar.equals(ExtendedScalars.Time.getName())) {
+            return OffsetTime.of(LocalTime.MIDNIGHT, ZoneOffset.UTC);
+        } else if (scalar.equals(ExtendedScalars.Url.getName())) {
+            return "https://opensearch.org/";
+        } else {
+            //String, ID and the string based scalars
+            return "$" + name;
+        }
+    }
 }
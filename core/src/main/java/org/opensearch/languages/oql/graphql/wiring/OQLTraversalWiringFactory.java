@@ -7,34 +7,21 @@ import graphql.schema.idl.FieldWiringEnvironment;
 import graphql.schema.idl.InterfaceWiringEnvironment;
 import graphql.schema.idl.UnionWiringEnvironment;
 import graphql.schema.idl.WiringFactory;
-import org.opensearch.graphql.GraphQLEngineFactory;
 import org.opensearch.languages.QueryTranslationStrategy;
 import org.opensearch.languages.oql.graphql.wiring.strategies.QuantifierTranslation;
 import org.opensearch.languages.oql.query.Query;
-import org.opensearch.schema.SchemaError;
-import org.opensearch.schema.ontology.Accessor;
 
 import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 
 /**
  * GraphQL callback factory for generating a query based on the GraphQL visitor - this factory specifically generates an Ontology Query Language
+ * <br>
+ * The factory is stateless and is wired once into the compiled GQL engine, the translation session state is taken from the
+ * {@link QueryTranslationStrategy.QueryTranslatorContext} given as the execution input context of each query
  */
 @Internal
 public class OQLTraversalWiringFactory implements WiringFactory {
-    private GraphQLSchema schema;
-
-    private QueryTranslationStrategy.QueryTranslatorContext<Query.Builder> context;
-    private List<QueryTranslationStrategy<Query.Builder>> strategies;
-
-    public OQLTraversalWiringFactory(List<QueryTranslationStrategy<Query.Builder>> strategies, Accessor accessor, Query.Builder builder) {
-        this.strategies = strategies;
-        this.schema = GraphQLEngineFactory.schema()
-                .orElseThrow(() -> new SchemaError.SchemaErrorException("GraphQL schema not present", "Expecting the GraphQL schema to be created during this stage"));
-        this.context = new QueryTranslationStrategy.QueryTranslatorContext<>(accessor,builder,schema);
-    }
-
 
     @Override
     public boolean providesTypeResolver(InterfaceWiringEnvironment environment) {
@@ -43,7 +30,7 @@ public class OQLTraversalWiringFactory implements WiringFactory {
 
     @Override
     public TypeResolver getTypeResolver(InterfaceWiringEnvironment environment) {
-        return env -> schema.getImplementations((GraphQLInterfaceType) env.getFieldType()).get(0);
+        return env -> env.getSchema().getImplementations((GraphQLInterfaceType) env.getFieldType()).get(0);
     }
 
     @Override
@@ -61,19 +48,27 @@ public class OQLTraversalWiringFactory implements WiringFactory {
         return env -> {
             GraphQLType fieldType = env.getFieldType();
             //populate environment
+            QueryTranslationStrategy.QueryTranslatorContext<Query.Builder> context = env.getGraphQlContext().get(QueryTranslationStrategy.QueryTranslatorContext.KEY);
             context.setEnv(env);
             if (fieldType instanceof GraphQLList) {
-                return Arrays.asList(getObject(context, ((GraphQLList) fieldType).getWrappedType()));
+                return Arrays.asList(translate(context, ((GraphQLList) fieldType).getWrappedType()));
             } else {
-                return getObject(context, fieldType);
+                return translate(context, fieldType);
             }
         };
     }
 
-    private Object getObject(QueryTranslationStrategy.QueryTranslatorContext context, GraphQLType fieldType)  {
+    /**
+     * translate the field of the context's current environment using the context strategies
+     *
+     * @param context
+     * @param fieldType
+     * @return the (optional) mock value of the field
+     */
+    public static Optional<Object> translate(QueryTranslationStrategy.QueryTranslatorContext<Query.Builder> context, GraphQLType fieldType)  {
         // in parent is of type vertex and current query element not quant -> add quant
         new QuantifierTranslation().translate(context,fieldType);
-        return strategies.stream()
+        return context.getStrategies().stream()
                 .map(strategy->strategy.translate(context,fieldType))
                 .filter(Optional::isPresent)
                 .map(Optional::get)
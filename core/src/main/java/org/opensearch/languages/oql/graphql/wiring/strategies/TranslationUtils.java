@@ -1,6 +1,12 @@
 package org.opensearch.languages.oql.graphql.wiring.strategies;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.language.Argument;
+import graphql.language.ArrayValue;
+import graphql.language.Field;
+import graphql.language.ObjectField;
+import graphql.language.ObjectValue;
+import graphql.language.Value;
+import graphql.language.VariableReference;
 import graphql.schema.*;
 import javaslang.Tuple2;
 import org.opensearch.graphql.wiring.InputTypeConstraint;
@@ -11,6 +17,8 @@ import org.opensearch.languages.oql.query.Query;
 import org.opensearch.languages.oql.query.Rel;
 import org.opensearch.languages.oql.query.properties.constraint.Constraint;
 import org.opensearch.languages.oql.query.properties.constraint.ConstraintOp;
+import org.opensearch.languages.oql.query.properties.constraint.NamedParameter;
+import org.opensearch.languages.oql.query.properties.constraint.ParameterizedConstraint;
 import org.opensearch.languages.oql.query.quant.QuantBase;
 import org.opensearch.languages.oql.query.quant.QuantType;
 import org.opensearch.schema.ontology.EntityType;
@@ -18,14 +26,20 @@ import org.opensearch.schema.ontology.Property;
 import org.opensearch.schema.ontology.RelationshipType;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class TranslationUtils {
     public static final String WHERE = "where";
     public static final String QUERY = "query";
-    public static final ObjectMapper mapper = new ObjectMapper();
+    public static final String CONSTRAINTS = "constraints";
+    public static final String EXPRESSION = "expression";
 
     /**
      * get concrete friend type
@@ -119,9 +133,9 @@ public class TranslationUtils {
      */
     public static void addWhereClause(QueryTranslatorContext<Query.Builder> context, Optional<EntityType> realType) throws Throwable {
         //arguments
-        if (realType.isPresent() && context.getEnv().getArguments().containsKey(WHERE)) {
-            Object argument = context.getEnv().getArguments().get(WHERE);
-            InputTypeWhereClause whereClause = mapper.readValue(mapper.writeValueAsString(argument), InputTypeWhereClause.class);
+        if (realType.isPresent() && context.getEnv().getArgument(WHERE) != null) {
+            Map<String, Object> argument = context.getEnv().getArgument(WHERE);
+            InputTypeWhereClause whereClause = InputTypeWhereClause.of(argument);
             //verify fields exist within entity type
             List<InputTypeConstraint> nonFoundFields = whereClause.getConstraints().stream()
                     .filter(c -> !realType.get().containsProperty(c.getOperand()))
@@ -130,10 +144,11 @@ public class TranslationUtils {
             if (!nonFoundFields.isEmpty())
                 throw new IllegalArgumentException("Fields " + nonFoundFields + " are not a part of the queried entity " + realType.get().getName());
 
-            //build the where clause query
-            List<Tuple2<String, Optional<Constraint>>> constraints = whereClause.getConstraints().stream()
-                    .map(c -> new Tuple2<>(c.getOperand(),
-                            Optional.of(new Constraint(ConstraintOp.valueOf(c.getOperator()), c.getExpression()))))
+            //build the where clause query - expressions given as query variables become named parameters
+            Map<Integer, String> variables = whereClauseVariables(context.getEnv().getField(), whereClause.getConstraints().size());
+            List<Tuple2<String, Optional<Constraint>>> constraints = IntStream.range(0, whereClause.getConstraints().size())
+                    .mapToObj(i -> new Tuple2<>(whereClause.getConstraints().get(i).getOperand(),
+                            Optional.of(asConstraint(whereClause.getConstraints().get(i), variables.get(i)))))
                     .collect(Collectors.toList());
 
 
@@ -149,6 +164,62 @@ public class TranslationUtils {
     }
 
 
+    /**
+     * translate the where clause constraint into the Ontology Query constraint, a constraint over a query variable
+     * is translated into a parameterized constraint which is bound to its value per query execution
+     *
+     * @param constraint
+     * @param variable   the name of the variable given as the constraint's expression (null for a literal expression)
+     * @return
+     */
+    public static Constraint asConstraint(InputTypeConstraint constraint, String variable) {
+        if (variable != null)
+            return new ParameterizedConstraint(ConstraintOp.valueOf(constraint.getOperator()), null, new NamedParameter(variable));
+        return new Constraint(ConstraintOp.valueOf(constraint.getOperator()), constraint.getExpression());
+    }
+
+    /**
+     * find the where clause constraints whose expression is a query variable ($name)
+     *
+     * @param field
+     * @param constraintsCount the number of constraints of the resolved where clause argument
+     * @return the variable names by the constraint's position within the where clause
+     */
+    public static Map<Integer, String> whereClauseVariables(Field field, int constraintsCount) {
+        Optional<Value<?>> constraints = field.getArguments().stream()
+                .filter(argument -> argument.getName().equals(WHERE))
+                .map(Argument::getValue)
+                .findFirst()
+                .flatMap(where -> objectField(where, CONSTRAINTS));
+        //the entire where clause (or its constraints list) given as a variable has no literal structure to parameterize
+        if (constraints.isEmpty() || !(constraints.get() instanceof ArrayValue))
+            return Collections.emptyMap();
+
+        List<Value<?>> values = new ArrayList<>();
+        ((ArrayValue) constraints.get()).getValues().forEach(values::add);
+        //the variables are matched to the resolved constraints by position - both must describe the same constraints
+        if (values.size() != constraintsCount)
+            throw new IllegalArgumentException("Where clause constraints " + values.size() + " do not match the resolved constraints " + constraintsCount);
+
+        Map<Integer, String> variables = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            Optional<Value<?>> expression = objectField(values.get(i), EXPRESSION);
+            if (expression.isPresent() && expression.get() instanceof VariableReference) {
+                variables.put(i, ((VariableReference) expression.get()).getName());
+            }
+        }
+        return variables;
+    }
+
+    private static Optional<Value<?>> objectField(Value<?> value, String name) {
+        if (!(value instanceof ObjectValue))
+            return Optional.empty();
+        return ((ObjectValue) value).getObjectFields().stream()
+                .filter(field -> field.getName().equals(name))
+                .<Value<?>>map(ObjectField::getValue)
+                .findFirst();
+    }
+
     /**
      * populates the property graph value
      * @param context
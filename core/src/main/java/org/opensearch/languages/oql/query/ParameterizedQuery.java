@@ -5,10 +5,23 @@ package org.opensearch.languages.oql.query;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import org.opensearch.languages.oql.query.properties.BaseProp;
+import org.opensearch.languages.oql.query.properties.EProp;
+import org.opensearch.languages.oql.query.properties.EPropGroup;
+import org.opensearch.languages.oql.query.properties.RelProp;
+import org.opensearch.languages.oql.query.properties.RelPropGroup;
+import org.opensearch.languages.oql.query.properties.constraint.Constraint;
 import org.opensearch.languages.oql.query.properties.constraint.NamedParameter;
+import org.opensearch.languages.oql.query.properties.constraint.ParameterizedConstraint;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A specialized query which has a list of dynamic parameters that can be replaced during actual query execution
@@ -32,6 +45,94 @@ public class ParameterizedQuery extends Query {
         return params;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) return false;
+        return Objects.equals(params, ((ParameterizedQuery) o).params);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Objects.hashCode(params);
+    }
+
+    /**
+     * bind the given values to the query parameters - every parameterized constraint is replaced by a concrete constraint
+     * over its parameter value. The elements without parameters are shared with this query, which is never modified,
+     * so that the same parameterized query may be bound concurrently
+     *
+     * @param values the parameter values by the parameter name
+     * @return
+     */
+    public Query bind(Map<String, Object> values) {
+        List<String> missing = params.stream()
+                .map(NamedParameter::getName)
+                .filter(name -> !values.containsKey(name))
+                .collect(Collectors.toList());
+        if (!missing.isEmpty())
+            throw new IllegalArgumentException("No values given for the query parameters " + missing);
+
+        Query query = new Query();
+        query.setOnt(getOnt());
+        query.setName(getName());
+        query.setElements(getElements().stream().map(element -> bind(element, values)).collect(Collectors.toList()));
+        if (getNonidentical() != null)
+            query.setNonidentical(new ArrayList<>(getNonidentical()));
+        return query;
+    }
+
+    /**
+     * create a parameterized query from a query containing parameterized constraints, the query parameters are the
+     * constraints named parameters (by order of appearance)
+     *
+     * @param query
+     * @return
+     */
+    public static ParameterizedQuery of(Query query) {
+        Map<String, NamedParameter> params = new LinkedHashMap<>();
+        query.getElements().stream()
+                .flatMap(ParameterizedQuery::parameters)
+                .forEach(parameter -> params.putIfAbsent(parameter.getName(), new NamedParameter(parameter.getName())));
+        return new ParameterizedQuery(query, new ArrayList<>(params.values()));
+    }
+
+    private static Stream<NamedParameter> parameters(EBase element) {
+        if (element instanceof EPropGroup) {
+            EPropGroup group = (EPropGroup) element;
+            return Stream.concat(group.getProps().stream(), group.getGroups().stream()).flatMap(ParameterizedQuery::parameters);
+        }
+        if (element instanceof RelPropGroup) {
+            RelPropGroup group = (RelPropGroup) element;
+            return Stream.concat(group.getProps().stream(), group.getGroups().stream()).flatMap(ParameterizedQuery::parameters);
+        }
+        if (element instanceof BaseProp && ((BaseProp) element).getCon() instanceof ParameterizedConstraint) {
+            return Stream.of(((ParameterizedConstraint) ((BaseProp) element).getCon()).getParameter());
+        }
+        return Stream.empty();
+    }
+
+    private static EBase bind(EBase element, Map<String, Object> values) {
+        if (parameters(element).findAny().isEmpty())
+            return element;
+
+        if (element instanceof EPropGroup) {
+            EPropGroup group = (EPropGroup) element;
+            return new EPropGroup(group.geteNum(), group.getQuantType(),
+                    group.getProps().stream().map(p -> (EProp) bind(p, values)).collect(Collectors.toList()),
+                    group.getGroups().stream().map(g -> (EPropGroup) bind(g, values)).collect(Collectors.toList()));
+        }
+        if (element instanceof RelPropGroup) {
+            RelPropGroup group = (RelPropGroup) element;
+            return new RelPropGroup(group.geteNum(), group.getQuantType(),
+                    group.getProps().stream().map(p -> (RelProp) bind(p, values)).collect(Collectors.toList()),
+                    group.getGroups().stream().map(g -> (RelPropGroup) bind(g, values)).collect(Collectors.toList()));
+        }
+        BaseProp prop = element instanceof RelProp ? ((RelProp) element).clone() : ((EProp) element).clone();
+        ParameterizedConstraint constraint = (ParameterizedConstraint) prop.getCon();
+        prop.setCon(Constraint.of(constraint.getOp(), values.get(constraint.getParameter().getName()), constraint.getiType()));
+        return prop;
+    }
+
     @JsonPOJOBuilder(buildMethodName = "build", withPrefix = "with")
     public static final class Builder {
         private Collection<NamedParameter> params;
@@ -2,6 +2,10 @@ package org.opensearch.languages.oql.query;
 
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import javaslang.Tuple2;
@@ -25,8 +29,6 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import static org.opensearch.schema.validation.ValidationResult.print;
-
 
 /**
  * Component that describes a traversal based query with a strongly typed schematic structure that is described by the ontology component
@@ -69,6 +71,38 @@ public class Query implements IQuery<EBase> {
 
     public void setElements(List<EBase> elements) {
         this.elements = elements;
+        this.index = null;
+    }
+
+    /**
+     * find the (first) query element with the given eNum using the query's eNum index.
+     * The elements list and the elements themselves are mutable - an indexed position is used only when the element found there
+     * still has the given eNum, otherwise the elements are scanned and the index is rebuilt on the next lookup
+     *
+     * @param eNum
+     * @return
+     */
+    public Optional<EBase> element(int eNum) {
+        List<EBase> elements = getElements();
+        int position = index().position(eNum);
+        if (position >= 0 && position < elements.size() && elements.get(position).geteNum() == eNum)
+            return Optional.of(elements.get(position));
+        for (EBase element : elements) {
+            if (element.geteNum() == eNum) {
+                //the elements changed since the index was built
+                index = null;
+                return Optional.of(element);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private ElementIndex index() {
+        ElementIndex current = index;
+        if (current == null) {
+            index = current = new ElementIndex(getElements());
+        }
+        return current;
     }
 
     public List<List<String>> getNonidentical() {
@@ -98,17 +132,74 @@ public class Query implements IQuery<EBase> {
     private List<List<String>> nonidentical;
     private List<EBase> elements = new ArrayList<>();
     private List<EBase> projectedFields = new ArrayList<>();
+    //eNum -> element position index, built once the query is built (or on the first lookup)
+    private volatile ElementIndex index;
     //endregion
 
+    /**
+     * dense eNum -> element position table (offset by the lowest eNum) - falls back to a map when the eNums are too sparse
+     */
+    private static final class ElementIndex {
+        private static final int NONE = -1;
+
+        private final int min;
+        private final int[] dense;
+        private final Map<Integer, Integer> sparse;
+
+        private ElementIndex(List<EBase> elements) {
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (EBase element : elements) {
+                min = Math.min(min, element.geteNum());
+                max = Math.max(max, element.geteNum());
+            }
+            long range = elements.isEmpty() ? 0 : (long) max - min + 1;
+            this.min = elements.isEmpty() ? 0 : min;
+            if (range <= 2L * elements.size() + 16) {
+                this.dense = new int[(int) range];
+                this.sparse = null;
+                Arrays.fill(dense, NONE);
+                for (int i = 0; i < elements.size(); i++) {
+                    if (dense[elements.get(i).geteNum() - this.min] == NONE)
+                        dense[elements.get(i).geteNum() - this.min] = i;
+                }
+            } else {
+                this.dense = null;
+                this.sparse = new HashMap<>();
+                for (int i = 0; i < elements.size(); i++) {
+                    sparse.putIfAbsent(elements.get(i).geteNum(), i);
+                }
+            }
+        }
+
+        private int position(int eNum) {
+            if (dense == null)
+                return sparse.getOrDefault(eNum, NONE);
+            long position = (long) eNum - min;
+            return position < 0 || position >= dense.length ? NONE : dense[(int) position];
+        }
+    }
+
+    /**
+     * Query builder - the built elements are kept in an array together with a parallel array of their parent positions
+     * (-1 for elements without a parent) - {@link #pop(Predicate)} walks up the built structure through these positions.
+     * <br>
+     * A builder may be reused for building another query after {@link #reset()}
+     */
     @JsonPOJOBuilder(buildMethodName = "build", withPrefix = "with")
     public static final class Builder implements QueryBuilder {
+        private static final int NO_PARENT = -1;
+        private static final int INITIAL_CAPACITY = 16;
+
         private AtomicInteger sequence = new AtomicInteger(0);
         private int currentIndex = 0;
 
         private String ont;
         private String name;
         private List<EBase> projectedFields = new ArrayList<>();
-        private List<Wrapper<? extends EBase>> elements;
+        private EBase[] elements;
+        private int[] parents;
+        private int size;
         private List<List<String>> nonidentical;
 
         private Builder() {
@@ -124,6 +215,26 @@ public class Query implements IQuery<EBase> {
             return instance;
         }
 
+        /**
+         * clear the builder state (keeping the allocated element arrays) so that it can build another query.
+         * The element sequence is restarted from 0
+         *
+         * @return
+         */
+        public Builder reset() {
+            sequence.set(0);
+            currentIndex = 0;
+            ont = null;
+            name = null;
+            //the previous list was handed to the built query
+            projectedFields = new ArrayList<>();
+            nonidentical = null;
+            if (elements != null)
+                Arrays.fill(elements, 0, size, null);
+            size = 0;
+            return this;
+        }
+
 
         public Builder withOnt(String ont) {
             this.ont = ont;
@@ -141,8 +252,8 @@ public class Query implements IQuery<EBase> {
         }
 
         public Builder withElements(List<EBase> elements) {
-            this.elements = elements.stream().map(Wrapper::new).collect(Collectors.toList());
-            return this;
+            size = 0;
+            return appendElements(elements);
         }
 
         public Builder appendElements(EBase element) {
@@ -150,13 +261,16 @@ public class Query implements IQuery<EBase> {
         }
 
         public Builder appendElements(List<EBase> elements) {
-            getElements().addAll(elements.stream().map(Wrapper::new).collect(Collectors.toList()));
+            ensureCapacity(size + elements.size());
+            for (EBase element : elements) {
+                add(element, NO_PARENT);
+            }
             return this;
         }
 
 
         public Builder start() {
-            getElements().add(new Wrapper<>(new Start(sequence.get())));
+            add(new Start(sequence.get()), NO_PARENT);
             currentIndex = sequence.get();
             return this;
         }
@@ -164,21 +278,21 @@ public class Query implements IQuery<EBase> {
 
         public Builder eType(String type, String tag) {
             populateNext();
-            getElements().add(new Wrapper<>(new ETyped(sequence.get(), tag, type, 0), current()));
+            add(new ETyped(sequence.get(), tag, type, 0), currentIndex);
             currentIndex = sequence.get();
             return this;
         }
 
 
         public Builder concrete(String id, String name, String type, String tag) {
-            getElements().add(new Wrapper<>(new EConcrete(sequence.get(), tag, type, id, name, sequence.incrementAndGet()), current()));
+            add(new EConcrete(sequence.get(), tag, type, id, name, sequence.incrementAndGet()), currentIndex);
             return this;
         }
 
 
         public Builder rel(String rType, Rel.Direction dir, String tag) {
             populateNext();
-            getElements().add(new Wrapper<>(new Rel(sequence.get(), rType, dir, tag, 0), current()));
+            add(new Rel(sequence.get(), rType, dir, tag, 0), currentIndex);
             currentIndex = sequence.get();
             return this;
         }
@@ -186,7 +300,7 @@ public class Query implements IQuery<EBase> {
 
         public Builder eProp(String pType) {
             populateNext();
-            getElements().add(new Wrapper<>(new EProp(sequence.get(), pType, new IdentityProjection()), current()));
+            add(new EProp(sequence.get(), pType, new IdentityProjection()), currentIndex);
             //current index remain the same since property has no "next"
             return this;
         }
@@ -194,7 +308,7 @@ public class Query implements IQuery<EBase> {
 
         public Builder eProp(String pType, Constraint constraint) {
             populateNext();
-            getElements().add(new Wrapper<>(new EProp(sequence.get(), pType, constraint), current()));
+            add(new EProp(sequence.get(), pType, constraint), currentIndex);
             //current index remain the same since property has no "next"
             return this;
         }
@@ -202,10 +316,12 @@ public class Query implements IQuery<EBase> {
 
         public Builder ePropGroup(List<Tuple2<String, Optional<Constraint>>> pTypes, QuantType type) {
             populateNext();
-            getElements().add(new Wrapper<>(new EPropGroup(sequence.get(), type, pTypes.stream()
-                    .map(p -> p._2.map(constraint -> new EProp(sequence.get(), p._1, constraint)).orElseGet(()
-                            -> new EProp(sequence.get(), p._1, new IdentityProjection())))
-                    .collect(Collectors.toList())), current()));
+            int eNum = sequence.get();
+            List<EProp> props = new ArrayList<>(pTypes.size());
+            for (Tuple2<String, Optional<Constraint>> p : pTypes) {
+                props.add(p._2.isPresent() ? new EProp(eNum, p._1, p._2.get()) : new EProp(eNum, p._1, new IdentityProjection()));
+            }
+            add(new EPropGroup(eNum, type, props), currentIndex);
             //current index remain the same since property has no "next"
             return this;
         }
@@ -213,7 +329,7 @@ public class Query implements IQuery<EBase> {
 
         public Builder rProp(String pType) {
             populateNext();
-            getElements().add(new Wrapper<>(new RelProp(sequence.get(), pType, new IdentityProjection()), current()));
+            add(new RelProp(sequence.get(), pType, new IdentityProjection()), currentIndex);
             //current index remain the same since property has no "next"
             return this;
         }
@@ -227,7 +343,7 @@ public class Query implements IQuery<EBase> {
 
         public Builder rProp(String pType, Constraint constraint) {
             populateNext();
-            getElements().add(new Wrapper<>(new RelProp(sequence.get(), pType, constraint), current()));
+            add(new RelProp(sequence.get(), pType, constraint), currentIndex);
             //current index remain the same since property has no "next"
             return this;
         }
@@ -235,7 +351,7 @@ public class Query implements IQuery<EBase> {
 
         public Builder quant(QuantType type) {
             populateNext();
-            getElements().add(new Wrapper<>(new Quant1(sequence.get(), type, new ArrayList<>()), current(sequence.get() - 1)));
+            add(new Quant1(sequence.get(), type, new ArrayList<>()), sequence.get() - 1);
             currentIndex = sequence.get();
             return this;
         }
@@ -268,51 +384,43 @@ public class Query implements IQuery<EBase> {
 
 
         public EBase current() {
-            return elements.get(currentIndex).getCurrent();
+            return current(currentIndex);
         }
 
-        public Wrapper<? extends EBase> currentWrapper() {
-            return elements.get(currentIndex);
-        }
-
-        public Wrapper<? extends EBase> currentWrapper(int index) {
-            return elements.get(index);
+        /**
+         * @param index
+         * @return the position of the parent of the element at the given position, -1 when the element has no parent
+         */
+        public int parentIndex(int index) {
+            checkIndex(index);
+            return parents[index];
         }
 
 
         public EBase pop() {
-            return currentWrapper().getParent();
+            int parent = parentIndex(currentIndex);
+            return parent == NO_PARENT ? null : elements[parent];
         }
 
 
         public Optional<EBase> pop(int index) {
-            return Optional.ofNullable(currentWrapper(index).getParent());
+            int parent = parentIndex(index);
+            return parent == NO_PARENT ? Optional.empty() : Optional.of(elements[parent]);
         }
 
 
         public Optional<EBase> pop(Predicate<EBase> predicate) {
-            int currentIndex = currentIndex();
-            while (currentIndex != -1 && !predicate.test(current(currentIndex))) {
-                if (pop(currentIndex).isPresent())
-                    currentIndex = pop(currentIndex).get().geteNum();
-                else
-                    currentIndex = -1;
+            int index = currentIndex;
+            while (index != NO_PARENT && !predicate.test(current(index))) {
+                index = parentIndex(index);
             }
-
-            if (currentIndex == -1)
-                return Optional.empty();
-            else
-                return Optional.ofNullable(getElements().get(currentIndex).getCurrent());
-
-        }
-
-        public Wrapper<? extends EBase> popWrapper() {
-            return elements.get(currentWrapper().getParent().geteNum());
+            return index == NO_PARENT ? Optional.empty() : Optional.ofNullable(elements[index]);
         }
 
 
         public EBase current(int index) {
-            return elements.get(index).getCurrent();
+            checkIndex(index);
+            return elements[index];
         }
 
         @Override
@@ -321,59 +429,84 @@ public class Query implements IQuery<EBase> {
             query.setOnt(ont);
             query.setName(name);
             query.setProjectedFields(projectedFields);
-            if (elements != null)
-                query.setElements(elements.stream().map(Wrapper::getCurrent).collect(Collectors.toList()));
+            if (elements != null) {
+                List<EBase> built = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    built.add(elements[i]);
+                }
+                query.setElements(built);
+            }
             if (nonidentical != null)
                 query.setNonidentical(nonidentical);
+            query.index();
             return query;
 
         }
 
+        private void add(EBase element, int parent) {
+            ensureCapacity(size + 1);
+            elements[size] = element;
+            parents[size] = parent;
+            size++;
+        }
 
-        private List<Wrapper<? extends EBase>> getElements() {
+        private void ensureCapacity(int capacity) {
             if (elements == null) {
-                this.elements = new ArrayList<>();
+                elements = new EBase[Math.max(INITIAL_CAPACITY, capacity)];
+                parents = new int[elements.length];
+            } else if (capacity > elements.length) {
+                int grown = Math.max(capacity, elements.length * 2);
+                elements = Arrays.copyOf(elements, grown);
+                parents = Arrays.copyOf(parents, grown);
             }
-            return elements;
+        }
+
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
     }
 
+    /**
+     * structural equality - same ontology, name, elements (by their structural equality) and non-identical tags
+     *
+     * @param o
+     * @return
+     */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Query query = (Query) o;
-        return Objects.equals(ont, query.ont) && Objects.equals(name, query.name) && print(this).equals(print(query));
+        return Objects.equals(ont, query.ont) &&
+                Objects.equals(name, query.name) &&
+                Objects.equals(elements, query.elements) &&
+                Objects.equals(nonidentical, query.nonidentical);
     }
 
+    /**
+     * structural hash computed in a single pass over the elements - it is not cached since the elements list and the elements
+     * themselves may change after the query is built
+     *
+     * @return
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(ont, name, print(this));
-    }
-
-    private static class Wrapper<T> {
-        private T parent;
-        private T current;
-
-        public Wrapper(T current) {
-            this.current = current;
-        }
-
-        public Wrapper(T current, T parent) {
-            this(current);
-            this.parent = parent;
-        }
-
-        public T getParent() {
-            return parent;
-        }
-
-        public T getCurrent() {
-            return current;
-        }
+        return Objects.hash(ont, name, elements, nonidentical);
     }
 
     public static class QueryUtils {
+        /**
+         * element copying mapper - writes every non null property, including the default / empty values (e.g. a 0 eNum link)
+         * the elements' JSON form omits
+         */
+        private static final ObjectMapper elementMapper = new ObjectMapper().setAnnotationIntrospector(new JacksonAnnotationIntrospector() {
+            @Override
+            public JsonInclude.Value findPropertyInclusion(Annotated annotated) {
+                return JsonInclude.Value.construct(JsonInclude.Include.NON_NULL, JsonInclude.Include.NON_NULL);
+            }
+        });
+
         /**
          * find query element by its enum
          *
@@ -382,6 +515,8 @@ public class Query implements IQuery<EBase> {
          * @return
          */
         public static Optional<? extends EBase> findByEnum(IQuery<EBase> query, int eNum) {
+            if (query instanceof Query)
+                return ((Query) query).element(eNum);
             return query.getElements().stream().filter(p -> p.geteNum() == eNum).findFirst();
         }
 
@@ -443,6 +578,42 @@ public class Query implements IQuery<EBase> {
                     .build();
         }
 
+        /**
+         * deep copy the query - its element lists and the (mutable) elements themselves, so the copy shares no state with the origin
+         *
+         * @param origin
+         * @return
+         */
+        public static Query copy(Query origin) {
+            Query query = new Query();
+            query.setOnt(origin.ont);
+            query.setName(origin.name);
+            query.setElements(copy(origin.getElements()));
+            query.setProjectedFields(copy(origin.getProjectedFields()));
+            if (origin.nonidentical != null)
+                query.setNonidentical(origin.nonidentical.stream().map(ArrayList::new).collect(Collectors.toList()));
+            return query;
+        }
+
+        /**
+         * deep copy the elements through their JSON form - the elements' clone() renumbers nested elements and drops the
+         * links (next / b) between the elements, so it can't serve as a faithful copy
+         *
+         * @param elements
+         * @return
+         */
+        private static List<EBase> copy(List<EBase> elements) {
+            List<EBase> copy = new ArrayList<>(elements.size());
+            for (EBase element : elements) {
+                try {
+                    copy.add(elementMapper.treeToValue(elementMapper.valueToTree(element), EBase.class));
+                } catch (JsonProcessingException err) {
+                    throw new IllegalStateException("Couldn't copy the query element " + element, err);
+                }
+            }
+            return copy;
+        }
+
         public static Iterator<? extends EBase>
         getElements(Query query, List<Integer> elementIds) {
             return elementIds.stream()
@@ -462,26 +633,22 @@ public class Query implements IQuery<EBase> {
          * @return
          */
         public static List<EBase> getPath(Query query, int elementId, Predicate<EBase> stopCondition) {
-            if (!findByEnum(query, elementId).isPresent())
-                return Collections.emptyList();
             //the needed path
             List<EBase> path = new ArrayList<>();
-            //element by id
-            Optional<? extends EBase> byEnum = findByEnum(query, elementId);
-            EBase element = byEnum.get();
-
-            //add element to path
-            path.add(element);
-
-            //verify stop conidtion
-            if (stopCondition.test(element))
-                return path;
-
-            //continue to add the next elements recursively
-            if (element instanceof Next) {
-                path.addAll(getPath(query, ((Next<Integer>) element).getNext(), stopCondition));
+            Optional<EBase> byEnum = query.element(elementId);
+            //walk the next elements - bounded by the elements count
+            while (byEnum.isPresent() && path.size() < query.getElements().size()) {
+                EBase element = byEnum.get();
+                //add element to path
+                path.add(element);
+
+                //verify stop conidtion
+                if (stopCondition.test(element) || !(element instanceof Next))
+                    break;
+
+                //continue to add the next element
+                byEnum = query.element(((Next<Integer>) element).getNext());
             }
-
             return path;
         }
     }
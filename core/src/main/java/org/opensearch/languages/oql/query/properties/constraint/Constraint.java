@@ -38,7 +38,11 @@ public class Constraint {
     //region Override Methods
     @Override
     public boolean equals(Object o) {
-        if (o == null) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
             return false;
         }
 
@@ -77,6 +81,14 @@ public class Constraint {
         return true;
     }
 
+    @Override
+    public int hashCode() {
+        int result = op != null ? op.hashCode() : 0;
+        result = 31 * result + (expr != null ? expr.hashCode() : 0);
+        result = 31 * result + (iType != null ? iType.hashCode() : 0);
+        return result;
+    }
+
     @Override
     public Constraint clone() {
         return new Constraint(op,countOp,expr,iType);
@@ -1,11 +1,15 @@
 package org.opensearch.languages.sql.graphql;
 
 
+import graphql.ExecutionInput;
 import graphql.ExecutionResult;
+import graphql.GraphQL;
 import graphql.GraphQLError;
 import org.opensearch.graphql.GraphQLEngineFactory;
+import org.opensearch.graphql.GraphQLEngineRegistry;
 import org.opensearch.graphql.Transformer;
 import org.opensearch.languages.QueryTranslationStrategy;
+import org.opensearch.languages.QueryTranslationStrategy.QueryTranslatorContext;
 import org.opensearch.languages.sql.graphql.wiring.SQLTraversalWiringFactory;
 import org.opensearch.languages.sql.graphql.wiring.strategies.EntityWithPredicateTranslation;
 import org.opensearch.languages.sql.graphql.wiring.strategies.InterfaceTranslation;
@@ -15,6 +19,9 @@ import org.opensearch.schema.SchemaError;
 import org.opensearch.schema.ontology.Accessor;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -22,6 +29,31 @@ import java.util.stream.Collectors;
  * will transform this GQL query into a valid SQL query
  */
 public class GraphQLToSQLTransformer implements Transformer<Query> {
+    public static final String LANGUAGE = "sql";
+
+    /**
+     * compiled GQL engines provider - one engine per ontology, compiled once on the first translation and reused afterwards.
+     * The engines are immutable and the translation state is per request, so translations run concurrently without locking
+     */
+    private final Function<Accessor, GraphQL> engines;
+
+    /**
+     * transformer compiling its engine from the {@link GraphQLEngineFactory} registered types - the engine does not depend on the
+     * accessor and is recompiled once the registered types change
+     */
+    public GraphQLToSQLTransformer() {
+        Supplier<GraphQL> engine = GraphQLEngineFactory.compiledEngine(SQLTraversalWiringFactory::new);
+        this.engines = accessor -> engine.get();
+    }
+
+    /**
+     * transformer using the engines of the accessor's domain (by the ontology name) in the given registry
+     *
+     * @param registry
+     */
+    public GraphQLToSQLTransformer(GraphQLEngineRegistry registry) {
+        this.engines = accessor -> registry.domain(accessor.name()).engine(LANGUAGE, SQLTraversalWiringFactory::new);
+    }
 
     /**
      * translates graphQL textual query into a SQL query
@@ -29,13 +61,14 @@ public class GraphQLToSQLTransformer implements Transformer<Query> {
      * @param query
      * @return
      */
-    public synchronized Query transform(List<QueryTranslationStrategy<Query.Builder>> translationStrategies,Accessor accessor, String query) {
+    public Query transform(List<QueryTranslationStrategy<Query.Builder>> translationStrategies,Accessor accessor, String query) {
         Query.Builder instance = Query.Builder.instance();
-        SQLTraversalWiringFactory factory = new SQLTraversalWiringFactory(translationStrategies,accessor, instance);
-        ExecutionResult execute = GraphQLEngineFactory
-                .generateEngine(
-                        GraphQLEngineFactory.generateSchema(factory)
-                ).execute(query);
+        GraphQL engine = engines.apply(accessor);
+        QueryTranslatorContext<Query.Builder> context = new QueryTranslatorContext<>(translationStrategies, accessor, instance, engine.getGraphQLSchema());
+        ExecutionResult execute = engine.execute(ExecutionInput.newExecutionInput()
+                .query(query)
+                .graphQLContext(Map.of(QueryTranslatorContext.KEY, context))
+                .build());
         if (execute.getErrors().isEmpty())
             return instance.build();
         // throw error over failed query parsing
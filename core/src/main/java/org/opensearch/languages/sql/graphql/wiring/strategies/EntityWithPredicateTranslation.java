@@ -1,6 +1,5 @@
 package org.opensearch.languages.sql.graphql.wiring.strategies;
 
-import graphql.execution.ExecutionStepInfo;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLType;
 import org.opensearch.languages.QueryTranslationStrategy;
@@ -20,21 +19,15 @@ public class EntityWithPredicateTranslation implements QueryTranslationStrategy<
 
     @Override
     public Optional<Object> translate(QueryTranslatorContext<Query.Builder> context, GraphQLType fieldType) {
-        ExecutionStepInfo parent = context.getEnv().getExecutionStepInfo().getParent();
         fieldType = extractConcreteFieldType(fieldType);
         if (fieldType instanceof GraphQLObjectType) {
             GraphQLObjectType type = (GraphQLObjectType) fieldType;
-            GraphQLObjectType parentType = (GraphQLObjectType) parent.getType();
-            //add the start query element
-            if (parentType.getName().equalsIgnoreCase(QUERY)) {
-                // todo start traversing objects fields and add them to the select clause
-            }
-            //todo infer the real vertex or relation
-            Optional<EntityType> realType = null;
+            //populate the root entity's select & from clauses - nested entities are projected by their root entity
+            Optional<EntityType> realType = populateGraphObject(context, type.getName());
             try {
                 addWhereClause(context, realType);
             } catch (Throwable e) {
-                throw new SchemaError.SchemaErrorException("During GraphQL to Ontology QL translation, failed on EntityWithPredicateTranslation::addWhereClause", e);
+                throw new SchemaError.SchemaErrorException("During GraphQL to SQL translation, failed on EntityWithPredicateTranslation::addWhereClause", e);
             }
             //todo create concrete union types from abstract interface
             return Optional.of(new Object());
@@ -1,21 +1,32 @@
 package org.opensearch.languages.sql.graphql.wiring.strategies;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import graphql.schema.GraphQLEnumType;
-import graphql.schema.GraphQLList;
-import graphql.schema.GraphQLNonNull;
-import graphql.schema.GraphQLType;
+import graphql.schema.*;
+import org.opensearch.graphql.wiring.InputTypeConstraint;
+import org.opensearch.graphql.wiring.InputTypeWhereClause;
 import org.opensearch.languages.QueryTranslationStrategy.QueryTranslatorContext;
+import org.opensearch.languages.oql.query.properties.constraint.ConstraintOp;
 import org.opensearch.languages.sql.query.Query;
+import org.opensearch.languages.sql.query.ast.Literal;
 import org.opensearch.schema.ontology.EntityType;
+import org.opensearch.schema.ontology.PrimitiveType;
+import org.opensearch.schema.ontology.Property;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.opensearch.languages.sql.query.Query.Builder.allOf;
+import static org.opensearch.languages.sql.query.Query.Builder.anyOf;
 
 public class TranslationUtils {
     public static final String WHERE = "where";
     public static final String QUERY = "query";
-    public static final ObjectMapper mapper = new ObjectMapper();
+    public static final String TYPENAME = "__typename";
 
     /**
      * get concrete friend type
@@ -42,16 +53,193 @@ public class TranslationUtils {
         return fieldType;
     }
 
+    /**
+     * populates the select & from clauses of a query root entity - the selected columns are the leaf fields of the entire
+     * selection set (nested object fields are selected by their dotted path) so that only the requested fields are fetched.
+     * <br>
+     * Nested entities are already a part of their root entity's select clause and add no clauses of their own
+     *
+     * @param context
+     * @param typeName
+     * @return the root entity type, empty for a nested entity
+     */
+    public static Optional<EntityType> populateGraphObject(QueryTranslatorContext<Query.Builder> context, String typeName) {
+        GraphQLType parentType = context.getEnv().getExecutionStepInfo().getParent().getType();
+        if (!(parentType instanceof GraphQLObjectType) || !((GraphQLObjectType) parentType).getName().equalsIgnoreCase(QUERY))
+            return Optional.empty();
+
+        Optional<EntityType> entityType = context.getAccessor().entity(typeName);
+        if (entityType.isEmpty())
+            return Optional.empty();
+
+        List<String> columns = columns(context.getEnv().getSelectionSet());
+        if (!columns.isEmpty())
+            context.getBuilder().withSelect(columns.toArray(String[]::new));
+        context.getBuilder().from(table(entityType.get()));
+        return entityType;
+    }
 
     /**
-     * adds a where clause
+     * the selection set leaf fields as columns - nested fields are named by their dotted path
+     *
+     * @param selectionSet
+     * @return
+     */
+    public static List<String> columns(DataFetchingFieldSelectionSet selectionSet) {
+        Set<String> columns = new LinkedHashSet<>();
+        for (SelectedField field : selectionSet.getFields()) {
+            if (!field.getName().equals(TYPENAME) && field.getSelectionSet().getImmediateFields().isEmpty())
+                columns.add(column(field));
+        }
+        return new ArrayList<>(columns);
+    }
+
+    /**
+     * the index (table) name of the entity
+     *
+     * @param entityType
+     * @return
+     */
+    public static String table(EntityType entityType) {
+        return entityType.geteType().toLowerCase();
+    }
+
+    private static String column(SelectedField field) {
+        return field.getQualifiedName().replace('/', '.');
+    }
+
+    /**
+     * adds the where clause of the root entity - composed of the root entity's where argument and the where arguments
+     * of its selected nested entities (over their dotted path columns)
      *
      * @param context
      * @param realType
      * @throws IOException
      */
     public static void addWhereClause(QueryTranslatorContext<Query.Builder> context, Optional<EntityType> realType) {
-        // todo add where clause
+        if (realType.isEmpty())
+            return;
+
+        List<String> predicates = new ArrayList<>();
+        if (context.getEnv().getArgument(WHERE) != null) {
+            predicates.add(predicate(context, realType.get(), "", context.getEnv().getArgument(WHERE)));
+        }
+        for (SelectedField field : context.getEnv().getSelectionSet().getFields()) {
+            if (field.getArguments().get(WHERE) != null) {
+                GraphQLType fieldType = extractConcreteFieldType(field.getType());
+                EntityType entityType = context.getAccessor().entity$(((GraphQLNamedType) fieldType).getName());
+                predicates.add(predicate(context, entityType, column(field) + ".", field.getArguments().get(WHERE)));
+            }
+        }
+
+        if (!predicates.isEmpty())
+            context.getBuilder().where(predicates.size() == 1 ? predicates.get(0) : allOf(predicates.toArray(String[]::new)));
+    }
+
+    private static String predicate(QueryTranslatorContext<Query.Builder> context, EntityType entityType, String prefix, Object argument) {
+        if (!(argument instanceof Map))
+            throw new IllegalArgumentException("Where clause must be an input object, found " + argument);
+        InputTypeWhereClause whereClause = InputTypeWhereClause.of((Map<?, ?>) argument);
+        //verify fields exist within entity type
+        List<InputTypeConstraint> nonFoundFields = whereClause.getConstraints().stream()
+                .filter(c -> !entityType.containsProperty(c.getOperand()))
+                .collect(Collectors.toList());
+
+        if (!nonFoundFields.isEmpty())
+            throw new IllegalArgumentException("Fields " + nonFoundFields + " are not a part of the queried entity " + entityType.getName());
+
+        String[] constraints = whereClause.getConstraints().stream()
+                .map(c -> asPredicate(prefix + c.getOperand(), c, context.getAccessor().pName(c.getOperand())))
+                .toArray(String[]::new);
+
+        if (constraints.length == 1)
+            return constraints[0];
+        return whereClause.getOperator() == InputTypeWhereClause.WhereOperator.OR ? anyOf(constraints) : allOf(constraints);
+    }
+
+    /**
+     * translate the where clause constraint into the SQL predicate over the given column
+     *
+     * @param column
+     * @param constraint
+     * @param property   the constraint's property - its type decides whether the expression is quoted
+     * @return
+     */
+    public static String asPredicate(String column, InputTypeConstraint constraint, Optional<Property> property) {
+        ConstraintOp op = ConstraintOp.valueOf(constraint.getOperator());
+        String expression = constraint.getExpression();
+        switch (op) {
+            case empty:
+                return column + " is null";
+            case notEmpty:
+                return column + " is not null";
+            case eq:
+                return column + " = " + value(expression, property);
+            case ne:
+                return column + " != " + value(expression, property);
+            case gt:
+                return column + " > " + value(expression, property);
+            case ge:
+                return column + " >= " + value(expression, property);
+            case lt:
+                return column + " < " + value(expression, property);
+            case le:
+                return column + " <= " + value(expression, property);
+            case like:
+                return column + " like " + quoted(expression);
+            case contains:
+                return column + " like " + quoted("%" + expression + "%");
+            case notContains:
+                return column + " not like " + quoted("%" + expression + "%");
+            case startsWith:
+                return column + " like " + quoted(expression + "%");
+            case notStartsWith:
+                return column + " not like " + quoted(expression + "%");
+            case endsWith:
+                return column + " like " + quoted("%" + expression);
+            case notEndsWith:
+                return column + " not like " + quoted("%" + expression);
+            case match:
+                return "match(" + column + ", " + quoted(expression) + ")";
+            default:
+                throw new IllegalArgumentException("Constraint operator " + constraint.getOperator() + " is not supported by the SQL translation");
+        }
+    }
+
+    /**
+     * render the constraint expression as a literal of the property's type - numeric & boolean expressions are parsed into their value
+     * (rejecting any other text) so that the expression never becomes a part of the SQL text itself, all other expressions are quoted
+     *
+     * @param expression
+     * @param property
+     * @return
+     */
+    private static String value(String expression, Optional<Property> property) {
+        if (expression == null || property.isEmpty() || !(property.get().getType() instanceof PrimitiveType))
+            return quoted(expression);
+        String type = ((PrimitiveType) property.get().getType()).getType().toUpperCase();
+        String value = expression.trim();
+        try {
+            if (type.equals(PrimitiveType.Types.INT.name()) || type.equals(PrimitiveType.Types.LONG.name())) {
+                return new Literal(Long.parseLong(value)).toString();
+            } else if (type.equals(PrimitiveType.Types.FLOAT.name())) {
+                double number = Double.parseDouble(value);
+                if (Double.isFinite(number))
+                    return new Literal(number).toString();
+            } else if (type.equals(PrimitiveType.Types.BOOLEAN.name())) {
+                if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false"))
+                    return new Literal(Boolean.parseBoolean(value)).toString();
+            } else {
+                return quoted(expression);
+            }
+        } catch (NumberFormatException err) {
+            //reported below
+        }
+        throw new IllegalArgumentException("Expression '" + expression + "' is not a valid " + type.toLowerCase() + " value of the property " + property.get().getName());
+    }
+
+    private static String quoted(String expression) {
+        return new Literal(expression).toString();
     }
 
     /**
@@ -61,8 +249,8 @@ public class TranslationUtils {
      * @return
      */
     public static String populateGraphValue(QueryTranslatorContext<Query.Builder> context) {
-        //todo implement
-        return null;
+        //the selected fields are projected by their root entity's select clause
+        return context.getEnv().getField().getName();
     }
 
     public static Object fakeEnumValue(String fieldName, GraphQLEnumType enumType) {
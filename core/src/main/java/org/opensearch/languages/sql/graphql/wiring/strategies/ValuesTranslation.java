@@ -23,7 +23,7 @@ public class ValuesTranslation implements QueryTranslationStrategy<Query.Builder
             String name = populateGraphValue(context);
             return Optional.of(fakeScalarValue(name, (GraphQLScalarType) fieldType));
         } else if (fieldType instanceof GraphQLEnumType) {
-            String name = populateGraphEnum(context);
+            String name = populateGraphEnum(context, (GraphQLEnumType) fieldType);
             return Optional.of(fakeEnumValue(name, (GraphQLEnumType) fieldType));
         }
         return Optional.empty();
@@ -33,10 +33,11 @@ public class ValuesTranslation implements QueryTranslationStrategy<Query.Builder
     /**
      * populates the appropriate enum ordinal value
      * @param context
+     * @param enumType
      * @return
      */
-    private String populateGraphEnum(QueryTranslatorContext<Query.Builder> context) {
-        //todo implement
-        return null;
-     }
+    private String populateGraphEnum(QueryTranslatorContext<Query.Builder> context, GraphQLEnumType enumType) {
+        //select first value since no matter which value selected for mock data
+        return enumType.getValues().get(0).getName();
+    }
 }
@@ -1,22 +1,38 @@
 package org.opensearch.languages.sql.query;
 
 import org.opensearch.languages.QueryBuilder;
+import org.opensearch.languages.sql.query.ast.Assignment;
+import org.opensearch.languages.sql.query.ast.Clause;
+import org.opensearch.languages.sql.query.ast.Clause.Kind;
+import org.opensearch.languages.sql.query.ast.Fragment;
+import org.opensearch.languages.sql.query.ast.Literal;
+import org.opensearch.languages.sql.query.ast.SQLNode;
+import org.opensearch.languages.sql.query.ast.Statement;
+import org.opensearch.languages.sql.query.ast.Subquery;
 
 import java.util.*;
 
 /**
  * The SQL (textual) query wrapper and fluent query builder
- *
+ * <br>
+ * A query built by the {@link Builder} keeps its (immutable) {@link Statement} syntax tree, so that the query can be inspected and
+ * re-rendered with bound parameter values without being built again
  */
 public class Query {
     private String name;
     private String query;
+    private Statement statement;
 
     public Query(String name, String query) {
         this.name = name;
         this.query = query;
     }
 
+    public Query(String name, Statement statement) {
+        this(name, statement.getSQL());
+        this.statement = statement;
+    }
+
     public String getName() {
         return name;
     }
@@ -25,6 +41,30 @@ public class Query {
         return query;
     }
 
+    /**
+     * @return the query syntax tree - empty for a query created from its text
+     */
+    public Optional<Statement> getStatement() {
+        return Optional.ofNullable(statement);
+    }
+
+    /**
+     * @return the query parameters in their order of appearance - a null entry stands for a positional parameter
+     */
+    public List<String> getParameters() {
+        return statement != null ? statement.getParameters() : Collections.emptyList();
+    }
+
+    /**
+     * render the query with the given named parameter values as literals - parameters without a value remain '?' placeholders
+     *
+     * @param values
+     * @return
+     */
+    public String render(Map<String, ?> values) {
+        return statement != null ? statement.render(values) : query;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -45,9 +85,9 @@ public class Query {
      * queries.
      */
     public static class Builder implements QueryBuilder<Query> {
-        private List<String> parameters = new LinkedList<>();
+        private final List<Clause> clauses = new ArrayList<>();
         private String name;
-        private StringBuilder sqlBuilder;
+        private Statement statement;
 
         public static Builder instance() {
             return new Builder();
@@ -55,7 +95,7 @@ public class Query {
 
         @Override
         public Query build() {
-            return new Query(this.name, this.getSQL());
+            return new Query(this.name, statement());
         }
 
         @Override
@@ -65,7 +105,6 @@ public class Query {
         }
 
         public Builder() {
-            this(new StringBuilder());
         }
 
         /**
@@ -78,13 +117,7 @@ public class Query {
                 throw new IllegalArgumentException();
             }
 
-            sqlBuilder = new StringBuilder();
-
-            append(sql);
-        }
-
-        private Builder(StringBuilder sqlBuilder) {
-            this.sqlBuilder = sqlBuilder;
+            add(Clause.of(Kind.RAW, Fragment.parse(sql)));
         }
 
         /**
@@ -94,25 +127,27 @@ public class Query {
          * @return The new {@link Builder} instance.
          */
         public static Builder select(String... columns) {
+            return new Builder().withSelect(columns);
+        }
+
+        /**
+         * Appends a "select" clause to the query built by this builder.
+         *
+         * @param columns The column names.
+         * @return The {@link Builder} instance.
+         */
+        public Builder withSelect(String... columns) {
             if (columns == null || columns.length == 0) {
                 throw new IllegalArgumentException();
             }
 
-            var sqlBuilder = new StringBuilder();
-
-            sqlBuilder.append("select ");
-
-            var SQLQueryBuilder = new Builder(sqlBuilder);
+            List<SQLNode> items = new ArrayList<>(columns.length);
 
-            for (var i = 0; i < columns.length; i++) {
-                if (i > 0) {
-                    SQLQueryBuilder.sqlBuilder.append(", ");
-                }
-
-                SQLQueryBuilder.append(columns[i]);
+            for (var column : columns) {
+                items.add(Fragment.parse(column));
             }
 
-            return SQLQueryBuilder;
+            return add(new Clause(Kind.SELECT, items));
         }
 
         /**
@@ -126,10 +161,7 @@ public class Query {
                 throw new IllegalArgumentException();
             }
 
-            sqlBuilder.append(" from ");
-            sqlBuilder.append(String.join(", ", tables));
-
-            return this;
+            return add(new Clause(Kind.FROM, texts(tables)));
         }
 
         /**
@@ -144,14 +176,7 @@ public class Query {
                 throw new IllegalArgumentException();
             }
 
-            sqlBuilder.append(" from (");
-            sqlBuilder.append(Builder.getSQL());
-            sqlBuilder.append(") ");
-            sqlBuilder.append(alias);
-
-            parameters.addAll(Builder.parameters);
-
-            return this;
+            return add(Clause.of(Kind.FROM, new Subquery(null, Builder.statement(), alias)));
         }
 
         /**
@@ -165,10 +190,7 @@ public class Query {
                 throw new IllegalArgumentException();
             }
 
-            sqlBuilder.append(" join ");
-            sqlBuilder.append(table);
-
-            return this;
+            return add(Clause.of(Kind.JOIN, Fragment.text(table)));
         }
 
         /**
@@ -183,14 +205,7 @@ public class Query {
                 throw new IllegalArgumentException();
             }
 
-            sqlBuilder.append(" join (");
-            sqlBuilder.append(Builder.getSQL());
-            sqlBuilder.append(") ");
-            sqlBuilder.append(alias);
-
-            parameters.addAll(Builder.parameters);
-
-            return this;
+            return add(Clause.of(Kind.JOIN, new Subquery(null, Builder.statement(), alias)));
         }
 
         /**
@@ -204,10 +219,7 @@ public class Query {
                 throw new IllegalArgumentException();
             }
 
-            sqlBuilder.append(" left join ");
-            sqlBuilder.append(table);
-
-            return this;
+            return add(Clause.of(Kind.LEFT_JOIN, Fragment.text(table)));
         }
 
         /**
@@ -221,10 +233,7 @@ public class Query {
                 throw new IllegalArgumentException();
             }
 
-            sqlBuilder.append(" right join ");
-            sqlBuilder.append(table);
-
-            return this;
+            return add(Clause.of(Kind.RIGHT_JOIN, Fragment.text(table)));
         }
 
         /**
@@ -234,7 +243,7 @@ public class Query {
          * @return The {@link Builder} instance.
          */
         public Builder on(String... predicates) {
-            return filter("on", predicates);
+            return filter(Kind.ON, predicates);
         }
 
         /**
@@ -244,27 +253,69 @@ public class Query {
          * @return The {@link Builder} instance.
          */
         public Builder where(String... predicates) {
-            return filter("where", predicates);
+            return filter(Kind.WHERE, predicates);
         }
 
-        private Builder filter(String clause, String... predicates) {
-            if (predicates == null) {
+        /**
+         * Appends a "where" clause to a query.
+         *
+         * @param predicate The clause predicate (a subquery conditional).
+         * @return The {@link Builder} instance.
+         */
+        public Builder where(SQLNode predicate) {
+            return filter(Kind.WHERE, null, predicate);
+        }
+
+        /**
+         * Appends a "where" clause to a query.
+         *
+         * @param column    The conditional's column.
+         * @param predicate The clause predicate (a subquery conditional).
+         * @return The {@link Builder} instance.
+         */
+        public Builder where(String column, SQLNode predicate) {
+            if (column == null) {
                 throw new IllegalArgumentException();
             }
 
-            sqlBuilder.append(" ");
-            sqlBuilder.append(clause);
-            sqlBuilder.append(" ");
+            return filter(Kind.WHERE, column, predicate);
+        }
 
-            for (var i = 0; i < predicates.length; i++) {
-                if (i > 0) {
-                    sqlBuilder.append(" ");
-                }
+        /**
+         * Appends an "on" clause to a query.
+         *
+         * @param column    The conditional's column.
+         * @param predicate The clause predicate (a subquery conditional).
+         * @return The {@link Builder} instance.
+         */
+        public Builder on(String column, SQLNode predicate) {
+            if (column == null) {
+                throw new IllegalArgumentException();
+            }
+
+            return filter(Kind.ON, column, predicate);
+        }
 
-                append(predicates[i]);
+        private Builder filter(Kind kind, String column, SQLNode predicate) {
+            if (predicate == null) {
+                throw new IllegalArgumentException();
             }
 
-            return this;
+            return add(column == null ? Clause.of(kind, predicate) : Clause.of(kind, Fragment.parse(column), predicate));
+        }
+
+        private Builder filter(Kind kind, String... predicates) {
+            if (predicates == null) {
+                throw new IllegalArgumentException();
+            }
+
+            List<SQLNode> items = new ArrayList<>(predicates.length);
+
+            for (var predicate : predicates) {
+                items.add(Fragment.parse(predicate));
+            }
+
+            return add(new Clause(kind, items));
         }
 
         /**
@@ -372,84 +423,84 @@ public class Query {
          * Creates an "equal to" conditional.
          *
          * @param Builder The conditional's subquery.
-         * @return The conditional text.
+         * @return The conditional node.
          */
-        public static String equalTo(Builder Builder) {
+        public static SQLNode equalTo(Builder Builder) {
             if (Builder == null) {
                 throw new IllegalArgumentException();
             }
 
-            return String.format("= (%s)", Builder);
+            return new Subquery("=", Builder.statement(), null);
         }
 
         /**
          * Creates a "not equal to" conditional.
          *
          * @param Builder The conditional's subquery.
-         * @return The conditional text.
+         * @return The conditional node.
          */
-        public static String notEqualTo(Builder Builder) {
+        public static SQLNode notEqualTo(Builder Builder) {
             if (Builder == null) {
                 throw new IllegalArgumentException();
             }
 
-            return String.format("!= (%s)", Builder);
+            return new Subquery("!=", Builder.statement(), null);
         }
 
         /**
          * Creates an "in" conditional.
          *
          * @param Builder The conditional's subquery.
-         * @return The conditional text.
+         * @return The conditional node.
          */
-        public static String in(Builder Builder) {
+        public static SQLNode in(Builder Builder) {
             if (Builder == null) {
                 throw new IllegalArgumentException();
             }
 
-            return String.format("in (%s)", Builder);
+            return new Subquery("in", Builder.statement(), null);
         }
 
         /**
          * Creates a "not in" conditional.
          *
          * @param Builder The conditional's subquery.
-         * @return The conditional text.
+         * @return The conditional node.
          */
-        public static String notIn(Builder Builder) {
+        public static SQLNode notIn(Builder Builder) {
             if (Builder == null) {
                 throw new IllegalArgumentException();
             }
 
-            return String.format("not in (%s)", Builder);
+            return new Subquery("not in", Builder.statement(), null);
         }
 
         /**
          * Creates an "exists" conditional.
          *
          * @param Builder The conditional's subquery.
-         * @return The conditional text.
+         * @return The conditional node.
          */
-        public static String exists(Builder Builder) {
+        public static SQLNode exists(Builder Builder) {
             if (Builder == null) {
                 throw new IllegalArgumentException();
             }
 
-            return String.format("exists (%s)", Builder);
+            return new Subquery("exists", Builder.statement(), null);
         }
 
         /**
          * Creates a "not exists" conditional.
          *
          * @param Builder The conditional's subquery.
-         * @return The conditional text.
+         * @return The conditional node.
          */
-        public static String notExists(Builder Builder) {
+        public static SQLNode notExists(Builder Builder) {
             if (Builder == null) {
                 throw new IllegalArgumentException();
             }
 
-            return String.format("not exists (%s)", Builder);
+            return new Subquery("not exists", Builder.statement(), null);
         }
 
         /**
@@ -463,10 +514,7 @@ public class Query {
                 throw new IllegalArgumentException();
             }
 
-            sqlBuilder.append(" order by ");
-            sqlBuilder.append(String.join(", ", columns));
-
-            return this;
+            return add(new Clause(Kind.ORDER_BY, texts(columns)));
         }
 
         /**
@@ -480,10 +528,7 @@ public class Query {
                 throw new IllegalArgumentException();
             }
 
-            sqlBuilder.append(" limit ");
-            sqlBuilder.append(count);
-
-            return this;
+            return add(Clause.of(Kind.LIMIT, new Literal(count)));
         }
 
         /**
@@ -492,9 +537,7 @@ public class Query {
          * @return The {@link Builder} instance.
          */
         public Builder forUpdate() {
-            sqlBuilder.append(" for update");
-
-            return this;
+            return add(Clause.of(Kind.FOR_UPDATE));
         }
 
         /**
@@ -508,12 +551,7 @@ public class Query {
                 throw new IllegalArgumentException();
             }
 
-            sqlBuilder.append(" union ");
-            sqlBuilder.append(Builder.getSQL());
-
-            parameters.addAll(Builder.parameters);
-
-            return this;
+            return add(Clause.of(Kind.UNION, Builder.statement()));
         }
 
         /**
@@ -527,12 +565,7 @@ public class Query {
                 throw new IllegalArgumentException();
             }
 
-            var sqlBuilder = new StringBuilder();
-
-            sqlBuilder.append("insert into ");
-            sqlBuilder.append(table);
-
-            return new Builder(sqlBuilder);
+            return new Builder().add(Clause.of(Kind.INSERT_INTO, Fragment.text(table)));
         }
 
         /**
@@ -546,33 +579,7 @@ public class Query {
                 throw new IllegalArgumentException();
             }
 
-            sqlBuilder.append(" (");
-
-            List<String> columns = new ArrayList<>(values.keySet());
-
-            var n = columns.size();
-
-            for (var i = 0; i < n; i++) {
-                if (i > 0) {
-                    sqlBuilder.append(", ");
-                }
-
-                sqlBuilder.append(columns.get(i));
-            }
-
-            sqlBuilder.append(") values (");
-
-            for (var i = 0; i < n; i++) {
-                if (i > 0) {
-                    sqlBuilder.append(", ");
-                }
-
-                encode(values.get(columns.get(i)));
-            }
-
-            sqlBuilder.append(")");
-
-            return this;
+            return add(new Clause(Kind.VALUES, assignments(values)));
         }
 
         /**
@@ -586,12 +593,7 @@ public class Query {
                 throw new IllegalArgumentException();
             }
 
-            var sqlBuilder = new StringBuilder();
-
-            sqlBuilder.append("update ");
-            sqlBuilder.append(table);
-
-            return new Builder(sqlBuilder);
+            return new Builder().add(Clause.of(Kind.UPDATE, Fragment.text(table)));
         }
 
         /**
@@ -605,24 +607,7 @@ public class Query {
                 throw new IllegalArgumentException();
             }
 
-            sqlBuilder.append(" set ");
-
-            var i = 0;
-
-            for (Map.Entry<String, ?> entry : values.entrySet()) {
-                if (i > 0) {
-                    sqlBuilder.append(", ");
-                }
-
-                sqlBuilder.append(entry.getKey());
-                sqlBuilder.append(" = ");
-
-                encode(entry.getValue());
-
-                i++;
-            }
-
-            return this;
+            return add(new Clause(Kind.SET, assignments(values)));
         }
 
         /**
@@ -636,12 +621,7 @@ public class Query {
                 throw new IllegalArgumentException();
             }
 
-            var sqlBuilder = new StringBuilder();
-
-            sqlBuilder.append("delete from ");
-            sqlBuilder.append(table);
-
-            return new Builder(sqlBuilder);
+            return new Builder().add(Clause.of(Kind.DELETE_FROM, Fragment.text(table)));
         }
 
 
@@ -652,7 +632,7 @@ public class Query {
          * The parameters parsed by the query builder.
          */
         public Collection<String> getParameters() {
-            return Collections.unmodifiableList(parameters);
+            return statement().getParameters();
         }
         /**
          * Returns the generated SQL.
@@ -660,86 +640,63 @@ public class Query {
          * @return The generated SQL.
          */
         public String getSQL() {
-            return sqlBuilder.toString();
+            return statement().getSQL();
         }
 
-        private void append(String sql) {
-            var quoted = false;
-
-            var n = sql.length();
-            var i = 0;
-
-            while (i < n) {
-                var c = sql.charAt(i++);
-
-                if (c == ':' && !quoted) {
-                    var parameterBuilder = new StringBuilder();
-
-                    while (i < n) {
-                        c = sql.charAt(i);
+        /**
+         * Returns the (immutable) statement built so far.
+         *
+         * @return The statement.
+         */
+        public Statement statement() {
+            if (statement == null) {
+                statement = new Statement(clauses);
+            }
 
-                        if (!Character.isJavaIdentifierPart(c)) {
-                            break;
-                        }
+            return statement;
+        }
 
-                        parameterBuilder.append(c);
+        private Builder add(Clause clause) {
+            clauses.add(clause);
+            statement = null;
 
-                        i++;
-                    }
+            return this;
+        }
 
-                    if (parameterBuilder.length() == 0) {
-                        throw new IllegalArgumentException("Missing parameter name.");
-                    }
+        private static List<SQLNode> texts(String... texts) {
+            List<SQLNode> items = new ArrayList<>(texts.length);
 
-                    parameters.add(parameterBuilder.toString());
+            for (var text : texts) {
+                items.add(Fragment.text(text));
+            }
 
-                    sqlBuilder.append("?");
-                } else if (c == '?' && !quoted) {
-                    parameters.add(null);
+            return items;
+        }
 
-                    sqlBuilder.append(c);
-                } else {
-                    if (c == '\'') {
-                        quoted = !quoted;
-                    }
+        private static List<SQLNode> assignments(Map<String, ?> values) {
+            List<SQLNode> items = new ArrayList<>(values.size());
 
-                    sqlBuilder.append(c);
-                }
+            for (Map.Entry<String, ?> entry : values.entrySet()) {
+                items.add(new Assignment(entry.getKey(), encode(entry.getValue())));
             }
+
+            return items;
         }
 
-        private void encode(Object value) {
+        private static SQLNode encode(Object value) {
             if (value instanceof String) {
                 var string = (String) value;
 
                 if (string.startsWith(":") || string.equals("?")) {
-                    append(string);
-                } else {
-                    sqlBuilder.append("'");
-
-                    for (int i = 0, n = string.length(); i < n; i++) {
-                        var c = string.charAt(i);
-
-                        if (c == '\'') {
-                            sqlBuilder.append(c);
-                        }
-
-                        sqlBuilder.append(c);
-                    }
-
-                    sqlBuilder.append("'");
+                    return Fragment.parse(string);
                 }
-            } else if (value instanceof Builder) {
-                var SQLQueryBuilder = (Builder) value;
 
-                sqlBuilder.append("(");
-                sqlBuilder.append(SQLQueryBuilder.getSQL());
-                sqlBuilder.append(")");
-
-                parameters.addAll(SQLQueryBuilder.parameters);
-            } else {
-                sqlBuilder.append(value);
+                return new Literal(string);
+            } else if (value instanceof Builder) {
+                return Subquery.of(((Builder) value).statement());
             }
+
+            return new Literal(value);
         }
 
         /**
@@ -748,28 +705,7 @@ public class Query {
          */
         @Override
         public String toString() {
-            var stringBuilder = new StringBuilder();
-
-            var parameterIterator = parameters.iterator();
-
-            for (int i = 0, n = sqlBuilder.length(); i < n; i++) {
-                var c = sqlBuilder.charAt(i);
-
-                if (c == '?') {
-                    var parameter = parameterIterator.next();
-
-                    if (parameter == null) {
-                        stringBuilder.append(c);
-                    } else {
-                        stringBuilder.append(':');
-                        stringBuilder.append(parameter);
-                    }
-                } else {
-                    stringBuilder.append(c);
-                }
-            }
-
-            return stringBuilder.toString();
+            return statement().toString();
         }
     }
 }
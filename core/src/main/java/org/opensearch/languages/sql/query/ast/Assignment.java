@@ -0,0 +1,47 @@
+package org.opensearch.languages.sql.query.ast;
+
+import java.util.Objects;
+
+/**
+ * A column value assignment of an 'insert' or 'update' statement
+ */
+public final class Assignment implements SQLNode {
+    private final String column;
+    private final SQLNode value;
+
+    public Assignment(String column, SQLNode value) {
+        this.column = column;
+        this.value = value;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public SQLNode getValue() {
+        return value;
+    }
+
+    @Override
+    public void render(SQLRenderer renderer) {
+        renderer.text(column).text(" = ").node(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Assignment that = (Assignment) o;
+        return Objects.equals(column, that.column) && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(column, value);
+    }
+
+    @Override
+    public String toString() {
+        return SQLRenderer.named().node(this).getSQL();
+    }
+}
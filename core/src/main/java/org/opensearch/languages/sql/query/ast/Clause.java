@@ -0,0 +1,113 @@
+package org.opensearch.languages.sql.query.ast;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A single clause of an SQL statement - the clause kind together with its items (columns, tables, predicates, assignments, ...)
+ */
+public final class Clause implements SQLNode {
+
+    public enum Kind {
+        RAW("", " "),
+        SELECT("select ", ", "),
+        FROM(" from ", ", "),
+        JOIN(" join ", " "),
+        LEFT_JOIN(" left join ", " "),
+        RIGHT_JOIN(" right join ", " "),
+        ON(" on ", " "),
+        WHERE(" where ", " "),
+        ORDER_BY(" order by ", ", "),
+        LIMIT(" limit ", ""),
+        FOR_UPDATE(" for update", ""),
+        UNION(" union ", ""),
+        INSERT_INTO("insert into ", ""),
+        VALUES(" ", ", "),
+        UPDATE("update ", ""),
+        SET(" set ", ", "),
+        DELETE_FROM("delete from ", "");
+
+        private final String keyword;
+        private final String separator;
+
+        Kind(String keyword, String separator) {
+            this.keyword = keyword;
+            this.separator = separator;
+        }
+    }
+
+    private final Kind kind;
+    private final List<SQLNode> items;
+
+    public Clause(Kind kind, List<? extends SQLNode> items) {
+        if (kind == null || items == null) {
+            throw new IllegalArgumentException();
+        }
+        this.kind = kind;
+        this.items = List.copyOf(items);
+    }
+
+    public static Clause of(Kind kind, SQLNode... items) {
+        return new Clause(kind, Arrays.asList(items));
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public List<SQLNode> getItems() {
+        return items;
+    }
+
+    /**
+     * @param items
+     * @return a clause of the same kind with the given items
+     */
+    public Clause withItems(List<? extends SQLNode> items) {
+        return new Clause(kind, items);
+    }
+
+    @Override
+    public void render(SQLRenderer renderer) {
+        renderer.text(kind.keyword);
+        if (kind == Kind.VALUES) {
+            //insert values are rendered as the columns list followed by the values list
+            renderer.text('(');
+            for (int i = 0; i < items.size(); i++) {
+                if (i > 0) renderer.text(kind.separator);
+                renderer.text(((Assignment) items.get(i)).getColumn());
+            }
+            renderer.text(") values (");
+            for (int i = 0; i < items.size(); i++) {
+                if (i > 0) renderer.text(kind.separator);
+                renderer.node(((Assignment) items.get(i)).getValue());
+            }
+            renderer.text(')');
+            return;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) renderer.text(kind.separator);
+            renderer.node(items.get(i));
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Clause clause = (Clause) o;
+        return kind == clause.kind && items.equals(clause.items);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, items);
+    }
+
+    @Override
+    public String toString() {
+        return SQLRenderer.named().node(this).getSQL();
+    }
+}
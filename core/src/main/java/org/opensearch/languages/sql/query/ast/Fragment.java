@@ -0,0 +1,126 @@
+package org.opensearch.languages.sql.query.ast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * SQL text fragment (a column, table, predicate or any other expression) - the text is parsed once into its textual parts and the
+ * parameters between them:
+ * <br>
+ *  - ':name' stands for a named parameter
+ * <br>
+ *  - '?' stands for a positional parameter
+ * <br>
+ * (colons & question marks within quoted literals are kept as is)
+ */
+public final class Fragment implements SQLNode {
+    private final List<String> parts;
+    private final List<String> parameters;
+
+    private Fragment(List<String> parts, List<String> parameters) {
+        this.parts = parts;
+        this.parameters = parameters;
+    }
+
+    /**
+     * a fragment of plain text - no parameters parsing
+     *
+     * @param text
+     * @return
+     */
+    public static Fragment text(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException();
+        }
+        return new Fragment(Collections.singletonList(text), Collections.emptyList());
+    }
+
+    /**
+     * parse the given SQL text into a fragment
+     *
+     * @param sql
+     * @return
+     */
+    public static Fragment parse(String sql) {
+        if (sql == null) {
+            throw new IllegalArgumentException();
+        }
+
+        List<String> parts = new ArrayList<>();
+        List<String> parameters = new ArrayList<>();
+        var part = new StringBuilder();
+        var quoted = false;
+
+        var n = sql.length();
+        var i = 0;
+
+        while (i < n) {
+            var c = sql.charAt(i++);
+
+            if (c == ':' && !quoted) {
+                var start = i;
+
+                while (i < n && Character.isJavaIdentifierPart(sql.charAt(i))) {
+                    i++;
+                }
+
+                if (i == start) {
+                    throw new IllegalArgumentException("Missing parameter name.");
+                }
+
+                parts.add(part.toString());
+                part.setLength(0);
+                parameters.add(sql.substring(start, i));
+            } else if (c == '?' && !quoted) {
+                parts.add(part.toString());
+                part.setLength(0);
+                parameters.add(null);
+            } else {
+                if (c == '\'') {
+                    quoted = !quoted;
+                }
+
+                part.append(c);
+            }
+        }
+        parts.add(part.toString());
+
+        return new Fragment(Collections.unmodifiableList(parts), Collections.unmodifiableList(parameters));
+    }
+
+    /**
+     * @return the fragment's parameters - a null entry stands for a positional parameter
+     */
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public void render(SQLRenderer renderer) {
+        renderer.text(parts.get(0));
+        for (int i = 0; i < parameters.size(); i++) {
+            renderer.parameter(parameters.get(i));
+            renderer.text(parts.get(i + 1));
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Fragment fragment = (Fragment) o;
+        return parts.equals(fragment.parts) && parameters.equals(fragment.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parts, parameters);
+    }
+
+    @Override
+    public String toString() {
+        return SQLRenderer.named().node(this).getSQL();
+    }
+}
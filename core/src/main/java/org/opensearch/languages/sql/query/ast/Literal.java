@@ -0,0 +1,62 @@
+package org.opensearch.languages.sql.query.ast;
+
+import java.util.Objects;
+
+/**
+ * SQL literal value - strings are quoted (with their quotes escaped), all other values are rendered as is
+ */
+public final class Literal implements SQLNode {
+    private final Object value;
+
+    public Literal(Object value) {
+        this.value = value;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    static void encode(Object value, StringBuilder sql) {
+        if (value instanceof String) {
+            var string = (String) value;
+
+            sql.append('\'');
+
+            for (int i = 0, n = string.length(); i < n; i++) {
+                var c = string.charAt(i);
+
+                if (c == '\'') {
+                    sql.append(c);
+                }
+
+                sql.append(c);
+            }
+
+            sql.append('\'');
+        } else {
+            sql.append(value);
+        }
+    }
+
+    @Override
+    public void render(SQLRenderer renderer) {
+        renderer.literal(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Objects.equals(value, ((Literal) o).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return SQLRenderer.named().node(this).getSQL();
+    }
+}
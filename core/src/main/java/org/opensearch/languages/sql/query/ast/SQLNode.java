@@ -0,0 +1,10 @@
+package org.opensearch.languages.sql.query.ast;
+
+/**
+ * A node of the (immutable) SQL query syntax tree - each node renders itself into the given renderer
+ */
+public interface SQLNode {
+
+    void render(SQLRenderer renderer);
+
+}
@@ -0,0 +1,102 @@
+package org.opensearch.languages.sql.query.ast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single pass renderer of an SQL syntax tree into its textual form
+ * <br>
+ * Query parameters are rendered according to the renderer's mode:
+ * <br>
+ *  - placeholders: every parameter is rendered as a '?' placeholder
+ * <br>
+ *  - named: named parameters are rendered as ':name' (positional parameters remain '?')
+ * <br>
+ *  - bound: named parameters with a given value are rendered as the encoded literal value, all others as '?' placeholders
+ * <br>
+ * The parameters which are left as placeholders are collected in their order of appearance
+ */
+public final class SQLRenderer {
+    private final StringBuilder sql = new StringBuilder();
+    private final List<String> parameters = new ArrayList<>();
+    private final boolean named;
+    private final Map<String, ?> values;
+
+    private SQLRenderer(boolean named, Map<String, ?> values) {
+        this.named = named;
+        this.values = values;
+    }
+
+    public static SQLRenderer placeholders() {
+        return new SQLRenderer(false, Collections.emptyMap());
+    }
+
+    public static SQLRenderer named() {
+        return new SQLRenderer(true, Collections.emptyMap());
+    }
+
+    public static SQLRenderer bound(Map<String, ?> values) {
+        if (values == null) {
+            throw new IllegalArgumentException();
+        }
+        return new SQLRenderer(false, values);
+    }
+
+    public SQLRenderer text(String text) {
+        sql.append(text);
+        return this;
+    }
+
+    public SQLRenderer text(char c) {
+        sql.append(c);
+        return this;
+    }
+
+    public SQLRenderer literal(Object value) {
+        Literal.encode(value, sql);
+        return this;
+    }
+
+    public SQLRenderer node(SQLNode node) {
+        node.render(this);
+        return this;
+    }
+
+    /**
+     * render a query parameter
+     *
+     * @param name the parameter name - null for a positional parameter
+     * @return
+     */
+    public SQLRenderer parameter(String name) {
+        if (name != null && values.containsKey(name)) {
+            Literal.encode(values.get(name), sql);
+        } else {
+            parameters.add(name);
+            if (named && name != null) {
+                sql.append(':').append(name);
+            } else {
+                sql.append('?');
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return the parameters rendered as placeholders - a null entry stands for a positional parameter
+     */
+    public List<String> getParameters() {
+        return Collections.unmodifiableList(parameters);
+    }
+
+    public String getSQL() {
+        return sql.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getSQL();
+    }
+}
@@ -0,0 +1,110 @@
+package org.opensearch.languages.sql.query.ast;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable SQL statement - the ordered clauses of the statement (nested statements are kept as {@link Subquery} nodes)
+ * <br>
+ * A statement can be inspected & rewritten (returning a new statement) and is rendered in a single pass over its clauses, the same
+ * statement may be rendered with different bound parameter values
+ */
+public final class Statement implements SQLNode {
+    private final List<Clause> clauses;
+
+    public Statement(List<Clause> clauses) {
+        if (clauses == null) {
+            throw new IllegalArgumentException();
+        }
+        this.clauses = List.copyOf(clauses);
+    }
+
+    public List<Clause> getClauses() {
+        return clauses;
+    }
+
+    /**
+     * @param kind
+     * @return the clauses of the given kind in their statement order
+     */
+    public List<Clause> clauses(Clause.Kind kind) {
+        return clauses.stream().filter(c -> c.getKind() == kind).collect(Collectors.toList());
+    }
+
+    /**
+     * @param clause
+     * @return a statement with the given clause appended
+     */
+    public Statement with(Clause clause) {
+        List<Clause> derived = new ArrayList<>(clauses.size() + 1);
+        derived.addAll(clauses);
+        derived.add(clause);
+        return new Statement(derived);
+    }
+
+    /**
+     * @param rewrite
+     * @return a statement with each of its clauses replaced by the rewritten clause
+     */
+    public Statement rewrite(UnaryOperator<Clause> rewrite) {
+        List<Clause> derived = new ArrayList<>(clauses.size());
+        for (Clause clause : clauses) {
+            derived.add(rewrite.apply(clause));
+        }
+        return new Statement(derived);
+    }
+
+    /**
+     * @return the statement's SQL with '?' placeholders for all its parameters
+     */
+    public String getSQL() {
+        return SQLRenderer.placeholders().node(this).getSQL();
+    }
+
+    /**
+     * @return the statement's parameters in their order of appearance - a null entry stands for a positional parameter
+     */
+    public List<String> getParameters() {
+        return SQLRenderer.placeholders().node(this).getParameters();
+    }
+
+    /**
+     * render the statement with the given named parameter values as literals - parameters without a value remain '?' placeholders
+     *
+     * @param values
+     * @return
+     */
+    public String render(Map<String, ?> values) {
+        return SQLRenderer.bound(values).node(this).getSQL();
+    }
+
+    @Override
+    public void render(SQLRenderer renderer) {
+        for (Clause clause : clauses) {
+            renderer.node(clause);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return clauses.equals(((Statement) o).clauses);
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    /**
+     * @return the statement's SQL with named parameters as ':name'
+     */
+    @Override
+    public String toString() {
+        return SQLRenderer.named().node(this).getSQL();
+    }
+}
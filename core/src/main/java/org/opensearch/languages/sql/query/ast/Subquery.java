@@ -0,0 +1,68 @@
+package org.opensearch.languages.sql.query.ast;
+
+import java.util.Objects;
+
+/**
+ * A nested (parenthesized) statement - optionally preceded by an operator ('in', 'exists', ...) and followed by an alias
+ * <br>
+ * The nested statement is kept as a node and is rendered together with its enclosing statement
+ */
+public final class Subquery implements SQLNode {
+    private final String operator;
+    private final Statement statement;
+    private final String alias;
+
+    public Subquery(String operator, Statement statement, String alias) {
+        if (statement == null) {
+            throw new IllegalArgumentException();
+        }
+        this.operator = operator;
+        this.statement = statement;
+        this.alias = alias;
+    }
+
+    public static Subquery of(Statement statement) {
+        return new Subquery(null, statement, null);
+    }
+
+    public String getOperator() {
+        return operator;
+    }
+
+    public Statement getStatement() {
+        return statement;
+    }
+
+    public String getAlias() {
+        return alias;
+    }
+
+    @Override
+    public void render(SQLRenderer renderer) {
+        if (operator != null) {
+            renderer.text(operator).text(' ');
+        }
+        renderer.text('(').node(statement).text(')');
+        if (alias != null) {
+            renderer.text(' ').text(alias);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Subquery subquery = (Subquery) o;
+        return Objects.equals(operator, subquery.operator) && statement.equals(subquery.statement) && Objects.equals(alias, subquery.alias);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operator, statement, alias);
+    }
+
+    @Override
+    public String toString() {
+        return SQLRenderer.named().node(this).getSQL();
+    }
+}
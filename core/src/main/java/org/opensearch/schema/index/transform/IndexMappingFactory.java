@@ -10,6 +10,7 @@ import org.opensearch.schema.index.schema.IndexProvider;
 import org.opensearch.schema.index.template.PutIndexTemplateRequestBuilder;
 import org.opensearch.schema.ontology.Accessor;
 import org.opensearch.schema.ontology.Ontology;
+import org.opensearch.schema.ontology.OntologySnapshot;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -70,13 +71,14 @@ public class IndexMappingFactory implements OntologyIndexGenerator {
     public Map<String, PutIndexTemplateRequestBuilder> buildRequests() {
         //generate the index template requests
         Map<String, PutIndexTemplateRequestBuilder> requests = new HashMap<>();
-        Accessor ontology = new Accessor(this.ontology);
+        OntologySnapshot snapshot = OntologySnapshot.of(this.ontology);
+        Accessor ontology = snapshot.accessor();
         //map the entities index
         entitiesMappingBuilder.map(ontology, client, requests);
         //map the relationships index
         relationsMappingBuilder.map(ontology, client, requests);
         //map the special projection index
-        projectionMappingBuilder.map(projectionMappingBuilder.generateProjectionOntology(this.ontology), client, requests);
+        projectionMappingBuilder.map(projectionMappingBuilder.generateProjectionOntology(snapshot), client, requests);
         return requests;
     }
 }
@@ -32,18 +32,30 @@ public class IndexProjectionMappingBuilder {
      * @return
      */
     Accessor generateProjectionOntology(Ontology ontology) {
-        //adding projection related metadata
-        Ontology clone = new Ontology(ontology);
+        return generateProjectionOntology(OntologySnapshot.of(ontology));
+    }
+
+    /**
+     * wrap entities with projection related metadata fields - the projection ontology is derived from the given snapshot,
+     * only the modified entities & relations are copied
+     *
+     * @param ontology
+     * @return
+     */
+    Accessor generateProjectionOntology(OntologySnapshot ontology) {
         //add projection related metadata
-        clone.getEntityTypes().forEach(e -> e.setMetadata(Collections.singletonList("tag")));
-        clone.getRelationshipTypes().forEach(r -> r.setMetadata(Collections.singletonList("tag")));
-        clone.getRelationshipTypes().forEach(r -> r.setMetadata(Collections.singletonList(OntologyIndexGenerator.EdgeSchemaConfig.DEST_TYPE)));
-        clone.getRelationshipTypes().forEach(r -> r.setMetadata(Collections.singletonList(OntologyIndexGenerator.EdgeSchemaConfig.DEST_ID)));
-
-        clone.getProperties().add(new Property("tag", "tag", PrimitiveType.Types.STRING.asType()));
-        clone.getProperties().add(new Property(OntologyIndexGenerator.EdgeSchemaConfig.DEST_TYPE, OntologyIndexGenerator.EdgeSchemaConfig.DEST_TYPE, PrimitiveType.Types.STRING.asType()));
-        clone.getProperties().add(new Property(OntologyIndexGenerator.EdgeSchemaConfig.DEST_ID, OntologyIndexGenerator.EdgeSchemaConfig.DEST_ID, PrimitiveType.Types.STRING.asType()));
-        return new Accessor(clone);
+        return ontology
+                .modifyEntityTypes(e -> e.setMetadata(Collections.singletonList("tag")))
+                .modifyRelationshipTypes(r -> {
+                    r.setMetadata(Collections.singletonList("tag"));
+                    r.setMetadata(Collections.singletonList(OntologyIndexGenerator.EdgeSchemaConfig.DEST_TYPE));
+                    r.setMetadata(Collections.singletonList(OntologyIndexGenerator.EdgeSchemaConfig.DEST_ID));
+                })
+                .withProperties(Arrays.asList(
+                        new Property("tag", "tag", PrimitiveType.Types.STRING.asType()),
+                        new Property(OntologyIndexGenerator.EdgeSchemaConfig.DEST_TYPE, OntologyIndexGenerator.EdgeSchemaConfig.DEST_TYPE, PrimitiveType.Types.STRING.asType()),
+                        new Property(OntologyIndexGenerator.EdgeSchemaConfig.DEST_ID, OntologyIndexGenerator.EdgeSchemaConfig.DEST_ID, PrimitiveType.Types.STRING.asType())))
+                .accessor();
     }
 
 
@@ -9,7 +9,6 @@ import java.util.*;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import static org.opensearch.schema.index.schema.IndexMappingUtils.MAPPING_TYPE;
 import static org.opensearch.schema.ontology.PhysicalEntityRelationsDirectiveType.*;
@@ -36,6 +35,71 @@ public class Accessor implements Supplier<Ontology> {
                 .toJavaMap(property -> new Tuple2<>(property.getpType(), property));
         this.propertiesByName = Stream.ofAll(ontology.getProperties())
                 .toJavaMap(property -> new Tuple2<>(property.getName(), property));
+
+        //relations adjacency indexes - all lists keep the ontology relations (and their pairs) order
+        this.relations = Collections.unmodifiableList(new ArrayList<>(ontology.getRelationshipTypes()));
+        Map<String, List<Tuple2<RelationshipType, EPair>>> pairsBySideA = new HashMap<>();
+        Map<String, List<Tuple2<RelationshipType, EPair>>> pairsBySideB = new HashMap<>();
+        Map<String, List<RelationshipType>> relationsBySideA = new HashMap<>();
+        Map<String, List<RelationshipType>> relationsBySideB = new HashMap<>();
+        Map<Tuple2<String, String>, List<EPair>> pairsBySides = new HashMap<>();
+        Map<Tuple2<String, String>, List<RelationshipType>> relationsBySides = new HashMap<>();
+        for (RelationshipType relation : this.relations) {
+            for (EPair pair : relation.getePairs()) {
+                if (pair.geteTypeA() != null) {
+                    pairsBySideA.computeIfAbsent(pair.geteTypeA(), k -> new ArrayList<>()).add(new Tuple2<>(relation, pair));
+                    addRelation(relationsBySideA.computeIfAbsent(pair.geteTypeA(), k -> new ArrayList<>()), relation);
+                }
+                if (pair.geteTypeB() != null) {
+                    pairsBySideB.computeIfAbsent(pair.geteTypeB(), k -> new ArrayList<>()).add(new Tuple2<>(relation, pair));
+                    addRelation(relationsBySideB.computeIfAbsent(pair.geteTypeB(), k -> new ArrayList<>()), relation);
+                }
+                Tuple2<String, String> sides = new Tuple2<>(pair.geteTypeA(), pair.geteTypeB());
+                pairsBySides.computeIfAbsent(sides, k -> new ArrayList<>()).add(pair);
+                addRelation(relationsBySides.computeIfAbsent(sides, k -> new ArrayList<>()), relation);
+            }
+        }
+        this.pairsBySideA = freeze(pairsBySideA);
+        this.pairsBySideB = freeze(pairsBySideB);
+        this.relationsBySideA = freeze(relationsBySideA);
+        this.relationsBySideB = freeze(relationsBySideB);
+        this.pairsBySides = freeze(pairsBySides);
+        this.relationsBySides = freeze(relationsBySides);
+
+        //type indexes - the first type of a given name is the matching one
+        this.primitivesByType = new HashMap<>();
+        ontology.getPrimitiveTypes().forEach(type -> primitivesByType.putIfAbsent(type.getType(), type));
+        this.enumeratedTypePositions = new HashMap<>();
+        for (int i = 0; i < ontology.getEnumeratedTypes().size(); i++) {
+            enumeratedTypePositions.putIfAbsent(ontology.getEnumeratedTypes().get(i).geteType().toLowerCase(Locale.ROOT), i);
+        }
+        //named elements by their matching priority - entity over relation over property
+        this.typesByName = new HashMap<>();
+        propertiesByName.forEach((name, property) -> typesByName.put(name, Tuple.of(NodeType.PROPERTY, property.getpType())));
+        relationsByName.forEach((name, relation) -> typesByName.put(name, Tuple.of(NodeType.RELATION, relation.getrType())));
+        entitiesByName.forEach((name, entity) -> typesByName.put(name, Tuple.of(NodeType.ENTITY, entity.geteType())));
+        //entities which are the type of another entity's field
+        this.nestedEntities = new HashSet<>();
+        for (EntityType entity : ontology.getEntityTypes()) {
+            for (String field : entity.fields()) {
+                Property property = propertiesByName.get(field);
+                if (property != null && property.getType() != null && entitiesByName.containsKey(property.getType().getType()))
+                    nestedEntities.add(property.getType().getType());
+            }
+        }
+    }
+
+    /**
+     * add the relation once - the pairs of a relation are indexed one after the other
+     */
+    private static void addRelation(List<RelationshipType> relations, RelationshipType relation) {
+        if (relations.isEmpty() || relations.get(relations.size() - 1) != relation)
+            relations.add(relation);
+    }
+
+    private static <K, V> Map<K, List<V>> freeze(Map<K, List<V>> index) {
+        index.replaceAll((key, values) -> Collections.unmodifiableList(values));
+        return Collections.unmodifiableMap(index);
     }
     //endregion
 
@@ -113,10 +177,7 @@ public class Accessor implements Supplier<Ontology> {
      * @return
      */
     public List<EPair> relationsPairs(EntityType source, EntityType target) {
-        return relations().stream()
-                .flatMap(p -> p.getePairs().stream())
-                .filter(p -> source.geteType().equals(p.geteTypeA()) && target.geteType().equals(p.geteTypeB()))
-                .collect(Collectors.toList());
+        return pairsBySides.getOrDefault(new Tuple2<>(source.geteType(), target.geteType()), Collections.emptyList());
     }
     /**
      * get relationship pairs in which the source entity type if given as a parameter
@@ -126,10 +187,9 @@ public class Accessor implements Supplier<Ontology> {
      * @return
      */
     public Collection<EPair> relationsPairsBySourceEntity(EntityType source, Predicate<RelationshipType> relationPredicate) {
-        return relations().stream()
-                .filter(relationPredicate::test)
-                .flatMap(p -> p.getePairs().stream())
-                .filter(p -> source.geteType().equals(p.geteTypeA()))
+        return pairsBySideA.getOrDefault(source.geteType(), Collections.emptyList()).stream()
+                .filter(p -> relationPredicate.test(p._1))
+                .map(p -> p._2)
                 .collect(Collectors.toList());
     }
 
@@ -139,11 +199,7 @@ public class Accessor implements Supplier<Ontology> {
      * @return
      */
     public List<RelationshipType> relationByTargetEntity(EntityType target) {
-        return relations().stream()
-                .filter(r -> r.getePairs().stream()
-                        .anyMatch(p->p.geteTypeB().equals(target.geteType())))
-                .collect(Collectors.toList());
-
+        return relationsBySideB.getOrDefault(target.geteType(), Collections.emptyList());
     }
 
     /**
@@ -152,11 +208,7 @@ public class Accessor implements Supplier<Ontology> {
      * @return
      */
     public List<RelationshipType> relationBySourceEntity(EntityType source) {
-        return relations().stream()
-                .filter(r -> r.getePairs().stream()
-                        .anyMatch(p->p.geteTypeA().equals(source.geteType())))
-                .collect(Collectors.toList());
-
+        return relationsBySideA.getOrDefault(source.geteType(), Collections.emptyList());
     }
     /**
      * get relationship pairs in which the target entity type if given as a parameter
@@ -166,10 +218,9 @@ public class Accessor implements Supplier<Ontology> {
      * @return
      */
     public Collection<EPair> relationsPairsByTargetEntity(EntityType target, Predicate<RelationshipType> relationPredicate) {
-        return relations().stream()
-                .filter(relationPredicate::test)
-                .flatMap(p -> p.getePairs().stream())
-                .filter(p -> target.geteType().equals(p.geteTypeB()))
+        return pairsBySideB.getOrDefault(target.geteType(), Collections.emptyList()).stream()
+                .filter(p -> relationPredicate.test(p._1))
+                .map(p -> p._2)
                 .collect(Collectors.toList());
     }
 
@@ -349,36 +400,45 @@ public class Accessor implements Supplier<Ontology> {
         return $relation(property$(prop).getpType());
     }
 
+    /**
+     * @return the (unmodifiable) ontology relations
+     */
     public List<RelationshipType> relations() {
-        return Stream.ofAll(ontology.getRelationshipTypes()).toJavaList();
+        return relations;
     }
 
     public List<RelationshipType> relationBySideA(String eType) {
-        return Stream.ofAll(ontology.getRelationshipTypes()).filter(r -> r.hasSideA(eType)).toJavaList();
+        return relationsBySideA.getOrDefault(eType, Collections.emptyList());
     }
 
     public List<RelationshipType> relationsByPair(EntityType source, EntityType target) {
-        return relations().stream()
-                .filter(p -> p.getePairs().stream()
-                        .anyMatch(pair -> source.geteType().equals(pair.geteTypeA())
-                                      && target.geteType().equals(pair.geteTypeB())))
-                .collect(Collectors.toList());
-}
+        return relationsBySides.getOrDefault(new Tuple2<>(source.geteType(), target.geteType()), Collections.emptyList());
+    }
 
     public Optional<PrimitiveType> primitiveType(String typeName) {
-        return Stream.ofAll(ontology.getPrimitiveTypes())
-                .filter(type -> type.getType().equals(typeName))
-                .toJavaOptional();
+        return Optional.ofNullable(primitivesByType.get(typeName));
     }
 
     public List<EnumeratedType> getEnumeratedTypes() {
         return ontology.getEnumeratedTypes();
     }
 
+    /**
+     * get the enumerated type by its (case insensitive) type name, with or without the enumerated types prefix
+     *
+     * @param typeName
+     * @return
+     */
     public Optional<EnumeratedType> enumeratedType(String typeName) {
-        return Stream.ofAll(ontology.getEnumeratedTypes())
-                .filter(type -> type.isOfType(typeName))
-                .toJavaOptional();
+        if (typeName == null)
+            return Optional.empty();
+        Integer byName = enumeratedTypePositions.get(typeName.toLowerCase(Locale.ROOT));
+        Integer byPrefixedName = enumeratedTypePositions.get((EnumeratedType.TYPE + typeName).toLowerCase(Locale.ROOT));
+        if (byName == null && byPrefixedName == null)
+            return Optional.empty();
+        //the first enumerated type matching any of the names
+        int position = byName == null ? byPrefixedName : byPrefixedName == null ? byName : Math.min(byName, byPrefixedName);
+        return Optional.of(ontology.getEnumeratedTypes().get(position));
     }
 
     public EnumeratedType enumeratedType$(String typeName) {
@@ -392,15 +452,8 @@ public class Accessor implements Supplier<Ontology> {
      * @return
      */
     public boolean isNestedEntity(String eType) {
-        if (!entity(eType).isPresent()) return false;
-        // for each existing entity, try each field and verify is its of an entity type - therefor a nested entity of some other entity
-        return StreamSupport.stream(entities().spliterator(), false)
-                .anyMatch(en -> en.fields().stream()
-                        .filter(p -> property(p).isPresent())
-                        .filter(p -> property(p).get().getType().getType().equals(eType))
-                        .anyMatch(p->entity(property(p).get().getType().getType())
-                                .isPresent())
-                );
+        // an entity is nested when some entity has a field of its type
+        return nestedEntities.contains(eType);
     }
 
 
@@ -414,17 +467,8 @@ public class Accessor implements Supplier<Ontology> {
         //ENUMERATED TYPE
         if (enumeratedType(name).isPresent())
             return Optional.of(Tuple.of(NodeType.ENUM, enumeratedType$(name).geteType()));
-        //entity TYPE
-        if (eType(name).isPresent())
-            return Optional.of(Tuple.of(NodeType.ENTITY, eType$(name)));
-        //relation TYPE
-        if (rType(name).isPresent())
-            return Optional.of(Tuple.of(NodeType.RELATION, rType$(name)));
-        //property TYPE
-        if (property(name).isPresent())
-            return Optional.of(Tuple.of(NodeType.PROPERTY, property$(name).getpType()));
-
-        return Optional.empty();
+        //entity / relation / property TYPE
+        return Optional.ofNullable(typesByName.get(name));
     }
 
     /**
@@ -489,6 +533,19 @@ public class Accessor implements Supplier<Ontology> {
     private Map<String, Property> propertiesByName;
     private Map<String, Property> propertiesByPtype;
 
+    private List<RelationshipType> relations;
+    private Map<String, List<Tuple2<RelationshipType, EPair>>> pairsBySideA;
+    private Map<String, List<Tuple2<RelationshipType, EPair>>> pairsBySideB;
+    private Map<String, List<RelationshipType>> relationsBySideA;
+    private Map<String, List<RelationshipType>> relationsBySideB;
+    private Map<Tuple2<String, String>, List<EPair>> pairsBySides;
+    private Map<Tuple2<String, String>, List<RelationshipType>> relationsBySides;
+
+    private Map<String, PrimitiveType> primitivesByType;
+    private Map<String, Integer> enumeratedTypePositions;
+    private Map<String, Tuple2<NodeType, String>> typesByName;
+    private Set<String> nestedEntities;
+
 
 
     public enum NodeType {
@@ -0,0 +1,290 @@
+package org.opensearch.schema.ontology;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.opensearch.schema.SchemaError;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of an {@link Ontology} which can be shared between threads & caches without defensive copies
+ * <br>
+ * The snapshot owns its elements - they are copied once when the snapshot is taken and never modified afterwards.
+ * Deriving a modified snapshot only copies the modified parts, all other collections & elements are shared with the origin snapshot.
+ * <br>
+ * Each snapshot has a version (incremented on every derivation) and a content hash of its (canonical) structure
+ */
+public final class OntologySnapshot {
+    private static final ObjectMapper canonicalMapper = JsonMapper.builder()
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+            .build();
+
+    private final String ont;
+    private final List<DirectiveType> directives;
+    private final List<EntityType> entityTypes;
+    private final List<RelationshipType> relationshipTypes;
+    private final List<EnumeratedType> enumeratedTypes;
+    private final Set<Property> properties;
+    private final long version;
+
+    private volatile String contentHash;
+    private volatile Accessor accessor;
+
+    private OntologySnapshot(String ont, List<DirectiveType> directives, List<EntityType> entityTypes, List<RelationshipType> relationshipTypes,
+                             List<EnumeratedType> enumeratedTypes, Set<Property> properties, long version) {
+        this.ont = ont;
+        this.directives = directives;
+        this.entityTypes = entityTypes;
+        this.relationshipTypes = relationshipTypes;
+        this.enumeratedTypes = enumeratedTypes;
+        this.properties = properties;
+        this.version = version;
+    }
+
+    /**
+     * take a snapshot of the given ontology - the ontology elements are copied so that later changes to the ontology are not reflected
+     *
+     * @param ontology
+     * @return
+     */
+    public static OntologySnapshot of(Ontology ontology) {
+        return new OntologySnapshot(ontology.getOnt(),
+                freeze(new ArrayList<>(ontology.getDirectives())),
+                freeze(ontology.getEntityTypes().stream().map(EntityType::clone).collect(Collectors.toList())),
+                freeze(ontology.getRelationshipTypes().stream().map(RelationshipType::clone).collect(Collectors.toList())),
+                freeze(ontology.getEnumeratedTypes().stream().map(EnumeratedType::clone).collect(Collectors.toList())),
+                freezeSet(ontology.getProperties().stream().map(Property::clone).collect(Collectors.toCollection(LinkedHashSet::new))),
+                1);
+    }
+
+    private static <T> List<T> freeze(List<T> list) {
+        return Collections.unmodifiableList(list);
+    }
+
+    private static <T> Set<T> freezeSet(Set<T> set) {
+        return Collections.unmodifiableSet(set);
+    }
+
+    //region Derivations
+
+    /**
+     * derive a snapshot with the given ontology name
+     *
+     * @param ont
+     * @return
+     */
+    public OntologySnapshot withOnt(String ont) {
+        return new OntologySnapshot(ont, directives, entityTypes, relationshipTypes, enumeratedTypes, properties, version + 1);
+    }
+
+    /**
+     * derive a snapshot with the given properties added (properties equal to existing ones are ignored)
+     *
+     * @param added
+     * @return
+     */
+    public OntologySnapshot withProperties(Collection<Property> added) {
+        Set<Property> derived = new LinkedHashSet<>(properties);
+        derived.addAll(added);
+        return new OntologySnapshot(ont, directives, entityTypes, relationshipTypes, enumeratedTypes, freezeSet(derived), version + 1);
+    }
+
+    /**
+     * derive a snapshot with the given entity type added - an existing entity type with the same eType is replaced
+     *
+     * @param entityType
+     * @return
+     */
+    public OntologySnapshot withEntityType(EntityType entityType) {
+        EntityType owned = entityType.clone();
+        List<EntityType> derived = entityTypes.stream()
+                .filter(e -> !e.geteType().equals(owned.geteType()))
+                .collect(Collectors.toCollection(ArrayList::new));
+        derived.add(owned);
+        return new OntologySnapshot(ont, directives, freeze(derived), relationshipTypes, enumeratedTypes, properties, version + 1);
+    }
+
+    /**
+     * derive a snapshot in which every entity type is modified by the given modification - the modification is applied to a copy
+     * of each entity type, the origin snapshot elements remain unchanged
+     *
+     * @param modification
+     * @return
+     */
+    public OntologySnapshot modifyEntityTypes(Consumer<EntityType> modification) {
+        return new OntologySnapshot(ont, directives, freeze(entityTypes.stream().map(e -> {
+            EntityType copy = e.clone();
+            modification.accept(copy);
+            return copy;
+        }).collect(Collectors.toList())), relationshipTypes, enumeratedTypes, properties, version + 1);
+    }
+
+    /**
+     * derive a snapshot in which every relationship type is modified by the given modification - the modification is applied to a copy
+     * of each relationship type, the origin snapshot elements remain unchanged
+     *
+     * @param modification
+     * @return
+     */
+    public OntologySnapshot modifyRelationshipTypes(Consumer<RelationshipType> modification) {
+        return new OntologySnapshot(ont, directives, entityTypes, freeze(relationshipTypes.stream().map(r -> {
+            RelationshipType copy = r.clone();
+            modification.accept(copy);
+            return copy;
+        }).collect(Collectors.toList())), enumeratedTypes, properties, version + 1);
+    }
+    //endregion
+
+    //region Views
+
+    /**
+     * read only ontology view over this snapshot - the view shares the snapshot collections (no copies) which reject any modification.
+     * The elements must not be modified using their setters
+     *
+     * @return
+     */
+    public Ontology asOntology() {
+        Ontology ontology = new Ontology();
+        ontology.setOnt(ont);
+        ontology.setDirectives(directives);
+        ontology.setEntityTypes(entityTypes);
+        ontology.setRelationshipTypes(relationshipTypes);
+        ontology.setEnumeratedTypes(enumeratedTypes);
+        ontology.setProperties(properties);
+        return ontology;
+    }
+
+    /**
+     * @return a mutable (deep) copy of this snapshot
+     */
+    public Ontology toOntology() {
+        Ontology ontology = new Ontology(asOntology());
+        ontology.setOnt(ont);
+        return ontology;
+    }
+
+    /**
+     * the accessor over this snapshot - created once and shared by all callers
+     *
+     * @return
+     */
+    public Accessor accessor() {
+        Accessor current = accessor;
+        if (current == null) {
+            synchronized (this) {
+                current = accessor;
+                if (current == null) {
+                    accessor = current = new Accessor(asOntology());
+                }
+            }
+        }
+        return current;
+    }
+    //endregion
+
+    //region Properties
+    public String getOnt() {
+        return ont;
+    }
+
+    public List<DirectiveType> getDirectives() {
+        return directives;
+    }
+
+    public List<EntityType> getEntityTypes() {
+        return entityTypes;
+    }
+
+    public List<RelationshipType> getRelationshipTypes() {
+        return relationshipTypes;
+    }
+
+    public List<EnumeratedType> getEnumeratedTypes() {
+        return enumeratedTypes;
+    }
+
+    public Set<Property> getProperties() {
+        return properties;
+    }
+
+    /**
+     * @return the derivation version of the snapshot - a snapshot taken from an ontology has version 1
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * the SHA-256 hash of the snapshot's canonical structure (computed once) - equal for snapshots of the same content
+     * regardless of their version or properties order
+     *
+     * @return
+     */
+    public String getContentHash() {
+        String current = contentHash;
+        if (current == null) {
+            contentHash = current = hash();
+        }
+        return current;
+    }
+    //endregion
+
+    private String hash() {
+        Map<String, Object> canonical = new LinkedHashMap<>();
+        canonical.put("ont", ont);
+        canonical.put("directives", directives);
+        canonical.put("entityTypes", entityTypes);
+        canonical.put("relationshipTypes", relationshipTypes);
+        canonical.put("enumeratedTypes", enumeratedTypes);
+        canonical.put("properties", properties.stream()
+                .sorted(Comparator.comparing(Property::getpType, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(Property::getName, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .collect(Collectors.toList()));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonicalMapper.writeValueAsString(canonical).getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new SchemaError.SchemaErrorException("Failed hashing the ontology " + ont, e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OntologySnapshot that = (OntologySnapshot) o;
+        return getContentHash().equals(that.getContentHash());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getContentHash());
+    }
+
+    @Override
+    public String toString() {
+        return "OntologySnapshot [ont = " + ont + ", version = " + version + ", contentHash = " + getContentHash() + "]";
+    }
+}
@@ -0,0 +1,137 @@
+package org.opensearch.graphql;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.languages.oql.query.Query;
+import org.opensearch.languages.oql.query.descriptor.QueryDescriptor;
+import org.opensearch.languages.oql.query.entity.ETyped;
+import org.opensearch.schema.ontology.Accessor;
+import org.opensearch.schema.ontology.Ontology;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the translated queries cache - hits, ontology invalidation, size & TTL eviction
+ */
+class CachingTransformerTest {
+    private final AtomicInteger translations = new AtomicInteger();
+    private final AtomicLong clock = new AtomicLong();
+
+    private final Transformer<Query> transformer = (accessor, query) -> {
+        translations.incrementAndGet();
+        return Query.Builder.instance()
+                .withOnt(accessor.name())
+                .withName(query)
+                .start()
+                .eType("Author", "A")
+                .build();
+    };
+
+    private static Accessor accessor(String name) {
+        Ontology ontology = new Ontology();
+        ontology.setOnt(name);
+        return new Accessor(ontology);
+    }
+
+    private CachingTransformer<Query> cache(int maxSize, Duration ttl) {
+        return new CachingTransformer<>(transformer, Query.QueryUtils::copy, maxSize, ttl, clock::get);
+    }
+
+    @Test
+    void testRepeatedQueryIsTranslatedOnce() {
+        CachingTransformer<Query> cache = cache(10, Duration.ofMinutes(1));
+        Accessor accessor = accessor("simple");
+
+        Query first = cache.transform(accessor, "{ author { name } }");
+        Query second = cache.transform(accessor, "{ author { name } }");
+
+        assertEquals(1, translations.get());
+        assertEquals(QueryDescriptor.print(first), QueryDescriptor.print(second));
+        //copy on read - callers never share the same query structure
+        assertNotSame(first, second);
+        assertNotSame(first.getElements(), second.getElements());
+        assertEquals(1, cache.stats().getHits());
+        assertEquals(1, cache.stats().getMisses());
+    }
+
+    @Test
+    void testChangedOntologyInvalidatesEntries() {
+        CachingTransformer<Query> cache = cache(10, Duration.ofMinutes(1));
+
+        cache.transform(accessor("simple"), "{ author { name } }");
+        //same ontology name with a new accessor (changed ontology)
+        cache.transform(accessor("simple"), "{ author { name } }");
+
+        assertEquals(2, translations.get());
+        assertEquals(0, cache.stats().getHits());
+        //invalidated, not evicted
+        assertEquals(0, cache.stats().getEvictions());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testCachedQueryElementsAreNotShared() {
+        CachingTransformer<Query> cache = cache(10, Duration.ofMinutes(1));
+        Accessor accessor = accessor("simple");
+
+        Query first = cache.transform(accessor, "{ author { name } }");
+        String expected = QueryDescriptor.print(first);
+        ETyped author = (ETyped) first.getElements().get(1);
+        //a caller mutating its query element does not change the cached query
+        author.seteType("Book");
+
+        Query second = cache.transform(accessor, "{ author { name } }");
+        assertNotSame(author, second.getElements().get(1));
+        assertEquals("Author", ((ETyped) second.getElements().get(1)).geteType());
+        assertEquals(expected, QueryDescriptor.print(second));
+    }
+
+    @Test
+    void testExpiredEntryIsTranslatedAgain() {
+        CachingTransformer<Query> cache = cache(10, Duration.ofSeconds(30));
+        Accessor accessor = accessor("simple");
+
+        cache.transform(accessor, "{ author { name } }");
+        clock.addAndGet(Duration.ofSeconds(29).toNanos());
+        cache.transform(accessor, "{ author { name } }");
+        assertEquals(1, translations.get());
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        cache.transform(accessor, "{ author { name } }");
+        assertEquals(2, translations.get());
+        assertEquals(1, cache.stats().getEvictions());
+    }
+
+    @Test
+    void testLeastRecentlyUsedQueryIsEvicted() {
+        CachingTransformer<Query> cache = cache(2, Duration.ofMinutes(1));
+        Accessor accessor = accessor("simple");
+
+        cache.transform(accessor, "{ a }");
+        cache.transform(accessor, "{ b }");
+        cache.transform(accessor, "{ a }");
+        cache.transform(accessor, "{ c }");
+        //b was evicted
+        cache.transform(accessor, "{ b }");
+
+        assertEquals(4, translations.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testTranslationErrorIsNotCached() {
+        CachingTransformer<Query> cache = new CachingTransformer<>((accessor, query) -> {
+            translations.incrementAndGet();
+            throw new IllegalArgumentException(query);
+        }, UnaryOperator.identity());
+
+        assertThrows(IllegalArgumentException.class, () -> cache.transform(accessor("simple"), "{ human }"));
+        assertThrows(IllegalArgumentException.class, () -> cache.transform(accessor("simple"), "{ human }"));
+        assertEquals(2, translations.get());
+        assertEquals(0, cache.size());
+    }
+}
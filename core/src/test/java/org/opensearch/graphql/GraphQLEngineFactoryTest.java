@@ -0,0 +1,54 @@
+package org.opensearch.graphql;
+
+import graphql.GraphQL;
+import graphql.schema.idl.WiringFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the compiled engine provider follows the registered types
+ */
+class GraphQLEngineFactoryTest {
+
+    private static boolean addType(String sdl) {
+        return GraphQLEngineFactory.addType(new ByteArrayInputStream(sdl.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @BeforeEach
+    void setUp() {
+        GraphQLEngineFactory.reset();
+        assertTrue(addType("type Query { name: String }"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphQLEngineFactory.reset();
+    }
+
+    @Test
+    void testCompiledEngineIsReusedUntilTheTypesChange() {
+        Supplier<GraphQL> engines = GraphQLEngineFactory.compiledEngine(() -> new WiringFactory() {});
+        GraphQL engine = engines.get();
+        assertSame(engine, engines.get());
+        assertNull(engine.getGraphQLSchema().getType("Author"));
+
+        assertTrue(addType("type Author { name: String }"));
+        GraphQL recompiled = engines.get();
+        assertNotSame(engine, recompiled);
+        assertNotNull(recompiled.getGraphQLSchema().getType("Author"));
+        assertSame(recompiled, engines.get());
+
+        GraphQLEngineFactory.reset();
+        assertTrue(addType("type Query { title: String }"));
+        GraphQL afterReset = engines.get();
+        assertNotSame(recompiled, afterReset);
+        assertNull(afterReset.getGraphQLSchema().getType("Author"));
+    }
+}
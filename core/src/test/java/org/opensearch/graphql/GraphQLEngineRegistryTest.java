@@ -0,0 +1,142 @@
+package org.opensearch.graphql;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.languages.oql.graphql.GraphQLToOQLTransformer;
+import org.opensearch.languages.oql.query.Query;
+import org.opensearch.languages.oql.query.descriptor.QueryDescriptor;
+import org.opensearch.schema.SchemaError;
+
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the multi-tenant GQL engine registry - isolation, lazy build & LRU eviction of domains
+ */
+class GraphQLEngineRegistryTest {
+    private final Map<String, AtomicInteger> loads = new ConcurrentHashMap<>();
+
+    private List<InputStream> sources(String domain) {
+        loads.computeIfAbsent(domain, d -> new AtomicInteger()).incrementAndGet();
+        try {
+            if (domain.startsWith("flight")) {
+                return Arrays.asList(new FileInputStream("../schema/utils.graphql"),
+                        new FileInputStream("../schema/flight/flight.graphql"),
+                        new FileInputStream("../schema/flight/flight-query-types.graphql"));
+            }
+            if (domain.startsWith("simple")) {
+                return Arrays.asList(new FileInputStream("../schema/filter.graphql"),
+                        new FileInputStream("../schema/aggregation.graphql"),
+                        new FileInputStream("../schema/utils.graphql"),
+                        new FileInputStream("../schema/sample/simple.graphql"));
+            }
+        } catch (FileNotFoundException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Collections.emptyList();
+    }
+
+    private int loads(String domain) {
+        return loads.getOrDefault(domain, new AtomicInteger()).get();
+    }
+
+    @Test
+    void testDomainsAreIsolated() {
+        GraphQLEngineRegistry registry = new GraphQLEngineRegistry(this::sources);
+        GraphQLEngineRegistry.Domain simple = registry.domain("simple");
+        GraphQLEngineRegistry.Domain flight = registry.domain("flight");
+
+        assertNotSame(simple.registry(), flight.registry());
+        assertNotNull(simple.schema().getType("Author"));
+        assertNull(simple.schema().getType("Flight"));
+        assertNotNull(flight.schema().getType("Flight"));
+        assertNull(flight.schema().getType("Author"));
+        assertEquals(Set.of("simple", "flight"), registry.domains());
+    }
+
+    @Test
+    void testDomainIsBuiltLazilyAndOnce() throws Exception {
+        GraphQLEngineRegistry registry = new GraphQLEngineRegistry(this::sources);
+        assertEquals(0, registry.size());
+        assertEquals(0, loads("simple"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<GraphQLEngineRegistry.Domain>> domains = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                domains.add(executor.submit(() -> registry.domain("simple")));
+            }
+            for (Future<GraphQLEngineRegistry.Domain> domain : domains) {
+                assertSame(domains.get(0).get(30, TimeUnit.SECONDS), domain.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads("simple"));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void testLeastRecentlyUsedDomainIsEvicted() {
+        GraphQLEngineRegistry registry = new GraphQLEngineRegistry(this::sources, 2);
+        registry.domain("simple");
+        registry.domain("flight");
+        //touch simple so that flight becomes the least recently used
+        registry.domain("simple");
+        registry.domain("simple-copy");
+
+        assertEquals(Set.of("simple", "simple-copy"), registry.domains());
+        //evicted domain is rebuilt on access
+        assertNotNull(registry.domain("flight").schema().getType("Flight"));
+        assertEquals(2, loads("flight"));
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    void testMissingDomainIsNotKept() {
+        GraphQLEngineRegistry registry = new GraphQLEngineRegistry(this::sources);
+        assertThrows(SchemaError.SchemaErrorException.class, () -> registry.domain("unknown"));
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void testTranslationUsingDomainEngine() {
+        GraphQLEngineRegistry registry = new GraphQLEngineRegistry(this::sources);
+        GraphQLEngineRegistry.Domain domain = registry.domain("simple");
+        GraphQLToOQLTransformer transformer = new GraphQLToOQLTransformer(registry);
+
+        String q = " {\n" +
+                "    author {\n" +
+                "        name,\n" +
+                "        born\n" +
+                "    }\n" +
+                "}";
+        Query query = transformer.transform(domain.accessor(), q);
+        String expected = "[└── Start, \n" +
+                "    ──Typ[Author:1]──Q[2]:{3|4}, \n" +
+                "                           └─?[3]:[name<IdentityProjection>], \n" +
+                "                           └─?[4]:[born<IdentityProjection>]]";
+        assertEquals(expected, QueryDescriptor.print(query));
+        //repeated query is served from the parsed documents cache
+        assertEquals(expected, QueryDescriptor.print(transformer.transform(domain.accessor(), q)));
+        assertEquals(1, registry.documentCache().stats().getMisses());
+        assertEquals(1, registry.documentCache().stats().getHits());
+        //engine is compiled once per language
+        assertSame(domain.engine(GraphQLToOQLTransformer.LANGUAGE, () -> null), domain.engine(GraphQLToOQLTransformer.LANGUAGE, () -> null));
+    }
+}
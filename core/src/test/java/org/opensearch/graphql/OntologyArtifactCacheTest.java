@@ -0,0 +1,94 @@
+package org.opensearch.graphql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.schema.ontology.Ontology;
+import org.opensearch.schema.ontology.OntologySnapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the compiled ontology artifacts cache - translation once per SDL content & persistence between restarts
+ */
+class OntologyArtifactCacheTest {
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final List<String> sources = new ArrayList<>();
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        for (String file : List.of("../schema/filter.graphql", "../schema/aggregation.graphql",
+                "../schema/utils.graphql", "../schema/sample/simple.graphql")) {
+            sources.add(Files.readString(Path.of(file), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testSameSourcesAreTranslatedOnce() {
+        OntologyArtifactCache cache = new OntologyArtifactCache();
+
+        OntologyArtifact first = cache.artifact("simple", sources);
+        OntologyArtifact second = cache.artifact("simple", new ArrayList<>(sources));
+
+        assertSame(first, second);
+        assertSame(first.accessor(), second.accessor());
+        assertTrue(first.accessor().entity("Author").isPresent());
+        assertFalse(first.getIndexProvider().getEntities().isEmpty());
+        assertEquals(1, cache.stats().getMisses());
+        assertEquals(1, cache.stats().getHits());
+    }
+
+    @Test
+    void testChangedSourcesAreTranslatedAgain() {
+        OntologyArtifactCache cache = new OntologyArtifactCache();
+        cache.artifact("simple", sources);
+
+        List<String> changed = new ArrayList<>(sources);
+        changed.set(changed.size() - 1, changed.get(changed.size() - 1) + "\n# changed");
+        cache.artifact("simple", changed);
+        //same sources of another ontology
+        cache.artifact("other", sources);
+
+        assertEquals(3, cache.stats().getMisses());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void testArtifactIsReadBackAfterRestart() throws Exception {
+        AtomicInteger translations = new AtomicInteger();
+        OntologyArtifact compiled = new OntologyArtifactCache(10, directory).artifact("simple", sources);
+
+        //a new cache over the same directory (a restarted node) - no translation takes place
+        OntologyArtifact restored = new OntologyArtifactCache(10, directory).artifact("simple", sources, () -> {
+            translations.incrementAndGet();
+            return new Ontology();
+        });
+
+        assertEquals(0, translations.get());
+        assertNotSame(compiled, restored);
+        assertEquals(compiled.getSourcesHash(), restored.getSourcesHash());
+        //same content regardless of the (unordered) properties order
+        assertEquals(OntologySnapshot.of(compiled.getOntology()).getContentHash(), OntologySnapshot.of(restored.getOntology()).getContentHash());
+        assertEquals(mapper.writeValueAsString(compiled.getIndexProvider()), mapper.writeValueAsString(restored.getIndexProvider()));
+        assertTrue(restored.accessor().entity("Author").isPresent());
+    }
+
+    @Test
+    void testCorruptedArtifactIsTranslatedAgain() throws Exception {
+        Files.write(directory.resolve(OntologyArtifactCache.hash("simple", sources) + ".ontology.sml"), new byte[]{1, 2, 3});
+
+        OntologyArtifact artifact = new OntologyArtifactCache(10, directory).artifact("simple", sources);
+        assertTrue(artifact.accessor().entity("Author").isPresent());
+    }
+}
@@ -0,0 +1,93 @@
+package org.opensearch.graphql;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.language.Document;
+import graphql.validation.ValidationError;
+import graphql.validation.ValidationErrorType;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the parsed query documents cache - hits / misses / evictions & schema version isolation
+ */
+class PreparsedDocumentCacheTest {
+    private final AtomicInteger parsed = new AtomicInteger();
+
+    private final Function<ExecutionInput, PreparsedDocumentEntry> parser = input -> {
+        parsed.incrementAndGet();
+        return new PreparsedDocumentEntry(Document.newDocument().build());
+    };
+
+    private static ExecutionInput query(String query) {
+        return ExecutionInput.newExecutionInput().query(query).build();
+    }
+
+    @Test
+    void testRepeatedQueryIsParsedOnce() {
+        PreparsedDocumentCache cache = new PreparsedDocumentCache();
+        PreparsedDocumentProvider provider = cache.provider("v1");
+
+        PreparsedDocumentEntry first = provider.getDocument(query("{ author { name } }"), parser);
+        PreparsedDocumentEntry second = provider.getDocument(query("{ author { name } }"), parser);
+
+        assertSame(first, second);
+        assertEquals(1, parsed.get());
+        assertEquals(1, cache.stats().getHits());
+        assertEquals(1, cache.stats().getMisses());
+        assertEquals(0.5, cache.stats().hitRate());
+    }
+
+    @Test
+    void testSchemaVersionsAreIsolated() {
+        PreparsedDocumentCache cache = new PreparsedDocumentCache();
+
+        cache.provider("v1").getDocument(query("{ author { name } }"), parser);
+        cache.provider("v2").getDocument(query("{ author { name } }"), parser);
+
+        assertEquals(2, parsed.get());
+        assertEquals(0, cache.stats().getHits());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testLeastRecentlyUsedDocumentIsEvicted() {
+        PreparsedDocumentCache cache = new PreparsedDocumentCache(2);
+        PreparsedDocumentProvider provider = cache.provider("v1");
+
+        provider.getDocument(query("{ a }"), parser);
+        provider.getDocument(query("{ b }"), parser);
+        provider.getDocument(query("{ a }"), parser);
+        provider.getDocument(query("{ c }"), parser);
+        //b was evicted
+        provider.getDocument(query("{ b }"), parser);
+
+        assertEquals(4, parsed.get());
+        assertEquals(2, cache.stats().getEvictions());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testInvalidDocumentIsNotCached() {
+        PreparsedDocumentCache cache = new PreparsedDocumentCache();
+        PreparsedDocumentProvider provider = cache.provider("v1");
+        Function<ExecutionInput, PreparsedDocumentEntry> invalid = input -> {
+            parsed.incrementAndGet();
+            return new PreparsedDocumentEntry(ValidationError.newValidationError()
+                    .validationErrorType(ValidationErrorType.FieldUndefined)
+                    .description("undefined")
+                    .build());
+        };
+
+        assertTrue(provider.getDocument(query("{ human }"), invalid).hasErrors());
+        assertTrue(provider.getDocument(query("{ human }"), invalid).hasErrors());
+
+        assertEquals(2, parsed.get());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,63 @@
+package org.opensearch.graphql;
+
+import graphql.language.Document;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import org.junit.jupiter.api.Test;
+import org.opensearch.schema.SchemaError;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the parsed SDL documents cache - content keyed reuse & the parallel parsing merge order
+ */
+class SchemaDocumentCacheTest {
+    private static final String SDL = "type Author { name: String }";
+
+    @Test
+    void testSameContentIsParsedOnce() {
+        SchemaDocumentCache cache = new SchemaDocumentCache();
+
+        Document first = cache.document(SDL);
+        Document second = cache.document(new ByteArrayInputStream(SDL.getBytes(StandardCharsets.UTF_8)));
+
+        assertSame(first, second);
+        assertEquals(1, cache.stats().getHits());
+        assertEquals(1, cache.stats().getMisses());
+        assertNotSame(first, cache.document(SDL + " type Book { title: String }"));
+    }
+
+    @Test
+    void testInvalidSchemaFails() {
+        assertThrows(SchemaError.SchemaErrorException.class, () -> new SchemaDocumentCache().document("type Author { name: "));
+    }
+
+    @Test
+    void testParallelParsingKeepsTheFilesOrder() throws Exception {
+        List<String> files = Arrays.asList("../schema/utils.graphql", "../schema/filter.graphql",
+                "../schema/aggregation.graphql", "../schema/sample/simple.graphql");
+        List<InputStream> streams = new ArrayList<>();
+        for (String file : files) {
+            streams.add(new FileInputStream(file));
+        }
+
+        List<TypeDefinitionRegistry> registries = GraphQLEngineFactory.parseAll(streams);
+        assertEquals(files.size(), registries.size());
+        for (int i = 0; i < files.size(); i++) {
+            TypeDefinitionRegistry sequential = GraphQLEngineFactory.parse(new FileInputStream(files.get(i)));
+            assertEquals(names(sequential), names(registries.get(i)));
+        }
+    }
+
+    private static List<String> names(TypeDefinitionRegistry registry) {
+        return registry.types().keySet().stream().sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,64 @@
+package org.opensearch.graphql.translation;
+
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.EchoingWiringFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opensearch.graphql.GraphQLEngineFactory;
+import org.opensearch.schema.ontology.Ontology;
+import org.opensearch.schema.ontology.OntologySnapshot;
+
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the concurrent translation strategies produce the same ontology as their sequential run
+ */
+class GraphQLToOntologyTransformerTest {
+    static GraphQLSchema schema;
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        GraphQLEngineFactory.reset();
+    }
+
+    @BeforeAll
+    static void setup() throws FileNotFoundException {
+        schema = GraphQLEngineFactory.generateSchema(new EchoingWiringFactory(), Arrays.asList(
+                new FileInputStream("../schema/filter.graphql"),
+                new FileInputStream("../schema/aggregation.graphql"),
+                new FileInputStream("../schema/utils.graphql"),
+                new FileInputStream("../schema/sample/simple.graphql")));
+    }
+
+    @Test
+    void testConcurrentStrategiesAreIdenticalToSequentialStrategies() {
+        //the calling thread runs the strategies one after the other in the chain order
+        Ontology sequential = new GraphQLToOntologyTransformer(Runnable::run).transform("simple", schema);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 20; i++) {
+                Ontology concurrent = new GraphQLToOntologyTransformer(executor).transform("simple", schema);
+                assertEquals(OntologySnapshot.of(sequential).getContentHash(), OntologySnapshot.of(concurrent).getContentHash());
+                assertEquals(sequential.getEntityTypes().size(), concurrent.getEntityTypes().size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testStrategiesDependOnPrecedingStrategies() {
+        assertTrue(new EntitiesCreationTranslation().dependencies().contains(InterfaceTypeTranslation.class));
+        assertTrue(new RelationsCreationTranslation().dependencies().contains(EntitiesCreationTranslation.class));
+        assertTrue(new EnumTypeTranslation().dependencies().isEmpty());
+        assertTrue(new PrimitivesTranslation().dependencies().isEmpty());
+    }
+}
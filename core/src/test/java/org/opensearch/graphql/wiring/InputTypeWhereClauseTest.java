@@ -0,0 +1,66 @@
+package org.opensearch.graphql.wiring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the direct conversion of the GQL where argument value into the where clause
+ */
+class InputTypeWhereClauseTest {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static Map<String, Object> constraint(String operand, String operator, Object expression) {
+        Map<String, Object> constraint = new HashMap<>();
+        constraint.put("operand", operand);
+        constraint.put("operator", operator);
+        if (expression != null)
+            constraint.put("expression", expression);
+        return constraint;
+    }
+
+    @Test
+    void testConversionMatchesJsonMapping() throws Exception {
+        Map<String, Object> argument = Map.of(
+                "operator", "OR",
+                "constraints", Arrays.asList(
+                        constraint("title", "eq", "Dune"),
+                        constraint("age", "gt", 42),
+                        constraint("died", "empty", null)));
+
+        InputTypeWhereClause direct = InputTypeWhereClause.of(argument);
+        InputTypeWhereClause mapped = mapper.readValue(mapper.writeValueAsString(argument), InputTypeWhereClause.class);
+
+        assertEquals(mapped.getOperator(), direct.getOperator());
+        assertEquals(mapped.getConstraints().size(), direct.getConstraints().size());
+        for (int i = 0; i < mapped.getConstraints().size(); i++) {
+            assertEquals(mapped.getConstraints().get(i).toString(), direct.getConstraints().get(i).toString());
+        }
+        assertEquals("42", direct.getConstraints().get(1).getExpression());
+        assertNull(direct.getConstraints().get(2).getExpression());
+    }
+
+    @Test
+    void testMissingFields() {
+        InputTypeWhereClause clause = InputTypeWhereClause.of(Map.of());
+        assertNull(clause.getOperator());
+        assertEquals(List.of(), clause.getConstraints());
+    }
+
+    @Test
+    void testUnknownOperatorFails() {
+        assertThrows(IllegalArgumentException.class, () -> InputTypeWhereClause.of(Map.of("operator", "XOR")));
+    }
+
+    @Test
+    void testMalformedConstraintsFail() {
+        assertThrows(IllegalArgumentException.class, () -> InputTypeWhereClause.of(Map.of("constraints", "title")));
+        assertThrows(IllegalArgumentException.class, () -> InputTypeWhereClause.of(Map.of("constraints", List.of("title"))));
+    }
+}
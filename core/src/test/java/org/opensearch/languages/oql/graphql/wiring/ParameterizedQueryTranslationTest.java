@@ -0,0 +1,123 @@
+package org.opensearch.languages.oql.graphql.wiring;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opensearch.graphql.GraphQLEngineRegistry;
+import org.opensearch.languages.oql.graphql.GraphQLToOQLTransformer;
+import org.opensearch.languages.oql.query.ParameterizedQuery;
+import org.opensearch.languages.oql.query.Query;
+import org.opensearch.languages.oql.query.descriptor.QueryDescriptor;
+import org.opensearch.languages.oql.query.properties.constraint.NamedParameter;
+import org.opensearch.schema.ontology.Accessor;
+
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the translation of GQL queries with variables into parameterized OQL queries & their values binding
+ */
+class ParameterizedQueryTranslationTest {
+    private static Accessor accessor;
+    private static GraphQLToOQLTransformer transformer;
+
+    /**
+     * load sample graphQL SDL files (with where clause arguments) into an isolated registry domain - the test does not depend on
+     * the types other tests register in the global engine factory
+     */
+    @BeforeAll
+    public static void setUp() {
+        GraphQLEngineRegistry registry = new GraphQLEngineRegistry(domain -> {
+            try {
+                return Arrays.asList(new FileInputStream("../schema/utils.graphql"),
+                        Thread.currentThread().getContextClassLoader().getResourceAsStream("graphql/sample/simpleGQLWhereBooks.graphql"));
+            } catch (FileNotFoundException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        accessor = registry.domain("Simple").accessor();
+        assertNotNull(accessor);
+        transformer = new GraphQLToOQLTransformer(registry);
+    }
+
+    private static String where(String title, String description) {
+        return " {\n" +
+                "    book(where: {operator: AND, constraints: [" +
+                "       {operand: \"title\", operator: \"eq\", expression: " + title + "}," +
+                "       {operand: \"description\", operator: \"contains\", expression: " + description + "}" +
+                "    ]}) {\n" +
+                "      title \n" +
+                "    }\n" +
+                "}";
+    }
+
+    @Test
+    void testVariablesAreTranslatedIntoParameters() {
+        String q = "query books($title: String!, $description: String)" + where("$title", "$description");
+
+        ParameterizedQuery template = transformer.template(accessor, q);
+        assertEquals(List.of("title", "description"),
+                template.getParams().stream().map(NamedParameter::getName).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testBoundTemplateEqualsLiteralTranslation() {
+        ParameterizedQuery template = transformer.template(accessor, "query books($title: String!)" + where("$title", "\"war\""));
+        String printedTemplate = QueryDescriptor.print(template);
+
+        Query dune = template.bind(Map.of("title", "Dune"));
+        assertEquals(QueryDescriptor.print(transformer.transform(accessor, where("\"Dune\"", "\"war\""))), QueryDescriptor.print(dune));
+
+        //the same template is bound again with other values without modifying it
+        Query emma = template.bind(Map.of("title", "Emma"));
+        assertEquals(QueryDescriptor.print(transformer.transform(accessor, where("\"Emma\"", "\"war\""))), QueryDescriptor.print(emma));
+        assertEquals(printedTemplate, QueryDescriptor.print(template));
+        assertNotEquals(QueryDescriptor.print(dune), QueryDescriptor.print(emma));
+    }
+
+    @Test
+    void testNonTextualVariablesAreGivenTypedPlaceholders() {
+        String q = "query books($title: String!, $from: Int!) {\n" +
+                "    book(from: $from, where: {operator: AND, constraints: [" +
+                "       {operand: \"title\", operator: \"eq\", expression: $title}" +
+                "    ]}) {\n" +
+                "      title \n" +
+                "    }\n" +
+                "}";
+
+        ParameterizedQuery template = transformer.template(accessor, q);
+        assertEquals(List.of("title"),
+                template.getParams().stream().map(NamedParameter::getName).collect(Collectors.toList()));
+        String literal = " {\n" +
+                "    book(from: 3, where: {operator: AND, constraints: [" +
+                "       {operand: \"title\", operator: \"eq\", expression: \"Dune\"}" +
+                "    ]}) {\n" +
+                "      title \n" +
+                "    }\n" +
+                "}";
+        assertEquals(QueryDescriptor.print(transformer.transform(accessor, literal)),
+                QueryDescriptor.print(template.bind(Map.of("title", "Dune"))));
+    }
+
+    @Test
+    void testMissingParameterValueFails() {
+        ParameterizedQuery template = transformer.template(accessor, "query books($title: String!, $description: String)" + where("$title", "$description"));
+
+        assertThrows(IllegalArgumentException.class, () -> template.bind(Map.of("title", "Dune")));
+    }
+
+    @Test
+    void testLiteralQueryHasNoParameters() {
+        ParameterizedQuery template = transformer.template(accessor, where("\"Dune\"", "\"war\""));
+
+        assertTrue(template.getParams().isEmpty());
+        assertEquals(QueryDescriptor.print(transformer.transform(accessor, where("\"Dune\"", "\"war\""))),
+                QueryDescriptor.print(template.bind(Map.of())));
+    }
+}
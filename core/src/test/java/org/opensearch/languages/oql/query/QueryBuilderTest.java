@@ -0,0 +1,94 @@
+package org.opensearch.languages.oql.query;
+
+import javaslang.Tuple2;
+import org.junit.jupiter.api.Test;
+import org.opensearch.languages.oql.query.entity.ETyped;
+import org.opensearch.languages.oql.query.properties.EPropGroup;
+import org.opensearch.languages.oql.query.properties.constraint.Constraint;
+import org.opensearch.languages.oql.query.properties.constraint.ConstraintOp;
+import org.opensearch.languages.oql.query.quant.QuantBase;
+import org.opensearch.languages.oql.query.quant.QuantType;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static java.util.Optional.of;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the query builder parent links, its reuse after reset and the growth of its elements storage
+ */
+class QueryBuilderTest {
+
+    private static Query.Builder build(Query.Builder builder) {
+        return builder
+                .withOnt("Knowledge")
+                .withName("test")
+                .start()
+                .eType("Entity", "P1")
+                .quant(QuantType.some)
+                .ePropGroup(Arrays.asList(new Tuple2<>("category", Optional.empty()), new Tuple2<>("context", of(new Constraint(ConstraintOp.notEmpty)))), QuantType.all)
+                .rel("hasOutRelation", Rel.Direction.R, "k")
+                .eType("Entity", "P2");
+    }
+
+    @Test
+    void testParentLinks() {
+        Query.Builder builder = build(Query.Builder.instance());
+
+        //P2 <- k <- quant <- P1 <- start
+        assertEquals(5, builder.currentIndex());
+        assertEquals(4, builder.parentIndex(5));
+        assertEquals(2, builder.parentIndex(4));
+        assertEquals(1, builder.parentIndex(2));
+        assertEquals(0, builder.parentIndex(1));
+        assertEquals(-1, builder.parentIndex(0));
+        //the property group hangs on the quant
+        assertEquals(2, builder.parentIndex(3));
+        assertTrue(builder.current(3) instanceof EPropGroup);
+
+        assertSame(builder.current(4), builder.pop());
+        assertEquals(Optional.empty(), builder.pop(0));
+        assertSame(builder.current(2), builder.pop(eBase -> eBase instanceof QuantBase).get());
+        assertSame(builder.current(5), builder.pop(eBase -> eBase instanceof ETyped).get());
+        assertEquals(Optional.empty(), builder.pop(eBase -> eBase instanceof EPropGroup));
+        assertThrows(IndexOutOfBoundsException.class, () -> builder.current(6));
+    }
+
+    @Test
+    void testResetBuilderBuildsEqualQuery() {
+        Query.Builder builder = Query.Builder.instance();
+        Query first = build(builder).build();
+        Query second = build(builder.reset()).build();
+
+        assertEquals(first, second);
+        assertNotSame(first.getElements(), second.getElements());
+        assertNotSame(first.getProjectedFields(), second.getProjectedFields());
+        assertEquals(6, second.getElements().size());
+    }
+
+    @Test
+    void testElementsStorageGrows() {
+        Query.Builder builder = Query.Builder.instance().start();
+        for (int i = 0; i < 100; i++) {
+            builder.eType("Entity", "E" + i);
+        }
+        Query query = builder.build();
+
+        assertEquals(101, query.getElements().size());
+        for (int i = 0; i < 101; i++) {
+            assertEquals(i, query.getElements().get(i).geteNum());
+        }
+        assertEquals(99, builder.parentIndex(100));
+    }
+
+    @Test
+    void testWithElementsReplacesElements() {
+        Query query = build(Query.Builder.instance())
+                .withElements(Arrays.asList(new Start(0, 1), new ETyped(1, "A", "Entity", 0)))
+                .build();
+
+        assertEquals(2, query.getElements().size());
+        assertEquals("A", ((ETyped) query.getElements().get(1)).geteTag());
+    }
+}
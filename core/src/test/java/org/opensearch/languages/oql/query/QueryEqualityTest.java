@@ -0,0 +1,101 @@
+package org.opensearch.languages.oql.query;
+
+import javaslang.Tuple2;
+import org.junit.jupiter.api.Test;
+import org.opensearch.languages.oql.query.properties.constraint.Constraint;
+import org.opensearch.languages.oql.query.properties.constraint.ConstraintOp;
+import org.opensearch.languages.oql.query.properties.constraint.NamedParameter;
+import org.opensearch.languages.oql.query.properties.constraint.ParameterizedConstraint;
+import org.opensearch.languages.oql.query.quant.QuantType;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Optional.of;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the structural equality & hashing of queries
+ */
+class QueryEqualityTest {
+
+    private static Query query(String name, Constraint constraint) {
+        return Query.Builder.instance()
+                .start()
+                .withOnt("Knowledge")
+                .withName(name)
+                .eType("Entity", "P1")
+                .quant(QuantType.some)
+                .ePropGroup(Arrays.asList(new Tuple2<>("category", Optional.empty()), new Tuple2<>("context", of(constraint))), QuantType.all)
+                .rel("hasOutRelation", Rel.Direction.R, "k")
+                .eType("Entity", "P2")
+                .build();
+    }
+
+    @Test
+    void testStructurallyEqualQueries() {
+        Query first = query("test", new Constraint(ConstraintOp.eq, "10"));
+        Query second = query("test", new Constraint(ConstraintOp.eq, "10"));
+
+        assertNotSame(first, second);
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        //no recursion through toString
+        assertNotNull(first.toString());
+    }
+
+    @Test
+    void testStructurallyDifferentQueries() {
+        Query query = query("test", new Constraint(ConstraintOp.eq, "10"));
+
+        assertNotEquals(query, query("other", new Constraint(ConstraintOp.eq, "10")));
+        assertNotEquals(query, query("test", new Constraint(ConstraintOp.eq, "11")));
+        assertNotEquals(query, query("test", new Constraint(ConstraintOp.ne, "10")));
+        assertNotEquals(query, query("test", new ParameterizedConstraint(ConstraintOp.eq, "10", new NamedParameter("p"))));
+        assertNotEquals(query("test", new ParameterizedConstraint(ConstraintOp.eq, null, new NamedParameter("p"))),
+                query("test", new ParameterizedConstraint(ConstraintOp.eq, null, new NamedParameter("q"))));
+    }
+
+    @Test
+    void testQueriesAsKeys() {
+        Set<Query> queries = new HashSet<>();
+        queries.add(query("test", new Constraint(ConstraintOp.eq, "10")));
+        queries.add(query("test", new Constraint(ConstraintOp.eq, "10")));
+        queries.add(query("test", new Constraint(ConstraintOp.eq, "11")));
+
+        assertEquals(2, queries.size());
+        assertTrue(queries.contains(query("test", new Constraint(ConstraintOp.eq, "11"))));
+    }
+
+    @Test
+    void testHashIsResetOnChange() {
+        Query query = query("test", new Constraint(ConstraintOp.eq, "10"));
+        Query copy = Query.QueryUtils.copy(query);
+        int hash = query.hashCode();
+        assertEquals(hash, copy.hashCode());
+
+        copy.setName("changed");
+        assertNotEquals(query, copy);
+        assertEquals(query("changed", new Constraint(ConstraintOp.eq, "10")).hashCode(), copy.hashCode());
+    }
+
+    @Test
+    void testHashFollowsElementChanges() {
+        Query query = query("test", new Constraint(ConstraintOp.eq, "10"));
+        Query other = query("test", new Constraint(ConstraintOp.eq, "10"));
+        assertEquals(query.hashCode(), other.hashCode());
+
+        //the built elements are changed in place, not through the query setters
+        ((Rel) Query.QueryUtils.findByClass(other, Rel.class).get(0)).setrType("other");
+        assertNotEquals(query, other);
+        assertNotEquals(query.hashCode(), other.hashCode());
+
+        other.getElements().remove(other.getElements().size() - 1);
+        query.getElements().remove(query.getElements().size() - 1);
+        ((Rel) Query.QueryUtils.findByClass(query, Rel.class).get(0)).setrType("other");
+        assertEquals(query, other);
+        assertEquals(query.hashCode(), other.hashCode());
+    }
+}
@@ -0,0 +1,116 @@
+package org.opensearch.languages.oql.query;
+
+import javaslang.Tuple2;
+import org.junit.jupiter.api.Test;
+import org.opensearch.languages.oql.query.entity.ETyped;
+import org.opensearch.languages.oql.query.properties.constraint.Constraint;
+import org.opensearch.languages.oql.query.properties.constraint.ConstraintOp;
+import org.opensearch.languages.oql.query.quant.QuantType;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static java.util.Optional.of;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the query elements lookups by the query's eNum index
+ */
+class QueryUtilsTest {
+
+    private static Query query() {
+        return Query.Builder.instance()
+                .start()
+                .withOnt("Knowledge")
+                .withName("test")
+                .eType("Entity", "P1")
+                .quant(QuantType.some)
+                .ePropGroup(Arrays.asList(new Tuple2<>("category", Optional.empty()), new Tuple2<>("context", of(new Constraint(ConstraintOp.notEmpty)))), QuantType.all)
+                .rel("hasOutRelation", Rel.Direction.R, "k")
+                .eType("Entity", "P2")
+                .rel("hasInRelation", Rel.Direction.L, "l")
+                .eType("Entity", "P3")
+                .build();
+    }
+
+    private static Optional<EBase> scan(Collection<EBase> elements, int eNum) {
+        return elements.stream().filter(p -> p.geteNum() == eNum).findFirst();
+    }
+
+    @Test
+    void testFindByEnumMatchesScan() {
+        Query query = query();
+        for (int eNum = -2; eNum < query.getElements().size() + 3; eNum++) {
+            Optional<? extends EBase> found = Query.QueryUtils.findByEnum(query, eNum);
+            assertEquals(scan(query.getElements(), eNum), found, "eNum " + eNum);
+            if (found.isPresent())
+                assertSame(scan(query.getElements(), eNum).get(), found.get());
+        }
+    }
+
+    @Test
+    void testSparseElementNumbers() {
+        Query query = new Query();
+        List<EBase> elements = Arrays.asList(new Start(0, 1), new ETyped(1, "A", "Entity", 1_000_000), new ETyped(1_000_000, "B", "Entity", 0));
+        query.setElements(elements);
+
+        assertSame(elements.get(2), query.element(1_000_000).get());
+        assertSame(elements.get(1), query.element(1).get());
+        assertFalse(query.element(2).isPresent());
+        assertEquals(Arrays.asList(elements.get(0), elements.get(1), elements.get(2)),
+                Query.QueryUtils.getPath(query, 0, e -> false));
+    }
+
+    @Test
+    void testIndexFollowsElementsChange() {
+        Query query = query();
+        int last = query.getElements().stream().mapToInt(EBase::geteNum).max().getAsInt();
+        assertTrue(query.element(last).isPresent());
+
+        query.setElements(query.getElements().subList(0, 2));
+        assertFalse(query.element(last).isPresent());
+    }
+
+    @Test
+    void testIndexFollowsInPlaceChanges() {
+        Query query = query();
+        int last = query.getElements().stream().mapToInt(EBase::geteNum).max().getAsInt();
+        assertTrue(query.element(last).isPresent());
+
+        //the built elements list and its elements are changed in place
+        ETyped added = new ETyped(last + 10, "P4", "Entity", 0);
+        query.getElements().add(added);
+        assertSame(added, query.element(last + 10).get());
+
+        EBase removed = query.getElements().remove(1);
+        assertEquals(scan(query.getElements(), removed.geteNum()), query.element(removed.geteNum()));
+
+        added.seteNum(last + 20);
+        assertFalse(query.element(last + 10).isPresent());
+        assertSame(added, query.element(last + 20).get());
+        for (int eNum = -2; eNum < last + 22; eNum++) {
+            assertEquals(scan(query.getElements(), eNum), query.element(eNum), "eNum " + eNum);
+        }
+    }
+
+    @Test
+    void testGetPath() {
+        Query query = query();
+        //path from the start element to the first container (quantifier)
+        List<EBase> path = Query.QueryUtils.getPath(query, 0, e -> e instanceof Container);
+        assertEquals(Arrays.asList("Start", "ETyped", "Quant1"),
+                path.stream().map(e -> e.getClass().getSimpleName()).collect(Collectors.toList()));
+        //unknown element
+        assertTrue(Query.QueryUtils.getPath(query, 100, e -> false).isEmpty());
+    }
+
+    @Test
+    void testFindByEnumOnOtherQueryTypes() {
+        Query query = query();
+        IQuery<EBase> other = query::getElements;
+        assertSame(query.element(2).get(), Query.QueryUtils.findByEnum(other, 2).get());
+    }
+}
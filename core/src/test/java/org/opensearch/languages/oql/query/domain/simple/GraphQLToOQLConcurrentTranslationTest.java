@@ -0,0 +1,175 @@
+package org.opensearch.languages.oql.query.domain.simple;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opensearch.graphql.GraphQLEngineFactory;
+import org.opensearch.graphql.Transformer;
+import org.opensearch.graphql.Translation;
+import org.opensearch.graphql.translation.GraphQLToOntologyTransformer;
+import org.opensearch.languages.oql.graphql.GraphQLToOQLTransformer;
+import org.opensearch.languages.oql.query.Query;
+import org.opensearch.languages.oql.query.descriptor.QueryDescriptor;
+import org.opensearch.schema.ontology.Accessor;
+import org.opensearch.schema.ontology.Ontology;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * this test runs the GQL to OQL translation of several queries from many threads using a single shared transformer
+ * and verifies each translation is identical to its sequential translation
+ */
+public class GraphQLToOQLConcurrentTranslationTest {
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 50;
+
+    public static Accessor accessor;
+    public static Transformer<Query> transformer;
+
+    private static final List<String> queries = Arrays.asList(
+            " {\n" +
+                    "    author {\n" +
+                    "        name,\n" +
+                    "        born\n" +
+                    "    }\n" +
+                    "}",
+            " {\n" +
+                    "    author {\n" +
+                    "        name,\n" +
+                    "        born,\n" +
+                    "        died,\n" +
+                    "        nationality,\n" +
+                    "    }\n" +
+                    "}",
+            " {\n" +
+                    "    author {\n" +
+                    "        name,\n" +
+                    "        born\n" +
+                    "        died\n" +
+                    "        nationality\n" +
+                    "        books {\n" +
+                    "           ISBN\n" +
+                    "           title\n" +
+                    "           published\n" +
+                    "         }\n" +
+                    "    }\n" +
+                    "}");
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        GraphQLEngineFactory.reset();
+    }
+
+    /**
+     * load sample graphQL SDL files, transform them into the ontology & index-provider components
+     */
+    @BeforeAll
+    public static void setUp() throws Exception {
+        InputStream utilsSchemaInput = new FileInputStream("../schema/utils.graphql");
+        InputStream filterSchemaInput = new FileInputStream("../schema/filter.graphql");
+        InputStream aggregationSchemaInput = new FileInputStream("../schema/aggregation.graphql");
+
+        InputStream simpleSchemaInput = new FileInputStream("../schema/sample/simple.graphql");
+        GraphQLEngineFactory.generateSchema(Arrays.asList(filterSchemaInput, aggregationSchemaInput, utilsSchemaInput, simpleSchemaInput));
+        assertTrue(GraphQLEngineFactory.schema().isPresent());
+
+        Ontology ontology = new GraphQLToOntologyTransformer().transform("Simple", GraphQLEngineFactory.schema().get());
+        assertNotNull(ontology);
+        accessor = new Accessor(ontology);
+        transformer = new GraphQLToOQLTransformer();
+    }
+
+    @Test
+    public void testConcurrentTranslationsAreIdenticalToSequentialTranslations() throws Exception {
+        //sequential translation is the expected result
+        List<String> expected = queries.stream()
+                .map(q -> QueryDescriptor.print(transformer.transform(accessor, q)))
+                .collect(Collectors.toList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(translateAll(start)));
+            }
+            //release all threads at once to maximize contention
+            start.countDown();
+
+            for (Future<List<String>> result : results) {
+                List<String> translations = result.get(60, TimeUnit.SECONDS);
+                assertEquals(ITERATIONS * queries.size(), translations.size());
+                for (int i = 0; i < translations.size(); i++) {
+                    assertEquals(expected.get(i % queries.size()), translations.get(i));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBatchTranslationKeepsOrderAndIsolatesFailures() {
+        List<String> batch = new ArrayList<>(queries);
+        batch.add(1, "{ human { name } }");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Translation<Query>> translations = transformer.transformAll(accessor, batch, executor);
+            assertEquals(batch.size(), translations.size());
+
+            assertFalse(translations.get(1).isSuccess());
+            assertTrue(translations.get(1).getError().isPresent());
+            assertEquals("{ human { name } }", translations.get(1).getQuery());
+
+            List<Translation<Query>> succeeded = translations.stream().filter(Translation::isSuccess).collect(Collectors.toList());
+            assertEquals(queries.size(), succeeded.size());
+            for (int i = 0; i < queries.size(); i++) {
+                assertEquals(queries.get(i), succeeded.get(i).getQuery());
+                assertEquals(QueryDescriptor.print(transformer.transform(accessor, queries.get(i))), QueryDescriptor.print(succeeded.get(i).get()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testMultiOperationDocumentTranslation() {
+        String document = "query names { author { ...names } }\n" +
+                "query books { author { name, books { title } } }\n" +
+                "fragment names on Author { name }";
+
+        List<Translation<Query>> translations = transformer.transformDocument(accessor, document, Runnable::run);
+        assertEquals(2, translations.size());
+        assertEquals(QueryDescriptor.print(transformer.transform(accessor, "{ author { name } }")),
+                QueryDescriptor.print(translations.get(0).get()));
+        assertEquals(QueryDescriptor.print(transformer.transform(accessor, "{ author { name, books { title } } }")),
+                QueryDescriptor.print(translations.get(1).get()));
+    }
+
+    private static Callable<List<String>> translateAll(CountDownLatch start) {
+        return () -> {
+            start.await();
+            List<String> translations = new ArrayList<>();
+            for (int i = 0; i < ITERATIONS; i++) {
+                for (String q : queries) {
+                    translations.add(QueryDescriptor.print(transformer.transform(accessor, q)));
+                }
+            }
+            return translations;
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package org.opensearch.languages.oql.query.domain.simple;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opensearch.graphql.GraphQLEngineFactory;
+import org.opensearch.graphql.translation.GraphQLToOntologyTransformer;
+import org.opensearch.languages.oql.graphql.GraphQLToOQLDirectTransformer;
+import org.opensearch.languages.oql.graphql.GraphQLToOQLTransformer;
+import org.opensearch.languages.oql.query.Query;
+import org.opensearch.languages.oql.query.descriptor.QueryDescriptor;
+import org.opensearch.schema.SchemaError;
+import org.opensearch.schema.ontology.Accessor;
+import org.opensearch.schema.ontology.Ontology;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the direct (non executing) GQL to OQL translation produces the same queries & errors as the GQL engine based translation
+ */
+class GraphQLToOQLDirectTranslatorTest {
+    private static Accessor accessor;
+    private static GraphQLToOQLTransformer engineTransformer;
+    private static GraphQLToOQLDirectTransformer directTransformer;
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        GraphQLEngineFactory.reset();
+    }
+
+    /**
+     * load sample graphQL SDL files (with where clause arguments), transform them into the ontology component
+     */
+    @BeforeAll
+    public static void setUp() throws Exception {
+        InputStream utilsSchemaInput = new FileInputStream("../schema/utils.graphql");
+        InputStream simpleSchemaInput = Thread.currentThread().getContextClassLoader().getResourceAsStream("graphql/sample/simpleGQLWhereBooks.graphql");
+        List<InputStream> streams = Arrays.asList(utilsSchemaInput, simpleSchemaInput);
+
+        GraphQLToOntologyTransformer graphQLToOntologyTransformer = new GraphQLToOntologyTransformer();
+        GraphQLEngineFactory.generateSchema(streams);
+        Ontology ontology = graphQLToOntologyTransformer.transform("Simple", GraphQLEngineFactory.schema().get());
+        assertNotNull(ontology);
+        accessor = new Accessor(ontology);
+        engineTransformer = new GraphQLToOQLTransformer();
+        directTransformer = new GraphQLToOQLDirectTransformer();
+    }
+
+    private static final List<String> QUERIES = List.of(
+            "{ author { name, born } }",
+            "{ author { name, born, died, nationality } }",
+            "{ author { name, books { title, published } } }",
+            "{ author { books { title } name } book { title } }",
+            "{ a: author { name } b: author { born } }",
+            "query authors { author { ...names } } fragment names on Author { name, nationality }",
+            "{ book(where: {operator: AND, constraints: [{operand: \"title\", operator: \"eq\", expression: \"Dune\"}]}) { title, published } }",
+            "{ author(where: {operator: OR, constraints: [{operand: \"name\", operator: \"contains\", expression: \"Herbert\"}," +
+                    " {operand: \"nationality\", operator: \"eq\", expression: \"US\"}]}) { name, books { title } } }",
+            "{ author { name @skip(if: true), born } }");
+
+    private static final List<String> INVALID_QUERIES = List.of(
+            "{ human { name } }",
+            "{ book { name } }",
+            "{ author { name, books { name } } }",
+            "{ author { name ",
+            //a failure of the strategies (mock values) themselves
+            "{ author { name, books { title }, books { description } } }",
+            "{ book(where: {operator: AND, constraints: [{operand: \"born\", operator: \"eq\", expression: \"1920\"}]}) { title } }");
+
+    @Test
+    void testSameQueryAsEngineTranslation() {
+        for (String q : QUERIES) {
+            Query expected = engineTransformer.transform(accessor, q);
+            Query actual = directTransformer.transform(accessor, q);
+
+            assertEquals(QueryDescriptor.print(expected), QueryDescriptor.print(actual), q);
+            assertEquals(expected, actual, q);
+        }
+    }
+
+    @Test
+    void testSameErrorsAsEngineTranslation() {
+        for (String q : INVALID_QUERIES) {
+            SchemaError.SchemaErrorException expected = assertThrows(SchemaError.SchemaErrorException.class, () -> engineTransformer.transform(accessor, q), q);
+            SchemaError.SchemaErrorException actual = assertThrows(SchemaError.SchemaErrorException.class, () -> directTransformer.transform(accessor, q), q);
+
+            assertEquals(expected.getError().getErrorDescription(), actual.getError().getErrorDescription(), q);
+        }
+    }
+}
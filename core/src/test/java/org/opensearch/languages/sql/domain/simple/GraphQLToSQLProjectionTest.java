@@ -0,0 +1,135 @@
+package org.opensearch.languages.sql.domain.simple;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opensearch.graphql.GraphQLEngineFactory;
+import org.opensearch.graphql.translation.GraphQLToOntologyTransformer;
+import org.opensearch.languages.sql.graphql.GraphQLToSQLTransformer;
+import org.opensearch.languages.sql.query.Query;
+import org.opensearch.schema.SchemaError;
+import org.opensearch.schema.ontology.Accessor;
+import org.opensearch.schema.ontology.Ontology;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the GQL to SQL translation - the select clause is projected from the query selection set and the where clause from the
+ * where argument
+ */
+class GraphQLToSQLProjectionTest {
+    private static Accessor accessor;
+    private static GraphQLToSQLTransformer transformer;
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        GraphQLEngineFactory.reset();
+    }
+
+    /**
+     * load sample graphQL SDL files (with where clause arguments), transform them into the ontology component
+     */
+    @BeforeAll
+    public static void setUp() throws Exception {
+        InputStream utilsSchemaInput = new FileInputStream("../schema/utils.graphql");
+        InputStream simpleSchemaInput = Thread.currentThread().getContextClassLoader().getResourceAsStream("graphql/sample/simpleGQLWhereBooks.graphql");
+        List<InputStream> streams = Arrays.asList(utilsSchemaInput, simpleSchemaInput);
+
+        GraphQLToOntologyTransformer graphQLToOntologyTransformer = new GraphQLToOntologyTransformer();
+        //start from an empty registry - types registered by other tests would conflict with the sample types
+        GraphQLEngineFactory.reset();
+        GraphQLEngineFactory.generateSchema(streams);
+        Ontology ontology = graphQLToOntologyTransformer.transform("Simple", GraphQLEngineFactory.schema().get());
+        assertNotNull(ontology);
+        accessor = new Accessor(ontology);
+        transformer = new GraphQLToSQLTransformer();
+    }
+
+    @Test
+    void testSelectedFieldsAreProjected() {
+        Query query = transformer.transform(accessor, " {\n" +
+                "    author {\n" +
+                "        name,\n" +
+                "        born\n" +
+                "    }\n" +
+                "}");
+        assertEquals("select name, born from author", query.getQuery());
+    }
+
+    @Test
+    void testNestedFieldsAreProjectedByPath() {
+        Query query = transformer.transform(accessor, " {\n" +
+                "    author {\n" +
+                "        name\n" +
+                "        books {\n" +
+                "           title\n" +
+                "           published\n" +
+                "        }\n" +
+                "        nationality\n" +
+                "    }\n" +
+                "}");
+        assertEquals("select name, books.title, books.published, nationality from author", query.getQuery());
+    }
+
+    @Test
+    void testWhereClause() {
+        Query query = transformer.transform(accessor, " {\n" +
+                "    book(where: {operator: OR, constraints: [" +
+                "       {operand: \"title\", operator: \"eq\", expression: \"Ender's Game\"}," +
+                "       {operand: \"description\", operator: \"contains\", expression: \"war\"}" +
+                "    ]}) {\n" +
+                "      title \n" +
+                "      genre \n" +
+                "    }\n" +
+                "}");
+        assertEquals("select title, genre from book where (title = 'Ender''s Game' or description like '%war%')", query.getQuery());
+    }
+
+    @Test
+    void testSingleConstraintWhereClause() {
+        Query query = transformer.transform(accessor, " {\n" +
+                "    author(where: {operator: AND, constraints: [{operand: \"died\", operator: \"empty\"}]}) {\n" +
+                "      name \n" +
+                "    }\n" +
+                "}");
+        assertEquals("select name from author where died is null", query.getQuery());
+    }
+
+    @Test
+    void testWhereClauseOverUnknownFieldFails() {
+        assertThrows(SchemaError.SchemaErrorException.class, () -> transformer.transform(accessor, " {\n" +
+                "    book(where: {operator: AND, constraints: [{operand: \"born\", operator: \"eq\", expression: \"1950\"}]}) {\n" +
+                "      title \n" +
+                "    }\n" +
+                "}"));
+    }
+
+    @Test
+    void testNumericExpressionIsRenderedAsNumber() {
+        Query query = transformer.transform(accessor, " {\n" +
+                "    author(where: {operator: AND, constraints: [{operand: \"age\", operator: \"gt\", expression: \" 42\"}]}) {\n" +
+                "      name \n" +
+                "    }\n" +
+                "}");
+        assertEquals("select name from author where age > 42", query.getQuery());
+    }
+
+    @Test
+    void testNonNumericExpressionOverNumericFieldFails() {
+        assertThrows(SchemaError.SchemaErrorException.class, () -> transformer.transform(accessor, " {\n" +
+                "    author(where: {operator: AND, constraints: [{operand: \"age\", operator: \"eq\", expression: \"1 or 1=1\"}]}) {\n" +
+                "      name \n" +
+                "    }\n" +
+                "}"));
+        assertThrows(SchemaError.SchemaErrorException.class, () -> transformer.transform(accessor, " {\n" +
+                "    author(where: {operator: AND, constraints: [{operand: \"age\", operator: \"eq\", expression: \":age\"}]}) {\n" +
+                "      name \n" +
+                "    }\n" +
+                "}"));
+    }
+}
@@ -0,0 +1,85 @@
+package org.opensearch.languages.sql.query.ast;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.languages.sql.query.Query;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.opensearch.languages.sql.query.Query.Builder.and;
+import static org.opensearch.languages.sql.query.Query.Builder.in;
+
+/**
+ * test the SQL statement syntax tree - nested statements, inspection, rewriting & rendering with bound parameters
+ */
+class StatementTest {
+
+    private static Query query() {
+        return Query.Builder.select("name", "born")
+                .from("author")
+                .join("book").on("author.id = book.author_id", and("born > :born"))
+                .where("id", in(Query.Builder.select("author_id").from("book").where("title = :title")))
+                .orderBy("name")
+                .limit(10)
+                .build();
+    }
+
+    @Test
+    void testNestedStatementIsKeptAsNode() {
+        Statement statement = query().getStatement().get();
+
+        List<Clause> where = statement.clauses(Clause.Kind.WHERE);
+        assertEquals(1, where.size());
+        SQLNode last = where.get(0).getItems().get(where.get(0).getItems().size() - 1);
+        assertTrue(last instanceof Subquery);
+        assertEquals("select author_id from book where title = ?", ((Subquery) last).getStatement().getSQL());
+        assertEquals(Arrays.asList("title"), ((Subquery) last).getStatement().getParameters());
+    }
+
+    @Test
+    void testRenderWithBoundParameters() {
+        Query query = query();
+
+        assertEquals("select name, born from author join book on author.id = book.author_id and born > ? where id in (select author_id from book where title = ?) order by name limit 10",
+                query.getQuery());
+        assertEquals(Arrays.asList("born", "title"), query.getParameters());
+        assertEquals("select name, born from author join book on author.id = book.author_id and born > 1900 where id in (select author_id from book where title = 'Ender''s Game') order by name limit 10",
+                query.render(Map.of("born", 1900, "title", "Ender's Game")));
+        //unbound parameters remain placeholders
+        assertEquals("select name, born from author join book on author.id = book.author_id and born > 1900 where id in (select author_id from book where title = ?) order by name limit 10",
+                query.render(Map.of("born", 1900)));
+        //rendering does not change the query
+        assertEquals(Arrays.asList("born", "title"), query.getParameters());
+    }
+
+    @Test
+    void testRewriteClause() {
+        Statement statement = query().getStatement().get();
+        Statement rewritten = statement.rewrite(clause -> clause.getKind() == Clause.Kind.LIMIT
+                ? clause.withItems(Collections.singletonList(new Literal(50))) : clause);
+
+        assertNotEquals(statement, rewritten);
+        assertTrue(rewritten.getSQL().endsWith("order by name limit 50"));
+        assertTrue(statement.getSQL().endsWith("order by name limit 10"));
+        assertEquals(statement, query().getStatement().get());
+    }
+
+    @Test
+    void testNamedRendering() {
+        Statement statement = query().getStatement().get();
+
+        assertEquals("select name, born from author join book on author.id = book.author_id and born > :born where id in (select author_id from book where title = :title) order by name limit 10",
+                statement.toString());
+    }
+
+    @Test
+    void testQueryFromTextHasNoStatement() {
+        Query query = new Query("q", "select * from author");
+
+        assertTrue(query.getStatement().isEmpty());
+        assertEquals("select * from author", query.render(Map.of("a", 1)));
+    }
+}
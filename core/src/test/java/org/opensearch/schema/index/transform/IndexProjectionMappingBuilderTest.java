@@ -0,0 +1,38 @@
+package org.opensearch.schema.index.transform;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.opensearch.schema.ontology.Accessor;
+import org.opensearch.schema.ontology.Ontology;
+import org.opensearch.schema.ontology.OntologySnapshot;
+
+import java.io.InputStream;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the projection ontology derivation
+ */
+class IndexProjectionMappingBuilderTest {
+
+    @Test
+    void testProjectionOntologyDerivation() throws Exception {
+        InputStream stream = Thread.currentThread().getContextClassLoader().getResourceAsStream("ontology/observability/client.json");
+        Ontology ontology = new ObjectMapper().readValue(stream, Ontology.class);
+        OntologySnapshot snapshot = OntologySnapshot.of(ontology);
+
+        IndexProjectionMappingBuilder builder = new IndexProjectionMappingBuilder(null, null);
+        Accessor projection = builder.generateProjectionOntology(snapshot);
+
+        assertTrue(projection.property("tag").isPresent());
+        assertTrue(projection.property(OntologyIndexGenerator.EdgeSchemaConfig.DEST_TYPE).isPresent());
+        assertTrue(projection.property(OntologyIndexGenerator.EdgeSchemaConfig.DEST_ID).isPresent());
+        projection.entities().forEach(e -> assertEquals(Collections.singletonList("tag"), e.getMetadata()));
+        projection.relations().forEach(r -> assertEquals(Collections.singletonList(OntologyIndexGenerator.EdgeSchemaConfig.DEST_ID), r.getMetadata()));
+        //the origin snapshot & ontology are not modified
+        assertFalse(snapshot.accessor().property("tag").isPresent());
+        assertFalse(ontology.getProperties().stream().anyMatch(p -> p.getName().equals("tag")));
+        assertSame(snapshot.getEnumeratedTypes(), projection.get().getEnumeratedTypes());
+    }
+}
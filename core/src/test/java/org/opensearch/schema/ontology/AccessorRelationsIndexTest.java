@@ -0,0 +1,87 @@
+package org.opensearch.schema.ontology;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the accessor's relations indexes answer the same as a full scan over the ontology relations
+ */
+class AccessorRelationsIndexTest {
+    private static Ontology ontology;
+    private static Accessor accessor;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        InputStream stream = Thread.currentThread().getContextClassLoader().getResourceAsStream("ontology/observability/client.json");
+        ontology = new ObjectMapper().readValue(stream, Ontology.class);
+        accessor = new Accessor(ontology);
+    }
+
+    private static List<EPair> pairs() {
+        return ontology.getRelationshipTypes().stream().flatMap(r -> r.getePairs().stream()).collect(Collectors.toList());
+    }
+
+    private static List<EntityType> entities() {
+        List<EntityType> entities = new ArrayList<>(ontology.getEntityTypes());
+        //entity without relations
+        entities.add(new EntityType("Unknown", "Unknown", List.of(), List.of(), List.of(), List.of()));
+        return entities;
+    }
+
+    @Test
+    void testPairsBySides() {
+        for (EntityType source : entities()) {
+            for (EntityType target : entities()) {
+                assertEquals(pairs().stream()
+                                .filter(p -> source.geteType().equals(p.geteTypeA()) && target.geteType().equals(p.geteTypeB()))
+                                .collect(Collectors.toList()),
+                        accessor.relationsPairs(source, target));
+                assertEquals(ontology.getRelationshipTypes().stream()
+                                .filter(r -> r.getePairs().stream().anyMatch(p -> source.geteType().equals(p.geteTypeA()) && target.geteType().equals(p.geteTypeB())))
+                                .collect(Collectors.toList()),
+                        accessor.relationsByPair(source, target));
+            }
+        }
+        assertFalse(accessor.relationsPairs(accessor.entity$("Client"), accessor.entity$("Geo")).isEmpty());
+    }
+
+    @Test
+    void testPairsBySingleSide() {
+        for (EntityType entity : entities()) {
+            assertEquals(pairs().stream().filter(p -> entity.geteType().equals(p.geteTypeA())).collect(Collectors.toList()),
+                    new ArrayList<>(accessor.relationsPairsBySourceEntity(entity, r -> true)));
+            assertEquals(pairs().stream().filter(p -> entity.geteType().equals(p.geteTypeB())).collect(Collectors.toList()),
+                    new ArrayList<>(accessor.relationsPairsByTargetEntity(entity, r -> true)));
+            assertEquals(ontology.getRelationshipTypes().stream().filter(r -> r.hasSideA(entity.geteType())).collect(Collectors.toList()),
+                    accessor.relationBySourceEntity(entity));
+            assertEquals(accessor.relationBySourceEntity(entity), accessor.relationBySideA(entity.geteType()));
+            assertEquals(ontology.getRelationshipTypes().stream().filter(r -> r.hasSideB(entity.geteType())).collect(Collectors.toList()),
+                    accessor.relationByTargetEntity(entity));
+        }
+    }
+
+    @Test
+    void testRelationPredicateFiltersPairs() {
+        RelationshipType first = ontology.getRelationshipTypes().get(0);
+        EntityType source = accessor.entity$(first.getePairs().get(0).geteTypeA());
+
+        assertTrue(accessor.relationsPairsBySourceEntity(source, r -> false).isEmpty());
+        assertEquals(first.getePairs().stream().filter(p -> source.geteType().equals(p.geteTypeA())).collect(Collectors.toList()),
+                new ArrayList<>(accessor.relationsPairsBySourceEntity(source, r -> r == first)));
+    }
+
+    @Test
+    void testIndexesAreReadOnly() {
+        assertThrows(UnsupportedOperationException.class, () -> accessor.relations().clear());
+        EntityType client = accessor.entity$("Client");
+        assertThrows(UnsupportedOperationException.class, () -> accessor.relationBySourceEntity(client).clear());
+    }
+}
@@ -0,0 +1,96 @@
+package org.opensearch.schema.ontology;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opensearch.graphql.GraphQLEngineFactory;
+import org.opensearch.graphql.translation.GraphQLToOntologyTransformer;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the accessor's types indexes answer the same as a full scan over the ontology
+ */
+class AccessorTypesIndexTest {
+    private static Ontology ontology;
+    private static Accessor accessor;
+
+    @AfterAll
+    public static void tearDown() throws Exception {
+        GraphQLEngineFactory.reset();
+    }
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        InputStream utilsSchemaInput = new FileInputStream("../schema/utils.graphql");
+        InputStream filterSchemaInput = new FileInputStream("../schema/filter.graphql");
+        InputStream aggregationSchemaInput = new FileInputStream("../schema/aggregation.graphql");
+        InputStream simpleSchemaInput = new FileInputStream("../schema/sample/simple.graphql");
+        List<InputStream> streams = Arrays.asList(filterSchemaInput, aggregationSchemaInput, utilsSchemaInput, simpleSchemaInput);
+
+        GraphQLEngineFactory.generateSchema(streams);
+        ontology = new GraphQLToOntologyTransformer().transform("Simple", GraphQLEngineFactory.schema().get());
+        accessor = new Accessor(ontology);
+    }
+
+    private static List<String> names() {
+        List<String> names = new ArrayList<>(Arrays.asList("Unknown", "genre", "GENRE", "TYPE_Genre", "ID", "String", "Int", "DateTime"));
+        ontology.getEntityTypes().forEach(e -> names.add(e.getName()));
+        ontology.getRelationshipTypes().forEach(r -> names.add(r.getName()));
+        ontology.getProperties().forEach(p -> names.add(p.getName()));
+        ontology.getEnumeratedTypes().forEach(e -> names.add(e.geteType()));
+        ontology.getPrimitiveTypes().forEach(p -> names.add(p.getType()));
+        return names;
+    }
+
+    @Test
+    void testNestedEntities() {
+        for (EntityType entityType : ontology.getEntityTypes()) {
+            String name = entityType.getName();
+            boolean nested = ontology.getEntityTypes().stream()
+                    .anyMatch(en -> en.fields().stream()
+                            .filter(p -> accessor.property(p).isPresent())
+                            .anyMatch(p -> accessor.property(p).get().getType().getType().equals(name)));
+            assertEquals(nested, accessor.isNestedEntity(name), name);
+        }
+        assertTrue(accessor.isNestedEntity("Author"));
+        assertFalse(accessor.isNestedEntity("Unknown"));
+    }
+
+    @Test
+    void testPrimitiveAndEnumeratedTypes() {
+        for (String name : names()) {
+            assertEquals(ontology.getPrimitiveTypes().stream().filter(t -> t.getType().equals(name)).findFirst(),
+                    accessor.primitiveType(name), name);
+            assertEquals(ontology.getEnumeratedTypes().stream().filter(t -> t.isOfType(name)).findFirst(),
+                    accessor.enumeratedType(name), name);
+        }
+        assertTrue(accessor.enumeratedType("genre").isPresent());
+    }
+
+    @Test
+    void testMatchNameToType() {
+        for (String name : names()) {
+            Optional<?> expected;
+            if (ontology.getEnumeratedTypes().stream().anyMatch(t -> t.isOfType(name)))
+                expected = Optional.of(Accessor.NodeType.ENUM);
+            else if (accessor.eType(name).isPresent())
+                expected = Optional.of(Accessor.NodeType.ENTITY);
+            else if (accessor.rType(name).isPresent())
+                expected = Optional.of(Accessor.NodeType.RELATION);
+            else if (accessor.property(name).isPresent())
+                expected = Optional.of(Accessor.NodeType.PROPERTY);
+            else
+                expected = Optional.empty();
+            assertEquals(expected, accessor.matchNameToType(name).map(t -> t._1), name);
+        }
+        assertEquals("Book", accessor.matchNameToType("Book").get()._2);
+    }
+}
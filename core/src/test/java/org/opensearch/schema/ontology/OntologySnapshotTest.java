@@ -0,0 +1,98 @@
+package org.opensearch.schema.ontology;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * test the immutable ontology snapshot - isolation from the origin ontology, structural sharing of derivations & content hash
+ */
+class OntologySnapshotTest {
+    private Ontology ontology;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        InputStream stream = Thread.currentThread().getContextClassLoader().getResourceAsStream("ontology/observability/client.json");
+        ontology = new ObjectMapper().readValue(stream, Ontology.class);
+    }
+
+    @Test
+    void testSnapshotIsIsolatedFromOntology() {
+        OntologySnapshot snapshot = OntologySnapshot.of(ontology);
+        String hash = snapshot.getContentHash();
+
+        ontology.getEntityTypes().get(0).setMetadata(Collections.singletonList("changed"));
+        ontology.getEntityTypes().remove(1);
+
+        assertNotEquals(ontology.getEntityTypes().size(), snapshot.getEntityTypes().size());
+        assertNotEquals(Collections.singletonList("changed"), snapshot.getEntityTypes().get(0).getMetadata());
+        assertEquals(hash, OntologySnapshot.of(snapshot.toOntology()).getContentHash());
+        assertNotEquals(hash, OntologySnapshot.of(ontology).getContentHash());
+    }
+
+    @Test
+    void testSnapshotCollectionsAreReadOnly() {
+        OntologySnapshot snapshot = OntologySnapshot.of(ontology);
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getEntityTypes().clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getProperties().clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.asOntology().getRelationshipTypes().clear());
+        //the mutable copy is detached from the snapshot
+        Ontology copy = snapshot.toOntology();
+        copy.getEntityTypes().clear();
+        assertFalse(snapshot.getEntityTypes().isEmpty());
+        assertEquals(ontology.getOnt(), copy.getOnt());
+    }
+
+    @Test
+    void testDerivationSharesUnmodifiedParts() {
+        OntologySnapshot snapshot = OntologySnapshot.of(ontology);
+        OntologySnapshot derived = snapshot
+                .modifyEntityTypes(e -> e.setMetadata(Collections.singletonList("tag")))
+                .withProperties(Collections.singletonList(new Property("tag", "tag", PrimitiveType.Types.STRING.asType())));
+
+        assertEquals(1, snapshot.getVersion());
+        assertEquals(3, derived.getVersion());
+        assertSame(snapshot.getRelationshipTypes(), derived.getRelationshipTypes());
+        assertSame(snapshot.getEnumeratedTypes(), derived.getEnumeratedTypes());
+        assertSame(snapshot.getDirectives(), derived.getDirectives());
+        //unchanged properties are shared
+        assertSame(snapshot.getProperties().iterator().next(), derived.getProperties().iterator().next());
+
+        assertTrue(derived.getEntityTypes().stream().allMatch(e -> e.getMetadata().equals(Collections.singletonList("tag"))));
+        assertFalse(snapshot.getEntityTypes().stream().allMatch(e -> e.getMetadata().equals(Collections.singletonList("tag"))));
+        assertEquals(snapshot.getProperties().size() + 1, derived.getProperties().size());
+        assertTrue(derived.accessor().property("tag").isPresent());
+        assertFalse(snapshot.accessor().property("tag").isPresent());
+    }
+
+    @Test
+    void testContentHash() {
+        OntologySnapshot snapshot = OntologySnapshot.of(ontology);
+        //same content, other version & properties order
+        List<Property> reversed = new ArrayList<>(ontology.getProperties());
+        Collections.reverse(reversed);
+        ontology.setProperties(new LinkedHashSet<>(reversed));
+        OntologySnapshot other = OntologySnapshot.of(ontology).withOnt(ontology.getOnt());
+
+        assertEquals(64, snapshot.getContentHash().length());
+        assertEquals(snapshot.getContentHash(), other.getContentHash());
+        assertEquals(snapshot, other);
+        assertNotEquals(snapshot.getVersion(), other.getVersion());
+        assertNotEquals(snapshot.getContentHash(), snapshot.withOnt("other").getContentHash());
+    }
+
+    @Test
+    void testAccessorIsShared() {
+        OntologySnapshot snapshot = OntologySnapshot.of(ontology);
+        assertSame(snapshot.accessor(), snapshot.accessor());
+        assertEquals(snapshot.getRelationshipTypes(), snapshot.accessor().relations());
+    }
+}
@@ -5,6 +5,7 @@
 package org.opensearch.simpleschema
 
 import org.opensearch.simpleschema.util.logger
+import org.opensearch.Version
 import org.opensearch.action.ActionRequest
 import org.opensearch.action.ActionResponse
 import org.opensearch.client.Client
@@ -42,10 +43,13 @@ import org.opensearch.simpleschema.action.GetSimpleSchemaObjectAction
 import org.opensearch.simpleschema.action.UpdateSimpleSchemaObjectAction
 import org.opensearch.simpleschema.action.CreateSimpleSchemaDomainAction
 import org.opensearch.simpleschema.action.GetSimpleSchemaDomainAction
+import org.opensearch.simpleschema.action.ExportSimpleSchemaObjectsAction
+import org.opensearch.simpleschema.action.ImportSimpleSchemaObjectsAction
 import org.opensearch.simpleschema.scheduler.SimpleSearchJobParser
 import org.opensearch.simpleschema.scheduler.SimpleSearchJobRunner
 import org.opensearch.simpleschema.resthandler.SchedulerRestHandler
 import org.opensearch.simpleschema.resthandler.SimpleSchemaDomainRestHandler
+import org.opensearch.simpleschema.resthandler.SimpleSchemaBulkRestHandler
 
 
 /**
@@ -59,6 +63,12 @@ class SimpleSchemaPlugin : Plugin(), ActionPlugin, ClusterPlugin, JobSchedulerEx
         const val PLUGIN_NAME = "opensearch-simple-schema"
         const val LOG_PREFIX = "simpleschema"
         const val BASE_SIMPLESCHEMA_URI = "/_plugins/_simpleschema"
+
+        /**
+         * the first version whose listing messages carry the search_after cursor (cursor, point in time & next cursor) -
+         * the cursor fields are neither written to nor read from nodes of older versions
+         */
+        val CURSOR_VERSION: Version = Version.V_2_3_0
     }
 
     /**
@@ -109,6 +119,7 @@ class SimpleSchemaPlugin : Plugin(), ActionPlugin, ClusterPlugin, JobSchedulerEx
         return listOf(
             SimpleSchemaRestHandler(),
             SimpleSchemaDomainRestHandler(),
+            SimpleSchemaBulkRestHandler(),
         )
     }
 
@@ -140,6 +151,14 @@ class SimpleSchemaPlugin : Plugin(), ActionPlugin, ClusterPlugin, JobSchedulerEx
             ActionPlugin.ActionHandler(
                 GetSimpleSchemaDomainAction.ACTION_TYPE,
                 GetSimpleSchemaDomainAction::class.java
+            ),
+            ActionPlugin.ActionHandler(
+                ExportSimpleSchemaObjectsAction.ACTION_TYPE,
+                ExportSimpleSchemaObjectsAction::class.java
+            ),
+            ActionPlugin.ActionHandler(
+                ImportSimpleSchemaObjectsAction.ACTION_TYPE,
+                ImportSimpleSchemaObjectsAction::class.java
             )
         )
     }
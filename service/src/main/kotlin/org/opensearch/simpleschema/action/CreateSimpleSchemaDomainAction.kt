@@ -28,7 +28,7 @@ internal class CreateSimpleSchemaDomainAction @Inject constructor(
     /**
      * {@inheritDoc}
      */
-    override fun executeRequest(
+    override suspend fun executeRequest(
         request: CreateSimpleSchemaDomainRequest,
         user: User?
     ): CreateSimpleSchemaDomainResponse {
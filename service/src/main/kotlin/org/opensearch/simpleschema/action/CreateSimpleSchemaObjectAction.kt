@@ -36,7 +36,7 @@ internal class CreateSimpleSchemaObjectAction @Inject constructor(
     /**
      * {@inheritDoc}
      */
-    override fun executeRequest(
+    override suspend fun executeRequest(
         request: CreateSimpleSchemaObjectRequest,
         user: User?
     ): CreateSimpleSchemaObjectResponse {
@@ -36,7 +36,7 @@ internal class DeleteSimpleSchemaObjectAction @Inject constructor(
     /**
      * {@inheritDoc}
      */
-    override fun executeRequest(request: DeleteSimpleSchemaObjectRequest, user: User?): DeleteSimpleSchemaObjectResponse {
+    override suspend fun executeRequest(request: DeleteSimpleSchemaObjectRequest, user: User?): DeleteSimpleSchemaObjectResponse {
 
         return SimpleSchemaActions.delete(request.objectIds, user)
     }
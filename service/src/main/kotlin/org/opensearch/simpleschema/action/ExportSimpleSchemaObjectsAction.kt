@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.simpleschema.action
+
+import org.opensearch.action.ActionType
+import org.opensearch.action.support.ActionFilters
+import org.opensearch.client.Client
+import org.opensearch.common.inject.Inject
+import org.opensearch.common.xcontent.NamedXContentRegistry
+import org.opensearch.commons.authuser.User
+import org.opensearch.transport.TransportService
+
+/**
+ * Export Objects transport action
+ */
+internal class ExportSimpleSchemaObjectsAction @Inject constructor(
+    transportService: TransportService,
+    client: Client,
+    actionFilters: ActionFilters,
+    val xContentRegistry: NamedXContentRegistry
+) : PluginBaseAction<ExportSimpleSchemaObjectsRequest, ExportSimpleSchemaObjectsResponse>(
+    NAME,
+    transportService,
+    client,
+    actionFilters,
+    ::ExportSimpleSchemaObjectsRequest
+) {
+    companion object {
+        private const val NAME = "cluster:admin/opensearch/simpleschema/export"
+        internal val ACTION_TYPE = ActionType(NAME, ::ExportSimpleSchemaObjectsResponse)
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    override suspend fun executeRequest(request: ExportSimpleSchemaObjectsRequest, user: User?): ExportSimpleSchemaObjectsResponse {
+        return SimpleSchemaActions.export(request, user)
+    }
+}
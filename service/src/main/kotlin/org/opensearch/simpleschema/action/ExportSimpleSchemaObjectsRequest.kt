@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.simpleschema.action
+
+import org.opensearch.action.ActionRequest
+import org.opensearch.action.ActionRequestValidationException
+import org.opensearch.action.ValidateActions
+import org.opensearch.common.io.stream.StreamInput
+import org.opensearch.common.io.stream.StreamOutput
+import org.opensearch.common.io.stream.Writeable
+import org.opensearch.common.xcontent.ToXContent
+import org.opensearch.common.xcontent.ToXContentObject
+import org.opensearch.common.xcontent.XContentBuilder
+import org.opensearch.common.xcontent.XContentParser
+import org.opensearch.common.xcontent.XContentParserUtils
+import org.opensearch.commons.utils.enumSet
+import org.opensearch.commons.utils.fieldIfNotNull
+import org.opensearch.commons.utils.logger
+import org.opensearch.simpleschema.model.RestTag.CURSOR_FIELD
+import org.opensearch.simpleschema.model.RestTag.MAX_ITEMS_FIELD
+import org.opensearch.simpleschema.model.RestTag.OBJECT_TYPE_FIELD
+import org.opensearch.simpleschema.model.SearchCursor
+import org.opensearch.simpleschema.model.SimpleSchemaObjectType
+import org.opensearch.simpleschema.settings.PluginSettings
+import java.io.IOException
+import java.util.EnumSet
+
+/**
+ * Action Request for exporting a page of Objects as NDJSON - the following pages are requested with the returned cursor.
+ */
+internal class ExportSimpleSchemaObjectsRequest : ActionRequest, ToXContentObject {
+    val types: EnumSet<SimpleSchemaObjectType>
+    val cursor: String?
+    val maxItems: Int
+
+    companion object {
+        private val log by logger(ExportSimpleSchemaObjectsRequest::class.java)
+
+        /**
+         * upper bound of the objects of a single export page
+         */
+        const val MAX_EXPORT_ITEMS = 10000
+
+        /**
+         * reader to create instance of class from writable.
+         */
+        val reader = Writeable.Reader { ExportSimpleSchemaObjectsRequest(it) }
+
+        /**
+         * Creator used in REST communication.
+         * @param parser XContentParser to deserialize data from.
+         */
+        @JvmStatic
+        @Throws(IOException::class)
+        fun parse(parser: XContentParser): ExportSimpleSchemaObjectsRequest {
+            var types: EnumSet<SimpleSchemaObjectType> = EnumSet.noneOf(SimpleSchemaObjectType::class.java)
+            var cursor: String? = null
+            var maxItems = PluginSettings.defaultItemsQueryCount
+
+            XContentParserUtils.ensureExpectedToken(
+                XContentParser.Token.START_OBJECT,
+                parser.currentToken(),
+                parser
+            )
+            while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+                val fieldName = parser.currentName()
+                parser.nextToken()
+                when (fieldName) {
+                    OBJECT_TYPE_FIELD -> types = parser.enumSet(SimpleSchemaObjectType.enumParser)
+                    CURSOR_FIELD -> cursor = parser.text()
+                    MAX_ITEMS_FIELD -> maxItems = parser.intValue()
+                    else -> {
+                        parser.skipChildren()
+                        log.info("Unexpected field: $fieldName, while parsing ExportObjectsRequest")
+                    }
+                }
+            }
+            return ExportSimpleSchemaObjectsRequest(types, cursor, maxItems)
+        }
+    }
+
+    /**
+     * constructor for creating the class
+     * @param types the object types to export, all the types when empty
+     * @param cursor the cursor returned with the previous page, null for the first page
+     * @param maxItems the maximum number of objects of the page
+     */
+    constructor(
+        types: EnumSet<SimpleSchemaObjectType> = EnumSet.noneOf(SimpleSchemaObjectType::class.java),
+        cursor: String? = null,
+        maxItems: Int = PluginSettings.defaultItemsQueryCount
+    ) {
+        this.types = types
+        this.cursor = cursor
+        this.maxItems = maxItems
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Throws(IOException::class)
+    constructor(input: StreamInput) : super(input) {
+        types = input.readEnumSet(SimpleSchemaObjectType::class.java)
+        cursor = input.readOptionalString()
+        maxItems = input.readInt()
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Throws(IOException::class)
+    override fun writeTo(output: StreamOutput) {
+        super.writeTo(output)
+        output.writeEnumSet(types)
+        output.writeOptionalString(cursor)
+        output.writeInt(maxItems)
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    override fun toXContent(builder: XContentBuilder?, params: ToXContent.Params?): XContentBuilder {
+        return builder!!.startObject()
+            .field(OBJECT_TYPE_FIELD, types)
+            .fieldIfNotNull(CURSOR_FIELD, cursor)
+            .field(MAX_ITEMS_FIELD, maxItems)
+            .endObject()
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    override fun validate(): ActionRequestValidationException? {
+        var validationException: ActionRequestValidationException? = null
+        if (maxItems <= 0 || maxItems > MAX_EXPORT_ITEMS) {
+            validationException = ValidateActions.addValidationError(
+                "maxItems is not in range 1..$MAX_EXPORT_ITEMS",
+                validationException
+            )
+        }
+        val cursor = cursor
+        if (cursor != null && runCatching { SearchCursor.decode(cursor) }.isFailure) {
+            validationException = ValidateActions.addValidationError("cursor is invalid", validationException)
+        }
+        return validationException
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.simpleschema.action
+
+import org.opensearch.common.bytes.BytesReference
+import org.opensearch.common.io.stream.StreamInput
+import org.opensearch.common.io.stream.StreamOutput
+import org.opensearch.common.io.stream.Writeable
+import org.opensearch.common.xcontent.ToXContent
+import org.opensearch.common.xcontent.XContentBuilder
+import org.opensearch.simpleschema.model.BaseResponse
+import org.opensearch.simpleschema.model.RestTag.EXPORTED_COUNT_TAG
+import org.opensearch.simpleschema.model.RestTag.NEXT_CURSOR_TAG
+import org.opensearch.simpleschema.util.fieldIfNotNull
+import java.io.IOException
+
+/**
+ * Action Response for exporting a page of Objects - the exported objects as NDJSON, one
+ * [org.opensearch.simpleschema.model.SimpleSchemaObjectDoc] (including its id) per line, and the cursor of the next page.
+ */
+internal class ExportSimpleSchemaObjectsResponse : BaseResponse {
+    val content: BytesReference
+    val exportedCount: Long
+    val nextCursor: String?
+
+    companion object {
+        /**
+         * reader to create instance of class from writable.
+         */
+        val reader = Writeable.Reader { ExportSimpleSchemaObjectsResponse(it) }
+    }
+
+    /**
+     * constructor for creating the class
+     * @param content the NDJSON content of the exported objects
+     * @param exportedCount the number of exported objects
+     * @param nextCursor the cursor of the next page, null when all the objects are exported
+     */
+    constructor(content: BytesReference, exportedCount: Long, nextCursor: String? = null) {
+        this.content = content
+        this.exportedCount = exportedCount
+        this.nextCursor = nextCursor
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Throws(IOException::class)
+    constructor(input: StreamInput) : super(input) {
+        content = input.readBytesReference()
+        exportedCount = input.readLong()
+        nextCursor = input.readOptionalString()
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Throws(IOException::class)
+    override fun writeTo(output: StreamOutput) {
+        output.writeBytesReference(content)
+        output.writeLong(exportedCount)
+        output.writeOptionalString(nextCursor)
+    }
+
+    /**
+     * the XContent form only summarizes the export - the REST layer sends the NDJSON content as is
+     */
+    override fun toXContent(builder: XContentBuilder?, params: ToXContent.Params?): XContentBuilder {
+        builder!!
+        return builder.startObject()
+            .field(EXPORTED_COUNT_TAG, exportedCount)
+            .fieldIfNotNull(NEXT_CURSOR_TAG, nextCursor)
+            .endObject()
+    }
+}
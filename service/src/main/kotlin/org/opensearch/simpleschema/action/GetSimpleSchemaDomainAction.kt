@@ -28,7 +28,7 @@ internal class GetSimpleSchemaDomainAction @Inject constructor(
     /**
      * {@inheritDoc}
      */
-    override fun executeRequest(
+    override suspend fun executeRequest(
         request: GetSimpleSchemaDomainRequest,
         user: User?
     ): GetSimpleSchemaDomainResponse {
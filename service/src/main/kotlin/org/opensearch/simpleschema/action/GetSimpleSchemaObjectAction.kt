@@ -36,7 +36,7 @@ internal class GetSimpleSchemaObjectAction @Inject constructor(
     /**
      * {@inheritDoc}
      */
-    override fun executeRequest(request: GetSimpleSchemaObjectRequest, user: User?): GetSimpleSchemaObjectResponse {
+    override suspend fun executeRequest(request: GetSimpleSchemaObjectRequest, user: User?): GetSimpleSchemaObjectResponse {
         return SimpleSchemaActions.get(request, user)
     }
 }
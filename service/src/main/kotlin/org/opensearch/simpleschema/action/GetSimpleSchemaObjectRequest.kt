@@ -23,12 +23,16 @@ import org.opensearch.commons.utils.enumSet
 import org.opensearch.commons.utils.fieldIfNotNull
 import org.opensearch.commons.utils.logger
 import org.opensearch.commons.utils.stringList
+import org.opensearch.simpleschema.SimpleSchemaPlugin.Companion.CURSOR_VERSION
+import org.opensearch.simpleschema.model.SearchCursor
 import org.opensearch.simpleschema.model.SimpleSchemaObjectType
+import org.opensearch.simpleschema.model.RestTag.CURSOR_FIELD
 import org.opensearch.simpleschema.model.RestTag.FILTER_PARAM_LIST_FIELD
 import org.opensearch.simpleschema.model.RestTag.FROM_INDEX_FIELD
 import org.opensearch.simpleschema.model.RestTag.MAX_ITEMS_FIELD
 import org.opensearch.simpleschema.model.RestTag.OBJECT_ID_LIST_FIELD
 import org.opensearch.simpleschema.model.RestTag.OBJECT_TYPE_FIELD
+import org.opensearch.simpleschema.model.RestTag.POINT_IN_TIME_ID_FIELD
 import org.opensearch.simpleschema.model.RestTag.SORT_FIELD_FIELD
 import org.opensearch.simpleschema.model.RestTag.SORT_ORDER_FIELD
 import org.opensearch.simpleschema.settings.PluginSettings
@@ -47,6 +51,8 @@ class GetSimpleSchemaObjectRequest : ActionRequest, ToXContentObject {
     val sortField: String?
     val sortOrder: SortOrder?
     val filterParams: Map<String, String>
+    val cursor: String?
+    val pointInTimeId: String?
 
     companion object {
         private val log by logger(GetSimpleSchemaObjectRequest::class.java)
@@ -70,6 +76,8 @@ class GetSimpleSchemaObjectRequest : ActionRequest, ToXContentObject {
             var sortField: String? = null
             var sortOrder: SortOrder? = null
             var filterParams: Map<String, String> = mapOf()
+            var cursor: String? = null
+            var pointInTimeId: String? = null
 
             XContentParserUtils.ensureExpectedToken(
                 XContentParser.Token.START_OBJECT,
@@ -87,6 +95,8 @@ class GetSimpleSchemaObjectRequest : ActionRequest, ToXContentObject {
                     SORT_FIELD_FIELD -> sortField = parser.text()
                     SORT_ORDER_FIELD -> sortOrder = SortOrder.fromString(parser.text())
                     FILTER_PARAM_LIST_FIELD -> filterParams = parser.mapStrings()
+                    CURSOR_FIELD -> cursor = parser.text()
+                    POINT_IN_TIME_ID_FIELD -> pointInTimeId = parser.text()
                     else -> {
                         parser.skipChildren()
                         log.info("Unexpected field: $fieldName, while parsing GetObjectRequest")
@@ -100,7 +110,9 @@ class GetSimpleSchemaObjectRequest : ActionRequest, ToXContentObject {
                 maxItems,
                 sortField,
                 sortOrder,
-                filterParams
+                filterParams,
+                cursor,
+                pointInTimeId
             )
         }
     }
@@ -117,6 +129,8 @@ class GetSimpleSchemaObjectRequest : ActionRequest, ToXContentObject {
             .fieldIfNotNull(SORT_FIELD_FIELD, sortField)
             .fieldIfNotNull(SORT_ORDER_FIELD, sortOrder)
             .field(FILTER_PARAM_LIST_FIELD, filterParams)
+            .fieldIfNotNull(CURSOR_FIELD, cursor)
+            .fieldIfNotNull(POINT_IN_TIME_ID_FIELD, pointInTimeId)
             .endObject()
     }
 
@@ -128,6 +142,8 @@ class GetSimpleSchemaObjectRequest : ActionRequest, ToXContentObject {
      * @param sortField the sort field if response has many items
      * @param sortOrder the sort order if response has many items
      * @param filterParams the filter parameters
+     * @param cursor the cursor returned with the previous page - pages with search_after instead of fromIndex
+     * @param pointInTimeId the point in time to read the pages from, null to read the live index
      */
     @Suppress("LongParameterList")
     constructor(
@@ -137,7 +153,9 @@ class GetSimpleSchemaObjectRequest : ActionRequest, ToXContentObject {
         maxItems: Int = PluginSettings.defaultItemsQueryCount,
         sortField: String? = null,
         sortOrder: SortOrder? = null,
-        filterParams: Map<String, String> = mapOf()
+        filterParams: Map<String, String> = mapOf(),
+        cursor: String? = null,
+        pointInTimeId: String? = null
     ) {
         this.objectIds = objectIds
         this.types = types
@@ -146,6 +164,8 @@ class GetSimpleSchemaObjectRequest : ActionRequest, ToXContentObject {
         this.sortField = sortField
         this.sortOrder = sortOrder
         this.filterParams = filterParams
+        this.cursor = cursor
+        this.pointInTimeId = pointInTimeId
     }
 
     /**
@@ -160,6 +180,13 @@ class GetSimpleSchemaObjectRequest : ActionRequest, ToXContentObject {
         sortField = input.readOptionalString()
         sortOrder = input.readOptionalWriteable(enumReader(SortOrder::class.java))
         filterParams = input.readMap(STRING_READER, STRING_READER)
+        if (input.version.onOrAfter(CURSOR_VERSION)) {
+            cursor = input.readOptionalString()
+            pointInTimeId = input.readOptionalString()
+        } else {
+            cursor = null
+            pointInTimeId = null
+        }
     }
 
     /**
@@ -175,6 +202,10 @@ class GetSimpleSchemaObjectRequest : ActionRequest, ToXContentObject {
         output.writeOptionalString(sortField)
         output.writeOptionalWriteable(sortOrder)
         output.writeMap(filterParams, STRING_WRITER, STRING_WRITER)
+        if (output.version.onOrAfter(CURSOR_VERSION)) {
+            output.writeOptionalString(cursor)
+            output.writeOptionalString(pointInTimeId)
+        }
     }
 
     /**
@@ -188,6 +219,18 @@ class GetSimpleSchemaObjectRequest : ActionRequest, ToXContentObject {
         if (maxItems <= 0) {
             validationException = ValidateActions.addValidationError("maxItems is not +ve", validationException)
         }
+        val cursor = cursor
+        if (cursor != null) {
+            if (fromIndex != 0) {
+                validationException = ValidateActions.addValidationError("fromIndex can't be used with cursor", validationException)
+            }
+            if (sortField != null) {
+                validationException = ValidateActions.addValidationError("sortField can't be used with cursor", validationException)
+            }
+            if (runCatching { SearchCursor.decode(cursor) }.isFailure) {
+                validationException = ValidateActions.addValidationError("cursor is invalid", validationException)
+            }
+        }
         return validationException
     }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.simpleschema.action
+
+import org.opensearch.action.ActionType
+import org.opensearch.action.support.ActionFilters
+import org.opensearch.client.Client
+import org.opensearch.common.inject.Inject
+import org.opensearch.common.xcontent.NamedXContentRegistry
+import org.opensearch.commons.authuser.User
+import org.opensearch.transport.TransportService
+
+/**
+ * Import Objects transport action
+ */
+internal class ImportSimpleSchemaObjectsAction @Inject constructor(
+    transportService: TransportService,
+    client: Client,
+    actionFilters: ActionFilters,
+    val xContentRegistry: NamedXContentRegistry
+) : PluginBaseAction<ImportSimpleSchemaObjectsRequest, ImportSimpleSchemaObjectsResponse>(
+    NAME,
+    transportService,
+    client,
+    actionFilters,
+    ::ImportSimpleSchemaObjectsRequest
+) {
+    companion object {
+        private const val NAME = "cluster:admin/opensearch/simpleschema/import"
+        internal val ACTION_TYPE = ActionType(NAME, ::ImportSimpleSchemaObjectsResponse)
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    override suspend fun executeRequest(request: ImportSimpleSchemaObjectsRequest, user: User?): ImportSimpleSchemaObjectsResponse {
+        return SimpleSchemaActions.import(request, user)
+    }
+}
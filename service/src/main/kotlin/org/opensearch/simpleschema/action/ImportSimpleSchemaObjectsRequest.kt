@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.simpleschema.action
+
+import org.opensearch.action.ActionRequest
+import org.opensearch.action.ActionRequestValidationException
+import org.opensearch.action.ValidateActions
+import org.opensearch.common.bytes.BytesReference
+import org.opensearch.common.io.stream.StreamInput
+import org.opensearch.common.io.stream.StreamOutput
+import org.opensearch.common.io.stream.Writeable
+import java.io.IOException
+
+/**
+ * Action Request for importing Objects from NDJSON - one [org.opensearch.simpleschema.model.SimpleSchemaObjectDoc]
+ * (including its id) per line, as written by the export.
+ */
+internal class ImportSimpleSchemaObjectsRequest : ActionRequest {
+    val content: BytesReference
+    val overwrite: Boolean
+
+    companion object {
+        /**
+         * reader to create instance of class from writable.
+         */
+        val reader = Writeable.Reader { ImportSimpleSchemaObjectsRequest(it) }
+    }
+
+    /**
+     * constructor for creating the class
+     * @param content the NDJSON content of the imported objects
+     * @param overwrite replace existing objects with the same id
+     */
+    constructor(content: BytesReference, overwrite: Boolean = false) {
+        this.content = content
+        this.overwrite = overwrite
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Throws(IOException::class)
+    constructor(input: StreamInput) : super(input) {
+        content = input.readBytesReference()
+        overwrite = input.readBoolean()
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Throws(IOException::class)
+    override fun writeTo(output: StreamOutput) {
+        super.writeTo(output)
+        output.writeBytesReference(content)
+        output.writeBoolean(overwrite)
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    override fun validate(): ActionRequestValidationException? {
+        var validationException: ActionRequestValidationException? = null
+        if (content.length() == 0) {
+            validationException = ValidateActions.addValidationError("content is empty", validationException)
+        }
+        return validationException
+    }
+}
@@ -7,6 +7,7 @@ package org.opensearch.simpleschema.action
 
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.TimeoutCancellationException
 import kotlinx.coroutines.launch
 import org.opensearch.OpenSearchSecurityException
 import org.opensearch.OpenSearchStatusException
@@ -78,6 +79,9 @@ abstract class PluginBaseAction<Request : ActionRequest, Response : ActionRespon
             } catch (exception: IllegalArgumentException) {
                 log.warn("$LOG_PREFIX:IllegalArgumentException:", exception)
                 listener.onFailure(OpenSearchStatusException(exception.message, RestStatus.BAD_REQUEST))
+            } catch (exception: TimeoutCancellationException) {
+                log.warn("$LOG_PREFIX:TimeoutCancellationException:", exception)
+                listener.onFailure(OpenSearchStatusException(exception.message, RestStatus.REQUEST_TIMEOUT))
             } catch (exception: IllegalStateException) {
                 log.warn("$LOG_PREFIX:IllegalStateException:", exception)
                 listener.onFailure(OpenSearchStatusException(exception.message, RestStatus.SERVICE_UNAVAILABLE))
@@ -92,9 +96,9 @@ abstract class PluginBaseAction<Request : ActionRequest, Response : ActionRespon
     }
 
     /**
-     * Execute the transport request
+     * Execute the transport request - the request suspends (rather than blocks its thread) while waiting on the cluster
      * @param request the request to execute
      * @return the response to return.
      */
-    abstract fun executeRequest(request: Request, user: User?): Response
+    abstract suspend fun executeRequest(request: Request, user: User?): Response
 }
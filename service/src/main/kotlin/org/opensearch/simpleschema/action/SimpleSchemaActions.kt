@@ -6,10 +6,21 @@
 package org.opensearch.simpleschema.action
 
 import org.opensearch.OpenSearchStatusException
+import org.opensearch.common.bytes.BytesReference
+import org.opensearch.common.io.stream.BytesStreamOutput
+import org.opensearch.common.xcontent.LoggingDeprecationHandler
+import org.opensearch.common.xcontent.NamedXContentRegistry
+import org.opensearch.common.xcontent.ToXContent
+import org.opensearch.common.xcontent.XContentHelper
+import org.opensearch.common.xcontent.XContentType
 import org.opensearch.commons.authuser.User
+import org.opensearch.simpleschema.domain.DomainCompiler
 import org.opensearch.simpleschema.index.SimpleSearchIndex
+import org.opensearch.simpleschema.model.RestTag.OBJECT_ID_FIELD
+import org.opensearch.simpleschema.model.SearchCursor
 import org.opensearch.simpleschema.model.SimpleSchemaObjectDoc
 import org.opensearch.simpleschema.model.SimpleSchemaObjectSearchResult
+import org.opensearch.simpleschema.model.SimpleSchemaObjectType
 import org.opensearch.simpleschema.security.UserAccessManager
 import org.opensearch.simpleschema.util.logger
 import org.opensearch.rest.RestStatus
@@ -21,13 +32,17 @@ import java.time.Instant
  */
 internal object SimpleSchemaActions {
     private val log by logger(SimpleSchemaActions::class.java)
+    private val NDJSON_SEPARATOR = '\n'.code.toByte()
+    private val EXPORT_PARAMS = ToXContent.MapParams(mapOf(OBJECT_ID_FIELD to "true"))
+    private const val EXPORT_MAX_SIZE_BYTES = 10L * 1024 * 1024
+    private const val IMPORT_CHUNK_SIZE = 1000
 
     /**
      * Create new Object
      * @param request [CreateSimpleSchemaObjectRequest] object
      * @return [CreateSimpleSchemaObjectResponse]
      */
-    fun create(request: CreateSimpleSchemaObjectRequest, user: User?): CreateSimpleSchemaObjectResponse {
+    suspend fun create(request: CreateSimpleSchemaObjectRequest, user: User?): CreateSimpleSchemaObjectResponse {
         log.info("$LOG_PREFIX:SimpleSchemaObject-create")
         UserAccessManager.validateUser(user)
         val currentTime = Instant.now()
@@ -53,7 +68,7 @@ internal object SimpleSchemaActions {
      * @param request [UpdateSimpleSchemaObjectRequest] object
      * @return [UpdateSimpleSchemaObjectResponse]
      */
-    fun update(request: UpdateSimpleSchemaObjectRequest, user: User?): UpdateSimpleSchemaObjectResponse {
+    suspend fun update(request: UpdateSimpleSchemaObjectRequest, user: User?): UpdateSimpleSchemaObjectResponse {
         log.info("$LOG_PREFIX:SimpleSchemaObject-update ${request.objectId}")
         UserAccessManager.validateUser(user)
         val objectDocInfo = SimpleSearchIndex.getSimpleSchemaObject(request.objectId)
@@ -93,7 +108,7 @@ internal object SimpleSchemaActions {
      * @param request [GetSimpleSchemaObjectRequest] object
      * @return [GetSimpleSchemaObjectResponse]
      */
-    fun get(request: GetSimpleSchemaObjectRequest, user: User?): GetSimpleSchemaObjectResponse {
+    suspend fun get(request: GetSimpleSchemaObjectRequest, user: User?): GetSimpleSchemaObjectResponse {
         log.info("$LOG_PREFIX:SimpleSchemaObject-get ${request.objectIds}")
         UserAccessManager.validateUser(user)
         return when (request.objectIds.size) {
@@ -109,7 +124,7 @@ internal object SimpleSchemaActions {
      * @param user the user info object
      * @return [GetSimpleSchemaObjectResponse]
      */
-    private fun info(objectId: String, user: User?): GetSimpleSchemaObjectResponse {
+    private suspend fun info(objectId: String, user: User?): GetSimpleSchemaObjectResponse {
         log.info("$LOG_PREFIX:SimpleSchemaObject-info $objectId")
         val objectDocInfo = SimpleSearchIndex.getSimpleSchemaObject(objectId)
         objectDocInfo
@@ -141,7 +156,7 @@ internal object SimpleSchemaActions {
      * @param user the user info object
      * @return [GetSimpleSchemaObjectResponse]
      */
-    private fun info(objectIds: Set<String>, user: User?): GetSimpleSchemaObjectResponse {
+    private suspend fun info(objectIds: Set<String>, user: User?): GetSimpleSchemaObjectResponse {
         log.info("$LOG_PREFIX:SimpleSchemaObject-info $objectIds")
         val objectDocs = SimpleSearchIndex.getSimpleSchemaObjects(objectIds)
         if (objectDocs.size != objectIds.size) {
@@ -184,7 +199,7 @@ internal object SimpleSchemaActions {
      * @param user the user info object
      * @return [GetSimpleSchemaObjectResponse]
      */
-    private fun getAll(request: GetSimpleSchemaObjectRequest, user: User?): GetSimpleSchemaObjectResponse {
+    private suspend fun getAll(request: GetSimpleSchemaObjectRequest, user: User?): GetSimpleSchemaObjectResponse {
         log.info("$LOG_PREFIX:SimpleSchemaObject-getAll")
         val searchResult = SimpleSearchIndex.getAllSimpleSchemaObjects(
             UserAccessManager.getUserTenant(user),
@@ -194,13 +209,132 @@ internal object SimpleSchemaActions {
         return GetSimpleSchemaObjectResponse(searchResult, UserAccessManager.hasAllInfoAccess(user))
     }
 
+    /**
+     * Export a page of the user's Objects as NDJSON - the page ends after maxItems objects or once its content reaches
+     * [EXPORT_MAX_SIZE_BYTES], so the memory held by an export is bounded. The returned cursor continues the export
+     * @param request [ExportSimpleSchemaObjectsRequest] object
+     * @param user the user info object
+     * @return [ExportSimpleSchemaObjectsResponse]
+     */
+    suspend fun export(request: ExportSimpleSchemaObjectsRequest, user: User?): ExportSimpleSchemaObjectsResponse {
+        log.info("$LOG_PREFIX:SimpleSchemaObject-export ${request.types} cursor:${request.cursor != null}")
+        UserAccessManager.validateUser(user)
+        val output = BytesStreamOutput()
+        var exportedCount = 0L
+        val nextCursor = SimpleSearchIndex.exportSimpleSchemaObjects(
+            UserAccessManager.getUserTenant(user),
+            UserAccessManager.getSearchAccessInfo(user),
+            request.types,
+            request.cursor?.let { SearchCursor.decode(it) },
+            request.maxItems
+        ) {
+            BytesReference.bytes(it.toXContent(EXPORT_PARAMS)).writeTo(output)
+            output.writeByte(NDJSON_SEPARATOR)
+            exportedCount++
+            output.size() < EXPORT_MAX_SIZE_BYTES
+        }
+        return ExportSimpleSchemaObjectsResponse(output.bytes(), exportedCount, nextCursor?.encode())
+    }
+
+    /**
+     * Import Objects from NDJSON (as written by the export) into the user's tenant, keeping the objects ids.
+     * The lines are imported in chunks; the domains of a chunk are compiled (as on their creation) after its other objects
+     * are stored. Lines which can't be parsed, have no object id or fail the domain compilation are reported by their
+     * line number
+     * @param request [ImportSimpleSchemaObjectsRequest] object
+     * @param user the user info object
+     * @return [ImportSimpleSchemaObjectsResponse]
+     */
+    suspend fun import(request: ImportSimpleSchemaObjectsRequest, user: User?): ImportSimpleSchemaObjectsResponse {
+        log.info("$LOG_PREFIX:SimpleSchemaObject-import overwrite:${request.overwrite}")
+        UserAccessManager.validateUser(user)
+        val tenant = UserAccessManager.getUserTenant(user)
+        val access = UserAccessManager.getAllAccessInfo(user)
+        val importStatus = mutableMapOf<String, RestStatus>()
+        val canOverwrite: ((SimpleSchemaObjectDoc) -> Boolean)? = if (request.overwrite) {
+            { UserAccessManager.doesUserHasAccess(user, it.tenant, it.access) }
+        } else {
+            null
+        }
+        parseLines(request.content, importStatus).chunked(IMPORT_CHUNK_SIZE).forEach { chunk ->
+            val (domains, objects) = chunk
+                .map { (lineNumber, objectDoc) -> lineNumber to objectDoc.copy(tenant = tenant, access = access) }
+                .partition { (_, objectDoc) -> objectDoc.type == SimpleSchemaObjectType.SCHEMA_DOMAIN }
+            importStatus.putAll(SimpleSearchIndex.importSimpleSchemaObjects(objects.map { it.second }.iterator(), canOverwrite))
+            val compiledDomains = domains.filter { (lineNumber, objectDoc) -> compileDomain(lineNumber, objectDoc, user, importStatus) }
+            importStatus.putAll(SimpleSearchIndex.importSimpleSchemaObjects(compiledDomains.map { it.second }.iterator(), canOverwrite))
+        }
+        return ImportSimpleSchemaObjectsResponse(importStatus)
+    }
+
+    /**
+     * Compile an imported domain the same way as on its creation, reporting a failure by its line number
+     * @return true if the domain compiled
+     */
+    @Suppress("TooGenericExceptionCaught")
+    private suspend fun compileDomain(
+        lineNumber: Int,
+        objectDoc: SimpleSchemaObjectDoc,
+        user: User?,
+        failures: MutableMap<String, RestStatus>
+    ): Boolean {
+        return try {
+            DomainCompiler.compile(objectDoc, user)
+            true
+        } catch (exception: OpenSearchStatusException) {
+            log.warn("$LOG_PREFIX:SimpleSchemaObject-import line $lineNumber skipped; ${exception.message}")
+            failures["line:$lineNumber"] = exception.status()
+            false
+        } catch (exception: Exception) {
+            log.warn("$LOG_PREFIX:SimpleSchemaObject-import line $lineNumber skipped; ${exception.message}")
+            failures["line:$lineNumber"] = RestStatus.BAD_REQUEST
+            false
+        }
+    }
+
+    /**
+     * Lazily parse the NDJSON lines into (line number, object) pairs - a line is parsed only when the import pulls its object
+     */
+    @Suppress("TooGenericExceptionCaught")
+    private fun parseLines(content: BytesReference, failures: MutableMap<String, RestStatus>): Sequence<Pair<Int, SimpleSchemaObjectDoc>> {
+        return sequence {
+            var from = 0
+            var lineNumber = 1
+            while (from < content.length()) {
+                val separator = content.indexOf(NDJSON_SEPARATOR, from)
+                val end = if (separator < 0) content.length() else separator
+                if (end > from) {
+                    val objectDoc = try {
+                        val parser = XContentHelper.createParser(
+                            NamedXContentRegistry.EMPTY,
+                            LoggingDeprecationHandler.INSTANCE,
+                            content.slice(from, end - from),
+                            XContentType.JSON
+                        )
+                        parser.nextToken()
+                        val objectDoc = SimpleSchemaObjectDoc.parse(parser)
+                        require(objectDoc.objectId.isNotBlank()) { "$OBJECT_ID_FIELD is empty" }
+                        objectDoc
+                    } catch (exception: Exception) {
+                        log.warn("$LOG_PREFIX:SimpleSchemaObject-import line $lineNumber skipped; ${exception.message}")
+                        failures["line:$lineNumber"] = RestStatus.BAD_REQUEST
+                        null
+                    }
+                    objectDoc?.let { yield(lineNumber to it) }
+                }
+                from = end + 1
+                lineNumber++
+            }
+        }
+    }
+
     /**
      * Delete Object
      * @param request [SimpleSchemaObjectRequest] object
      * @param user the user info object
      * @return [DeleteSimpleSchemaObjectResponse]
      */
-    fun delete(request: SimpleSchemaObjectRequest, user: User?): DeleteSimpleSchemaObjectResponse {
+    suspend fun delete(request: SimpleSchemaObjectRequest, user: User?): DeleteSimpleSchemaObjectResponse {
         log.info("$LOG_PREFIX:SimpleSchemaObject-delete ${request.objectIds}")
         return if (request.objectIds.size == 1) {
             delete(request.objectIds.first(), user)
@@ -216,7 +350,7 @@ internal object SimpleSchemaActions {
      * @param user
      * @return [DeleteSimpleSchemaObjectResponse]
      */
-    private fun delete(objectId: String, user: User?): DeleteSimpleSchemaObjectResponse {
+    private suspend fun delete(objectId: String, user: User?): DeleteSimpleSchemaObjectResponse {
         log.info("$LOG_PREFIX:SimpleSchemaObject-delete $objectId")
         UserAccessManager.validateUser(user)
         val objectDocInfo = SimpleSearchIndex.getSimpleSchemaObject(objectId)
@@ -250,7 +384,7 @@ internal object SimpleSchemaActions {
      * @param user the user info object
      * @return [DeleteSimpleSchemaObjectResponse]
      */
-    fun delete(objectIds: Set<String>, user: User?): DeleteSimpleSchemaObjectResponse {
+    suspend fun delete(objectIds: Set<String>, user: User?): DeleteSimpleSchemaObjectResponse {
         log.info("$LOG_PREFIX:SimpleSchemaObject-delete $objectIds")
         UserAccessManager.validateUser(user)
         val configDocs = SimpleSearchIndex.getSimpleSchemaObjects(objectIds)
@@ -19,7 +19,7 @@ import java.time.Instant
 internal object SimpleSchemaDomainActions {
     private val log by logger(SimpleSchemaDomainActions::class.java)
 
-    fun create(request: CreateSimpleSchemaDomainRequest, user: User?): CreateSimpleSchemaDomainResponse {
+    suspend fun create(request: CreateSimpleSchemaDomainRequest, user: User?): CreateSimpleSchemaDomainResponse {
         log.info("${SimpleSchemaPlugin.LOG_PREFIX}:SimpleSchemaDomain-create")
         UserAccessManager.validateUser(user)
         val currentTime = Instant.now()
@@ -43,7 +43,7 @@ internal object SimpleSchemaDomainActions {
         return CreateSimpleSchemaDomainResponse(docId, requestObjectData.name, requestObjectData.entities)
     }
 
-    fun get(request: GetSimpleSchemaDomainRequest, user: User?): GetSimpleSchemaDomainResponse {
+    suspend fun get(request: GetSimpleSchemaDomainRequest, user: User?): GetSimpleSchemaDomainResponse {
         log.info("${SimpleSchemaPlugin.LOG_PREFIX}:SimpleSchemaDomain-get")
         UserAccessManager.validateUser(user)
         val result = SimpleSearchIndex.getSimpleSchemaObject(request.objectId)
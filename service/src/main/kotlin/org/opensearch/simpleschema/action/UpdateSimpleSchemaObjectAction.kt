@@ -36,7 +36,7 @@ internal class UpdateSimpleSchemaObjectAction @Inject constructor(
     /**
      * {@inheritDoc}
      */
-    override fun executeRequest(request: UpdateSimpleSchemaObjectRequest, user: User?): UpdateSimpleSchemaObjectResponse {
+    override suspend fun executeRequest(request: UpdateSimpleSchemaObjectRequest, user: User?): UpdateSimpleSchemaObjectResponse {
         return SimpleSchemaActions.update(request, user)
     }
 }
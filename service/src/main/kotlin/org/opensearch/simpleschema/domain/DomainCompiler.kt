@@ -18,7 +18,7 @@ object DomainCompiler {
      *
      * The provided User object should have access to the entities being referenced by the SimpleSchemaObjectDoc.
      */
-    fun compile(objectDoc: SimpleSchemaObjectDoc, user: User?) {
+    suspend fun compile(objectDoc: SimpleSchemaObjectDoc, user: User?) {
         if (objectDoc.type != SimpleSchemaObjectType.SCHEMA_DOMAIN) {
             throw IllegalArgumentException("Attempted to domain-compile a non-domain object doc: " +
                 "expected type ${SimpleSchemaObjectType.SCHEMA_DOMAIN} but got ${objectDoc.type}")
@@ -37,7 +37,7 @@ object DomainCompiler {
         DomainRepository.createDomain(domain)
     }
 
-    private fun getEntityData(entities: List<String>, user: User?): Map<String, SimpleSchemaObjectDoc> {
+    private suspend fun getEntityData(entities: List<String>, user: User?): Map<String, SimpleSchemaObjectDoc> {
         return SimpleSchemaActions
             .get(GetSimpleSchemaObjectRequest(entities.toSet()), user)
             .searchResult
@@ -5,6 +5,9 @@
 
 package org.opensearch.simpleschema.index
 
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withTimeout
 import org.opensearch.ResourceAlreadyExistsException
 import org.opensearch.action.ActionListener
 import org.opensearch.action.DocWriteResponse
@@ -12,68 +15,123 @@ import org.opensearch.action.admin.indices.create.CreateIndexAction
 import org.opensearch.action.admin.indices.create.CreateIndexRequest
 import org.opensearch.action.admin.indices.create.CreateIndexResponse
 import org.opensearch.action.admin.indices.mapping.put.PutMappingRequest
+import org.opensearch.action.bulk.BackoffPolicy
 import org.opensearch.action.bulk.BulkRequest
+import org.opensearch.action.bulk.BulkResponse
 import org.opensearch.action.delete.DeleteRequest
+import org.opensearch.action.delete.DeleteResponse
 import org.opensearch.action.get.GetRequest
 import org.opensearch.action.get.GetResponse
 import org.opensearch.action.get.MultiGetRequest
+import org.opensearch.action.get.MultiGetResponse
 import org.opensearch.action.index.IndexRequest
+import org.opensearch.action.index.IndexResponse
 import org.opensearch.action.search.SearchRequest
+import org.opensearch.action.search.SearchResponse
+import org.opensearch.action.support.master.AcknowledgedResponse
 import org.opensearch.action.update.UpdateRequest
+import org.opensearch.action.update.UpdateResponse
 import org.opensearch.client.Client
 import org.opensearch.cluster.ClusterChangedEvent
 import org.opensearch.cluster.ClusterState
 import org.opensearch.cluster.ClusterStateListener
 import org.opensearch.cluster.service.ClusterService
+import org.opensearch.common.UUIDs
 import org.opensearch.common.component.LifecycleListener
+import org.opensearch.common.bytes.BytesReference
 import org.opensearch.common.unit.TimeValue
 import org.opensearch.common.xcontent.LoggingDeprecationHandler
 import org.opensearch.common.xcontent.NamedXContentRegistry
+import org.opensearch.common.xcontent.ToXContent
+import org.opensearch.common.xcontent.XContentHelper
+import org.opensearch.common.xcontent.XContentParser
 import org.opensearch.common.xcontent.XContentType
 import org.opensearch.index.IndexNotFoundException
 import org.opensearch.index.query.QueryBuilders
+import org.opensearch.index.reindex.BulkByScrollResponse
+import org.opensearch.index.reindex.UpdateByQueryAction
+import org.opensearch.index.reindex.UpdateByQueryRequest
 import org.opensearch.rest.RestStatus
+import org.opensearch.script.Script
+import org.opensearch.script.ScriptType
 import org.opensearch.search.SearchHit
+import org.opensearch.search.builder.PointInTimeBuilder
 import org.opensearch.search.builder.SearchSourceBuilder
+import org.opensearch.search.sort.SortOrder
 import org.opensearch.simpleschema.SimpleSchemaPlugin.Companion.LOG_PREFIX
 import org.opensearch.simpleschema.action.GetSimpleSchemaObjectRequest
 import org.opensearch.simpleschema.model.RestTag.ACCESS_LIST_FIELD
+import org.opensearch.simpleschema.model.RestTag.OBJECT_ID_FIELD
 import org.opensearch.simpleschema.model.RestTag.TENANT_FIELD
+import org.opensearch.simpleschema.model.RestTag.UPDATED_TIME_FIELD
+import org.opensearch.simpleschema.model.SearchCursor
 import org.opensearch.simpleschema.model.SearchResults
 import org.opensearch.simpleschema.model.SimpleSchemaObjectDoc
 import org.opensearch.simpleschema.model.SimpleSchemaObjectDocInfo
 import org.opensearch.simpleschema.model.SimpleSchemaObjectSearchResult
+import org.opensearch.simpleschema.model.SimpleSchemaObjectType
 import org.opensearch.simpleschema.settings.PluginSettings
 import org.opensearch.simpleschema.util.SecureIndexClient
 import org.opensearch.simpleschema.util.logger
+import org.opensearch.simpleschema.util.suspendUntil
+import java.util.EnumSet
 import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
 
 /**
  * Class for doing OpenSearch index operation to maintain SimpleSchema objects in cluster.
+ * All the index operations are suspending - they are executed with listeners so that no thread is parked while waiting on the cluster.
  */
 @Suppress("TooManyFunctions")
-internal object SimpleSearchIndex : LifecycleListener() {
+internal object SimpleSearchIndex : LifecycleListener(), ClusterStateListener {
     private val log by logger(SimpleSearchIndex::class.java)
     private const val INDEX_NAME = ".opensearch-simpleschema"
     private const val SIMPLESCHEMA_MAPPING_FILE_NAME = "simpleschema-mapping.yml"
     private const val SIMPLESCHEMA_SETTINGS_FILE_NAME = "simpleschema-settings.yml"
+    private const val BULK_MAX_ACTIONS = 1000
+    private const val BULK_MAX_SIZE_BYTES = 5L * 1024 * 1024
+    private val POINT_IN_TIME_KEEP_ALIVE = TimeValue.timeValueMinutes(1)
 
+    /**
+     * the object id is also stored in the source as a keyword - it is the listing sort tiebreaker (no _id fielddata needed)
+     */
+    private val STORE_PARAMS = ToXContent.MapParams(mapOf(OBJECT_ID_FIELD to "true"))
+
+    @Volatile
     private var mappingsUpdated: Boolean = false
+
+    /**
+     * true once the index exists with the current mappings - cleared by the cluster state listener when the index is deleted
+     */
+    private val indexReady = AtomicBoolean(false)
+    private val indexMappingSource by lazy { readResource(SIMPLESCHEMA_MAPPING_FILE_NAME) }
+    private val indexSettingsSource by lazy { readResource(SIMPLESCHEMA_SETTINGS_FILE_NAME) }
     private lateinit var client: Client
     private lateinit var clusterService: ClusterService
 
     private val searchHitParser = object : SearchResults.SearchHitParser<SimpleSchemaObjectDoc> {
         override fun parse(searchHit: SearchHit): SimpleSchemaObjectDoc {
-            val parser = XContentType.JSON.xContent().createParser(
-                NamedXContentRegistry.EMPTY,
-                LoggingDeprecationHandler.INSTANCE,
-                searchHit.sourceAsString
-            )
+            val parser = sourceParser(searchHit.sourceRef)
             parser.nextToken()
             return SimpleSchemaObjectDoc.parse(parser, searchHit.id)
         }
     }
 
+    /**
+     * Create a parser over the stored source bytes.
+     * The objects are always indexed as JSON (see [createSimpleSchemaObject], [updateSimpleSchemaObject] and the import)
+     * @param source the _source bytes of a hit or a get response
+     * @return [XContentParser] positioned before the first token
+     */
+    private fun sourceParser(source: BytesReference): XContentParser {
+        return XContentHelper.createParser(
+            NamedXContentRegistry.EMPTY,
+            LoggingDeprecationHandler.INSTANCE,
+            source,
+            XContentType.JSON
+        )
+    }
+
     /**
      * Initialize the class
      * @param client The OpenSearch client
@@ -83,27 +141,43 @@ internal object SimpleSearchIndex : LifecycleListener() {
         SimpleSearchIndex.client = SecureIndexClient(client)
         SimpleSearchIndex.clusterService = clusterService
         mappingsUpdated = false
+        indexReady.set(false)
+        clusterService.addListener(this)
         return this
     }
 
+    /**
+     * Track the index readiness - a deleted (or otherwise missing) index is re-created by the next operation
+     */
+    override fun clusterChanged(event: ClusterChangedEvent) {
+        val deleted = event.indicesDeleted().any { it.name == INDEX_NAME }
+        if (deleted || (indexReady.get() && !isIndexExists(event.state(), INDEX_NAME))) {
+            log.info("$LOG_PREFIX:Index $INDEX_NAME is no longer available")
+            indexReady.set(false)
+            mappingsUpdated = false
+        }
+    }
+
     /**
      * once lifecycle indicate start has occurred - instantiating system index creation
      */
     override fun afterStart() {
-        // create default index
-        createIndex()
+        // create default index - node start up may wait for the index creation
+        runBlocking { createIndex() }
     }
 
     /**
-     * Create index using the mapping and settings defined in resource
+     * Create index using the mapping and settings defined in resource - a ready index costs a single volatile read
      */
     @Suppress("TooGenericExceptionCaught")
-    private fun createIndex() {
+    private suspend fun createIndex() {
+        if (indexReady.get()) {
+            return
+        }
         if (!isIndexExists(INDEX_NAME)) {
             val request = createIndexRequest()
             try {
-                val actionFuture = client.admin().indices().create(request)
-                val response = actionFuture.actionGet(PluginSettings.operationTimeoutMs)
+                val response: CreateIndexResponse = await { admin().indices().create(request, it) }
                 if (response.isAcknowledged) {
                     log.info("$LOG_PREFIX:Index $INDEX_NAME creation Acknowledged")
                 } else {
@@ -118,12 +192,14 @@ internal object SimpleSearchIndex : LifecycleListener() {
         } else if (!mappingsUpdated) {
             updateMappings()
         }
+        indexReady.set(mappingsUpdated)
+    }
+
+    private fun readResource(name: String): String {
+        return SimpleSearchIndex::class.java.classLoader.getResource(name)?.readText()!!
     }
 
     private fun createIndexRequest(): CreateIndexRequest? {
-        val classLoader = SimpleSearchIndex::class.java.classLoader
-        val indexMappingSource = classLoader.getResource(SIMPLESCHEMA_MAPPING_FILE_NAME)?.readText()!!
-        val indexSettingsSource = classLoader.getResource(SIMPLESCHEMA_SETTINGS_FILE_NAME)?.readText()!!
         val request = CreateIndexRequest(INDEX_NAME)
             .mapping(indexMappingSource, XContentType.YAML)
             .settings(indexSettingsSource, XContentType.YAML)
@@ -157,32 +233,64 @@ internal object SimpleSearchIndex : LifecycleListener() {
     /**
      * Check if the index mappings have changed and if they have, update them
      */
-    private fun updateMappings() {
-        val classLoader = SimpleSearchIndex::class.java.classLoader
-        val indexMappingSource = classLoader.getResource(SIMPLESCHEMA_MAPPING_FILE_NAME)?.readText()!!
+    private suspend fun updateMappings() {
         val request = PutMappingRequest(INDEX_NAME)
             .source(indexMappingSource, XContentType.YAML)
         try {
-            val actionFuture = client.admin().indices().putMapping(request)
-            val response = actionFuture.actionGet(PluginSettings.operationTimeoutMs)
+            val response: AcknowledgedResponse = await { admin().indices().putMapping(request, it) }
             if (response.isAcknowledged) {
                 log.info("$LOG_PREFIX:Index $INDEX_NAME update mapping Acknowledged")
             } else {
                 throw IllegalStateException("$LOG_PREFIX:Index $INDEX_NAME update mapping not Acknowledged")
             }
             mappingsUpdated = true
+            backfillObjectIds()
         } catch (exception: IndexNotFoundException) {
             log.error("$LOG_PREFIX:IndexNotFoundException:", exception)
         }
     }
 
+    /**
+     * Copy the document id into the source of the objects indexed before the object id was stored - the listings sort on it.
+     * The update runs in the background, concurrent writes win over it (they store the object id themselves)
+     */
+    private fun backfillObjectIds() {
+        val request = UpdateByQueryRequest(INDEX_NAME)
+            .setQuery(QueryBuilders.boolQuery().mustNot(QueryBuilders.existsQuery(OBJECT_ID_FIELD)))
+            .setScript(Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, "ctx._source.$OBJECT_ID_FIELD = ctx._id", emptyMap()))
+            .setAbortOnVersionConflict(false)
+            .setRefresh(true)
+        client.execute(UpdateByQueryAction.INSTANCE, request, object : ActionListener<BulkByScrollResponse> {
+            override fun onResponse(response: BulkByScrollResponse) {
+                log.info("$LOG_PREFIX:Index $INDEX_NAME object id backfill updated:${response.updated} failures:${response.bulkFailures.size}")
+            }
+
+            override fun onFailure(err: java.lang.Exception?) {
+                log.error("$LOG_PREFIX:Index $INDEX_NAME object id backfill failed", err)
+            }
+        })
+    }
+
+    /**
+     * Execute the listener based client call and suspend (without blocking the calling thread) until its response arrives
+     * @param block the client call given the response listener
+     * @return the call's response
+     * @throws kotlinx.coroutines.TimeoutCancellationException when no response arrives within the operation timeout
+     */
+    private suspend fun <T> await(block: Client.(ActionListener<T>) -> Unit): T {
+        return withTimeout(PluginSettings.operationTimeoutMs) { client.suspendUntil(block) }
+    }
+
     /**
      * Check if the index is created and available.
      * @param index
      * @return true if index is available, false otherwise
      */
     private fun isIndexExists(index: String): Boolean {
-        val clusterState = clusterService.state()
+        return isIndexExists(clusterService.state(), index)
+    }
+
+    private fun isIndexExists(clusterState: ClusterState, index: String): Boolean {
         return clusterState.routingTable.hasIndex(index)
     }
 
@@ -193,17 +301,15 @@ internal object SimpleSearchIndex : LifecycleListener() {
      * @param id
      * @return object id if successful, otherwise null
      */
-    fun createSimpleSchemaObject(simpleSchemaObjectDoc: SimpleSchemaObjectDoc, id: String? = null): String? {
+    suspend fun createSimpleSchemaObject(simpleSchemaObjectDoc: SimpleSchemaObjectDoc, id: String? = null): String? {
         createIndex()
-        val xContent = simpleSchemaObjectDoc.toXContent()
+        val docId = id ?: UUIDs.base64UUID()
+        val xContent = simpleSchemaObjectDoc.copy(objectId = docId).toXContent(STORE_PARAMS)
         val indexRequest = IndexRequest(INDEX_NAME)
+            .id(docId)
             .source(xContent)
             .create(true)
-        if (id != null) {
-            indexRequest.id(id)
-        }
-        val actionFuture = client.index(indexRequest)
-        val response = actionFuture.actionGet(PluginSettings.operationTimeoutMs)
+        val response: IndexResponse = await { index(indexRequest, it) }
         return if (response.result != DocWriteResponse.Result.CREATED) {
             log.warn("$LOG_PREFIX:createSimpleSchemaObject - response:$response")
             null
@@ -218,11 +324,10 @@ internal object SimpleSearchIndex : LifecycleListener() {
      * @param id
      * @return [SimpleSchemaObjectDocInfo]
      */
-    fun getSimpleSchemaObject(id: String): SimpleSchemaObjectDocInfo? {
+    suspend fun getSimpleSchemaObject(id: String): SimpleSchemaObjectDocInfo? {
         createIndex()
         val getRequest = GetRequest(INDEX_NAME).id(id)
-        val actionFuture = client.get(getRequest)
-        val response = actionFuture.actionGet(PluginSettings.operationTimeoutMs)
+        val response: GetResponse = await { get(getRequest, it) }
         return parseSimpleSchemaObjectDoc(id, response)
     }
 
@@ -232,12 +337,11 @@ internal object SimpleSearchIndex : LifecycleListener() {
      * @param ids
      * @return list of [SimpleSchemaObjectDocInfo]
      */
-    fun getSimpleSchemaObjects(ids: Set<String>): List<SimpleSchemaObjectDocInfo> {
+    suspend fun getSimpleSchemaObjects(ids: Set<String>): List<SimpleSchemaObjectDocInfo> {
         createIndex()
         val getRequest = MultiGetRequest()
         ids.forEach { getRequest.add(INDEX_NAME, it) }
-        val actionFuture = client.multiGet(getRequest)
-        val response = actionFuture.actionGet(PluginSettings.operationTimeoutMs)
+        val response: MultiGetResponse = await { multiGet(getRequest, it) }
         return response.responses.mapNotNull { parseSimpleSchemaObjectDoc(it.id, it.response) }
     }
 
@@ -249,21 +353,141 @@ internal object SimpleSearchIndex : LifecycleListener() {
      * @return [SimpleSchemaObjectDocInfo]
      */
     private fun parseSimpleSchemaObjectDoc(id: String, response: GetResponse): SimpleSchemaObjectDocInfo? {
-        return if (response.sourceAsString == null) {
+        val source = response.sourceAsBytesRef
+        return if (source == null) {
             log.warn("$LOG_PREFIX:getSimpleSchemaObject - $id not found; response:$response")
             null
         } else {
-            val parser = XContentType.JSON.xContent().createParser(
-                NamedXContentRegistry.EMPTY,
-                LoggingDeprecationHandler.INSTANCE,
-                response.sourceAsString
-            )
+            val parser = sourceParser(source)
             parser.nextToken()
             val doc = SimpleSchemaObjectDoc.parse(parser, id)
             SimpleSchemaObjectDocInfo(id, response.version, response.seqNo, response.primaryTerm, doc)
         }
     }
 
+    /**
+     * Export a page of the objects matching the criteria, sorted on (updated time, object id) and read with search_after
+     * from the given cursor - each object is handed to the consumer, which may end the page early (e.g. once its output is full)
+     *
+     * @param tenant
+     * @param access
+     * @param types the object types to export, all types when empty
+     * @param cursor the position after the previous page, null for the first page
+     * @param maxItems the maximum number of objects of the page
+     * @param consumer receives the exported objects, returns false to end the page after the given object
+     * @return the cursor of the next page, null when all the objects are exported
+     */
+    suspend fun exportSimpleSchemaObjects(
+        tenant: String,
+        access: List<String>,
+        types: EnumSet<SimpleSchemaObjectType>,
+        cursor: SearchCursor?,
+        maxItems: Int,
+        consumer: (SimpleSchemaObjectDoc) -> Boolean
+    ): SearchCursor? {
+        createIndex()
+        val queryHelper = SimpleSearchQueryHelper(types)
+        val query = QueryBuilders.boolQuery()
+        query.filter(QueryBuilders.termsQuery(TENANT_FIELD, tenant))
+        if (access.isNotEmpty()) {
+            query.filter(QueryBuilders.termsQuery(ACCESS_LIST_FIELD, access))
+        }
+        queryHelper.addTypeFilters(query)
+        val sourceBuilder = SearchSourceBuilder()
+            .timeout(TimeValue(PluginSettings.operationTimeoutMs, TimeUnit.MILLISECONDS))
+            .size(maxItems)
+            .sort(UPDATED_TIME_FIELD, SortOrder.ASC)
+            .sort(OBJECT_ID_FIELD, SortOrder.ASC)
+            .query(query)
+        cursor?.let { sourceBuilder.searchAfter(it.sortValues()) }
+        val searchRequest = SearchRequest()
+            .indices(INDEX_NAME)
+            .source(sourceBuilder)
+        val response: SearchResponse = await { search(searchRequest, it) }
+        val hits = response.hits.hits
+        var nextCursor: SearchCursor? = null
+        for (hit in hits) {
+            if (!consumer(searchHitParser.parse(hit))) {
+                nextCursor = SearchCursor.after(hit, SortOrder.ASC, null)
+                break
+            }
+        }
+        if (nextCursor == null && hits.size == maxItems) {
+            nextCursor = SearchCursor.after(hits.last(), SortOrder.ASC, null)
+        }
+        log.info("$LOG_PREFIX:exportSimpleSchemaObjects types:$types cursor:${cursor != null} hasNext:${nextCursor != null}")
+        return nextCursor
+    }
+
+    /**
+     * Import objects keeping their ids - the objects are indexed in bulk requests bounded by size & count, one bulk request
+     * in flight at a time. Items rejected by the cluster (TOO_MANY_REQUESTS) are retried with an exponential backoff
+     *
+     * @param objects the objects to import, pulled only when the next bulk request is built
+     * @param canOverwrite decides if an existing object with the same id may be replaced (FORBIDDEN otherwise),
+     * null to only create new objects - existing ones fail with CONFLICT
+     * @return the import status of each object id
+     */
+    suspend fun importSimpleSchemaObjects(
+        objects: Iterator<SimpleSchemaObjectDoc>,
+        canOverwrite: ((SimpleSchemaObjectDoc) -> Boolean)? = null
+    ): Map<String, RestStatus> {
+        createIndex()
+        val importStatus = mutableMapOf<String, RestStatus>()
+        while (objects.hasNext()) {
+            val indexRequests = mutableListOf<IndexRequest>()
+            var batchSize = 0L
+            while (objects.hasNext() && indexRequests.size < BULK_MAX_ACTIONS && batchSize < BULK_MAX_SIZE_BYTES) {
+                val objectDoc = objects.next()
+                val indexRequest = IndexRequest(INDEX_NAME)
+                    .id(objectDoc.objectId)
+                    .source(objectDoc.toXContent(STORE_PARAMS))
+                    .create(canOverwrite == null)
+                indexRequests.add(indexRequest)
+                batchSize += indexRequest.source().length()
+            }
+            if (canOverwrite != null) {
+                val denied = getSimpleSchemaObjects(indexRequests.map { it.id() }.toSet())
+                    .filter { !canOverwrite(it.simpleSchemaObjectDoc) }
+                    .mapNotNull { it.id }
+                    .toSet()
+                denied.forEach { importStatus[it] = RestStatus.FORBIDDEN }
+                indexRequests.removeIf { denied.contains(it.id()) }
+            }
+            bulkIndex(indexRequests, importStatus)
+        }
+        log.info("$LOG_PREFIX:importSimpleSchemaObjects overwrite:${canOverwrite != null} importedCount:${importStatus.size}")
+        return importStatus
+    }
+
+    /**
+     * Index the requests in a single bulk request, retrying the rejected items while the backoff allows
+     */
+    private suspend fun bulkIndex(indexRequests: List<IndexRequest>, importStatus: MutableMap<String, RestStatus>) {
+        val backoff = BackoffPolicy.exponentialBackoff().iterator()
+        var pending = indexRequests
+        while (pending.isNotEmpty()) {
+            val bulkRequest = BulkRequest()
+            pending.forEach { bulkRequest.add(it) }
+            val response: BulkResponse = await { bulk(bulkRequest, it) }
+            val rejected = mutableListOf<IndexRequest>()
+            response.forEach {
+                if (it.status() == RestStatus.TOO_MANY_REQUESTS && backoff.hasNext()) {
+                    rejected.add(pending[it.itemId])
+                } else {
+                    importStatus[it.id] = it.status()
+                    if (it.isFailed) {
+                        log.warn("$LOG_PREFIX:importSimpleSchemaObjects failed for ${it.id}; response:${it.failureMessage}")
+                    }
+                }
+            }
+            if (rejected.isNotEmpty()) {
+                delay(backoff.next().millis)
+            }
+            pending = rejected
+        }
+    }
+
     /**
      * Get all  objects
      *
@@ -272,7 +496,7 @@ internal object SimpleSearchIndex : LifecycleListener() {
      * @param request
      * @return [SimpleSchemaObjectSearchResult]
      */
-    fun getAllSimpleSchemaObjects(
+    suspend fun getAllSimpleSchemaObjects(
         tenant: String,
         access: List<String>,
         request: GetSimpleSchemaObjectRequest
@@ -282,8 +506,24 @@ internal object SimpleSearchIndex : LifecycleListener() {
         val sourceBuilder = SearchSourceBuilder()
             .timeout(TimeValue(PluginSettings.operationTimeoutMs, TimeUnit.MILLISECONDS))
             .size(request.maxItems)
-            .from(request.fromIndex)
-        queryHelper.addSortField(sourceBuilder, request.sortField, request.sortOrder)
+        val cursor = request.cursor?.let { SearchCursor.decode(it) }
+        if (cursor == null) {
+            sourceBuilder.from(request.fromIndex)
+        }
+        val pointInTimeId = cursor?.pointInTimeId ?: request.pointInTimeId
+        // the default sort pages with search_after on (updated time, object id) - the cost of a page does not grow with its depth
+        val cursorSortOrder = if (request.sortField == null) {
+            cursor?.sortOrder ?: request.sortOrder ?: SortOrder.ASC
+        } else {
+            null
+        }
+        if (cursorSortOrder == null) {
+            queryHelper.addSortField(sourceBuilder, request.sortField, request.sortOrder)
+        } else {
+            sourceBuilder.sort(UPDATED_TIME_FIELD, cursorSortOrder)
+                .sort(OBJECT_ID_FIELD, cursorSortOrder)
+            cursor?.let { sourceBuilder.searchAfter(it.sortValues()) }
+        }
 
         val query = QueryBuilders.boolQuery()
         query.filter(QueryBuilders.termsQuery(TENANT_FIELD, tenant))
@@ -294,14 +534,25 @@ internal object SimpleSearchIndex : LifecycleListener() {
         queryHelper.addQueryFilters(query, request.filterParams)
         sourceBuilder.query(query)
         val searchRequest = SearchRequest()
-            .indices(INDEX_NAME)
             .source(sourceBuilder)
-        val actionFuture = client.search(searchRequest)
-        val response = actionFuture.actionGet(PluginSettings.operationTimeoutMs)
-        val result = SimpleSchemaObjectSearchResult(request.fromIndex.toLong(), response, searchHitParser)
+        if (pointInTimeId == null) {
+            searchRequest.indices(INDEX_NAME)
+        } else {
+            // the point in time determines the searched index
+            sourceBuilder.pointInTimeBuilder(PointInTimeBuilder(pointInTimeId).setKeepAlive(POINT_IN_TIME_KEEP_ALIVE))
+        }
+        val response: SearchResponse = await { search(searchRequest, it) }
+        val hits = response.hits.hits
+        val nextCursor = if (cursorSortOrder != null && hits.size == request.maxItems) {
+            SearchCursor.after(hits.last(), cursorSortOrder, pointInTimeId).encode()
+        } else {
+            null
+        }
+        val result = SimpleSchemaObjectSearchResult(request.fromIndex.toLong(), response, searchHitParser, nextCursor)
         log.info(
             "$LOG_PREFIX:getAllSimpleSchemaObjects types:${request.types} from:${request.fromIndex}, maxItems:${request.maxItems}," +
                 " sortField:${request.sortField}, sortOrder=${request.sortOrder}, filters=${request.filterParams}" +
+                " cursor:${cursor != null}, pit:${pointInTimeId != null}," +
                 " retCount:${result.objectList.size}, totalCount:${result.totalHits}"
         )
         return result
@@ -314,15 +565,14 @@ internal object SimpleSearchIndex : LifecycleListener() {
      * @param simpleSchemaObjectDoc
      * @return true if successful, otherwise false
      */
-    fun updateSimpleSchemaObject(id: String, simpleSchemaObjectDoc: SimpleSchemaObjectDoc): Boolean {
+    suspend fun updateSimpleSchemaObject(id: String, simpleSchemaObjectDoc: SimpleSchemaObjectDoc): Boolean {
         createIndex()
         val updateRequest = UpdateRequest()
             .index(INDEX_NAME)
             .id(id)
-            .doc(simpleSchemaObjectDoc.toXContent())
+            .doc(simpleSchemaObjectDoc.copy(objectId = id).toXContent(STORE_PARAMS))
             .fetchSource(true)
-        val actionFuture = client.update(updateRequest)
-        val response = actionFuture.actionGet(PluginSettings.operationTimeoutMs)
+        val response: UpdateResponse = await { update(updateRequest, it) }
         if (response.result != DocWriteResponse.Result.UPDATED) {
             log.warn("$LOG_PREFIX:updateSimpleSchemaObject failed for $id; response:$response")
         }
@@ -335,13 +585,12 @@ internal object SimpleSearchIndex : LifecycleListener() {
      * @param id
      * @return true if successful, otherwise false
      */
-    fun deleteSimpleSchemaObject(id: String): Boolean {
+    suspend fun deleteSimpleSchemaObject(id: String): Boolean {
         createIndex()
         val deleteRequest = DeleteRequest()
             .index(INDEX_NAME)
             .id(id)
-        val actionFuture = client.delete(deleteRequest)
-        val response = actionFuture.actionGet(PluginSettings.operationTimeoutMs)
+        val response: DeleteResponse = await { delete(deleteRequest, it) }
         if (response.result != DocWriteResponse.Result.DELETED) {
             log.warn("$LOG_PREFIX:deleteSimpleSchemaObject failed for $id; response:$response")
         }
@@ -354,7 +603,7 @@ internal object SimpleSearchIndex : LifecycleListener() {
      * @param ids
      * @return map of id to delete status
      */
-    fun deleteSimpleSchemaObjects(ids: Set<String>): Map<String, RestStatus> {
+    suspend fun deleteSimpleSchemaObjects(ids: Set<String>): Map<String, RestStatus> {
         createIndex()
         val bulkRequest = BulkRequest()
         ids.forEach {
@@ -363,8 +612,7 @@ internal object SimpleSearchIndex : LifecycleListener() {
                 .id(it)
             bulkRequest.add(deleteRequest)
         }
-        val actionFuture = client.bulk(bulkRequest)
-        val response = actionFuture.actionGet(PluginSettings.operationTimeoutMs)
+        val response: BulkResponse = await { bulk(bulkRequest, it) }
         val mutableMap = mutableMapOf<String, RestStatus>()
         response.forEach {
             mutableMap[it.id] = it.status()
@@ -14,6 +14,9 @@ internal object RestTag {
     const val QUERY_FIELD = "query"
     const val OBJECT_LIST_FIELD = "simpleSchemaObjectList"
     const val DELETE_RESPONSE_LIST_TAG = "deleteResponseList"
+    const val IMPORT_RESPONSE_LIST_TAG = "importResponseList"
+    const val EXPORTED_COUNT_TAG = "exportedCount"
+    const val NEXT_CURSOR_TAG = "nextCursor"
     const val OBJECT_TYPE_FIELD = "objectType"
     const val OBJECT_ID_FIELD = "objectId"
     const val OBJECT_ID_LIST_FIELD = "objectIdList"
@@ -28,6 +31,9 @@ internal object RestTag {
     const val SORT_FIELD_FIELD = "sortField"
     const val SORT_ORDER_FIELD = "sortOrder"
     const val FILTER_PARAM_LIST_FIELD = "filterParamList"
+    const val CURSOR_FIELD = "cursor"
+    const val POINT_IN_TIME_ID_FIELD = "pointInTimeId"
+    const val OVERWRITE_FIELD = "overwrite"
 
     const val INDEX_PROVIDER_FIELD = "indexProvider"
     const val SCHEMA_ENTITY_FIELD = "schemaEntityType"
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.simpleschema.model
+
+import org.opensearch.common.bytes.BytesReference
+import org.opensearch.common.io.stream.BytesStreamOutput
+import org.opensearch.common.io.stream.StreamInput
+import org.opensearch.search.SearchHit
+import org.opensearch.search.sort.SortOrder
+import java.io.IOException
+import java.util.Base64
+
+/**
+ * Opaque listing cursor - the sort values (last updated time, object id) of the last returned object,
+ * used as the search_after position of the next page, and the optional point in time the pages are read from.
+ * The object id is the hit's own sort value - null for an object whose source has no object id yet (sorted as missing).
+ */
+internal data class SearchCursor(
+    val updatedTimeMs: Long,
+    val objectId: String?,
+    val sortOrder: SortOrder,
+    val pointInTimeId: String? = null
+) {
+    companion object {
+        private const val VERSION = 2
+        private const val REQUIRED_OBJECT_ID_VERSION = 1
+
+        /**
+         * create the cursor positioned after the given hit - both positions are the hit's sort values so that the next page
+         * continues exactly where the sort placed the hit
+         * @param hit the last hit of the page, sorted on (updated time, object id)
+         */
+        fun after(hit: SearchHit, sortOrder: SortOrder, pointInTimeId: String?): SearchCursor {
+            val updatedTime = hit.sortValues[0] as Number
+            return SearchCursor(updatedTime.toLong(), hit.sortValues[1]?.toString(), sortOrder, pointInTimeId)
+        }
+
+        /**
+         * decode the cursor from its opaque string form
+         * @param cursor the cursor returned with the previous page
+         */
+        fun decode(cursor: String): SearchCursor {
+            try {
+                StreamInput.wrap(Base64.getUrlDecoder().decode(cursor)).use {
+                    val version = it.readVInt()
+                    require(version == VERSION || version == REQUIRED_OBJECT_ID_VERSION) { "Unsupported cursor version" }
+                    val updatedTimeMs = it.readLong()
+                    val objectId = if (version == VERSION) it.readOptionalString() else it.readString()
+                    return SearchCursor(updatedTimeMs, objectId, it.readEnum(SortOrder::class.java), it.readOptionalString())
+                }
+            } catch (exception: IOException) {
+                throw IllegalArgumentException("Invalid cursor", exception)
+            }
+        }
+    }
+
+    /**
+     * the search_after values of the next page
+     */
+    fun sortValues(): Array<Any?> = arrayOf(updatedTimeMs, objectId)
+
+    /**
+     * encode the cursor into its opaque url safe string form
+     */
+    fun encode(): String {
+        BytesStreamOutput().use {
+            it.writeVInt(VERSION)
+            it.writeLong(updatedTimeMs)
+            it.writeOptionalString(objectId)
+            it.writeEnum(sortOrder)
+            it.writeOptionalString(pointInTimeId)
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(BytesReference.toBytes(it.bytes()))
+        }
+    }
+}
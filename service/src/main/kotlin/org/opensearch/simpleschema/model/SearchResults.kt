@@ -16,7 +16,9 @@ import org.opensearch.common.xcontent.ToXContent.Params
 import org.opensearch.common.xcontent.XContentBuilder
 import org.opensearch.common.xcontent.XContentParser
 import org.opensearch.common.xcontent.XContentParserUtils
+import org.opensearch.commons.utils.fieldIfNotNull
 import org.opensearch.search.SearchHit
+import org.opensearch.simpleschema.SimpleSchemaPlugin.Companion.CURSOR_VERSION
 
 internal abstract class SearchResults<ItemClass : BaseModel> : BaseModel {
     val startIndex: Long
@@ -24,6 +26,7 @@ internal abstract class SearchResults<ItemClass : BaseModel> : BaseModel {
     val totalHitRelation: Relation
     val objectListFieldName: String
     val objectList: List<ItemClass>
+    val nextCursor: String?
 
     interface SearchHitParser<ItemClass> {
         fun parse(searchHit: SearchHit): ItemClass
@@ -34,6 +37,7 @@ internal abstract class SearchResults<ItemClass : BaseModel> : BaseModel {
         private const val START_INDEX_TAG = "startIndex"
         private const val TOTAL_HITS_TAG = "totalHits"
         private const val TOTAL_HIT_RELATION_TAG = "totalHitRelation"
+        private const val NEXT_CURSOR_TAG = "nextCursor"
         private fun convertRelation(totalHitRelation: Relation): String {
             return if (totalHitRelation == EQUAL_TO) {
                 "eq"
@@ -60,6 +64,7 @@ internal abstract class SearchResults<ItemClass : BaseModel> : BaseModel {
         this.totalHitRelation = EQUAL_TO
         this.objectListFieldName = objectListFieldName
         this.objectList = listOf(objectItem)
+        this.nextCursor = null
     }
 
     constructor(
@@ -67,20 +72,23 @@ internal abstract class SearchResults<ItemClass : BaseModel> : BaseModel {
         totalHits: Long,
         totalHitRelation: Relation,
         objectListFieldName: String,
-        objectList: List<ItemClass>
+        objectList: List<ItemClass>,
+        nextCursor: String? = null
     ) {
         this.startIndex = startIndex
         this.totalHits = totalHits
         this.totalHitRelation = totalHitRelation
         this.objectListFieldName = objectListFieldName
         this.objectList = objectList
+        this.nextCursor = nextCursor
     }
 
     constructor(
         from: Long,
         response: SearchResponse,
         searchHitParser: SearchHitParser<ItemClass>,
-        objectListFieldName: String
+        objectListFieldName: String,
+        nextCursor: String? = null
     ) {
         val mutableList: MutableList<ItemClass> = mutableListOf()
         response.hits.forEach {
@@ -101,6 +109,7 @@ internal abstract class SearchResults<ItemClass : BaseModel> : BaseModel {
         this.totalHitRelation = totalHitsRelation
         this.objectListFieldName = objectListFieldName
         this.objectList = mutableList
+        this.nextCursor = nextCursor
     }
 
     /**
@@ -112,6 +121,7 @@ internal abstract class SearchResults<ItemClass : BaseModel> : BaseModel {
         var totalHits: Long = 0
         var totalHitRelation: Relation = EQUAL_TO
         var objectList: List<ItemClass>? = null
+        var nextCursor: String? = null
         XContentParserUtils.ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser)
         while (XContentParser.Token.END_OBJECT != parser.nextToken()) {
             val fieldName = parser.currentName()
@@ -120,6 +130,7 @@ internal abstract class SearchResults<ItemClass : BaseModel> : BaseModel {
                 START_INDEX_TAG -> startIndex = parser.longValue()
                 TOTAL_HITS_TAG -> totalHits = parser.longValue()
                 TOTAL_HIT_RELATION_TAG -> totalHitRelation = convertRelation(parser.text())
+                NEXT_CURSOR_TAG -> nextCursor = parser.text()
                 objectListFieldName -> objectList = parseItemList(parser)
                 else -> {
                     parser.skipChildren()
@@ -136,6 +147,7 @@ internal abstract class SearchResults<ItemClass : BaseModel> : BaseModel {
         this.totalHitRelation = totalHitRelation
         this.objectListFieldName = objectListFieldName
         this.objectList = objectList
+        this.nextCursor = nextCursor
     }
 
     /**
@@ -169,7 +181,8 @@ internal abstract class SearchResults<ItemClass : BaseModel> : BaseModel {
         totalHits = input.readLong(),
         totalHitRelation = input.readEnum(Relation::class.java),
         objectListFieldName = input.readString(),
-        objectList = input.readList(reader)
+        objectList = input.readList(reader),
+        nextCursor = if (input.version.onOrAfter(CURSOR_VERSION)) input.readOptionalString() else null
     )
 
     /**
@@ -181,6 +194,9 @@ internal abstract class SearchResults<ItemClass : BaseModel> : BaseModel {
         output.writeEnum(totalHitRelation)
         output.writeString(objectListFieldName)
         output.writeList(objectList)
+        if (output.version.onOrAfter(CURSOR_VERSION)) {
+            output.writeOptionalString(nextCursor)
+        }
     }
 
     /**
@@ -191,6 +207,7 @@ internal abstract class SearchResults<ItemClass : BaseModel> : BaseModel {
             .field(START_INDEX_TAG, startIndex)
             .field(TOTAL_HITS_TAG, totalHits)
             .field(TOTAL_HIT_RELATION_TAG, convertRelation(totalHitRelation))
+            .fieldIfNotNull(NEXT_CURSOR_TAG, nextCursor)
             .startArray(objectListFieldName)
         objectList.forEach { it.toXContent(builder, params) }
         return builder.endArray().endObject()
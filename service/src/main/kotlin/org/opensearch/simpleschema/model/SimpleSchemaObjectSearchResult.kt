@@ -55,11 +55,17 @@ internal class SimpleSchemaObjectSearchResult : SearchResults<SimpleSchemaObject
     /**
      * Construct object from SearchResponse
      */
-    constructor(from: Long, response: SearchResponse, searchHitParser: SearchHitParser<SimpleSchemaObjectDoc>) : super(
+    constructor(
+        from: Long,
+        response: SearchResponse,
+        searchHitParser: SearchHitParser<SimpleSchemaObjectDoc>,
+        nextCursor: String? = null
+    ) : super(
         from,
         response,
         searchHitParser,
-        OBJECT_LIST_FIELD
+        OBJECT_LIST_FIELD,
+        nextCursor
     )
 
     /**
@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.simpleschema.resthandler
+
+import org.opensearch.client.node.NodeClient
+import org.opensearch.commons.utils.logger
+import org.opensearch.rest.BaseRestHandler
+import org.opensearch.rest.BaseRestHandler.RestChannelConsumer
+import org.opensearch.rest.BytesRestResponse
+import org.opensearch.rest.RestHandler.Route
+import org.opensearch.rest.RestRequest
+import org.opensearch.rest.RestRequest.Method.GET
+import org.opensearch.rest.RestRequest.Method.POST
+import org.opensearch.rest.RestStatus
+import org.opensearch.rest.action.RestActionListener
+import org.opensearch.simpleschema.SimpleSchemaPlugin.Companion.BASE_SIMPLESCHEMA_URI
+import org.opensearch.simpleschema.SimpleSchemaPlugin.Companion.LOG_PREFIX
+import org.opensearch.simpleschema.action.ExportSimpleSchemaObjectsAction
+import org.opensearch.simpleschema.action.ExportSimpleSchemaObjectsRequest
+import org.opensearch.simpleschema.action.ExportSimpleSchemaObjectsResponse
+import org.opensearch.simpleschema.action.ImportSimpleSchemaObjectsAction
+import org.opensearch.simpleschema.action.ImportSimpleSchemaObjectsRequest
+import org.opensearch.simpleschema.model.RestTag.CURSOR_FIELD
+import org.opensearch.simpleschema.model.RestTag.MAX_ITEMS_FIELD
+import org.opensearch.simpleschema.model.RestTag.OBJECT_TYPE_FIELD
+import org.opensearch.simpleschema.model.RestTag.OVERWRITE_FIELD
+import org.opensearch.simpleschema.model.SimpleSchemaObjectType
+import org.opensearch.simpleschema.settings.PluginSettings
+import java.util.EnumSet
+
+/**
+ * Rest handler for moving SimpleSchema objects in bulk between clusters - NDJSON export & import.
+ * This handler uses [SimpleSchemaActions].
+ */
+internal class SimpleSchemaBulkRestHandler : BaseRestHandler() {
+    companion object {
+        private const val SIMPLESCHEMA_ACTION = "simpleschema_bulk_actions"
+        private const val EXPORT_URL = "$BASE_SIMPLESCHEMA_URI/_export"
+        private const val IMPORT_URL = "$BASE_SIMPLESCHEMA_URI/_import"
+        private const val NDJSON_CONTENT_TYPE = "application/x-ndjson"
+        private const val NEXT_CURSOR_HEADER = "X-Simpleschema-Next-Cursor"
+        private val log by logger(SimpleSchemaBulkRestHandler::class.java)
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    override fun getName(): String {
+        return SIMPLESCHEMA_ACTION
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    override fun routes(): List<Route> {
+        return listOf(
+            /**
+             * Export a page of objects
+             * Request URL: GET EXPORT_URL?objectType=...&maxItems=1000&cursor=...
+             * Response body: NDJSON - one object per line
+             * Response header NEXT_CURSOR_HEADER: the cursor of the next page, absent on the last page
+             */
+            Route(GET, EXPORT_URL),
+            /**
+             * Import objects
+             * Request URL: POST IMPORT_URL?overwrite=false
+             * Request body: NDJSON - one object per line, as returned by the export
+             * Response body: Ref [org.opensearch.simpleschema.action.ImportSimpleSchemaObjectsResponse]
+             */
+            Route(POST, IMPORT_URL)
+        )
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    override fun responseParams(): Set<String> {
+        return setOf(
+            OBJECT_TYPE_FIELD,
+            CURSOR_FIELD,
+            MAX_ITEMS_FIELD,
+            OVERWRITE_FIELD
+        )
+    }
+
+    /**
+     * the NDJSON import body is read as a stream of JSON lines
+     */
+    override fun supportsContentStream(): Boolean {
+        return true
+    }
+
+    private fun executeExportRequest(request: RestRequest, client: NodeClient): RestChannelConsumer {
+        val types: EnumSet<SimpleSchemaObjectType> = EnumSet.noneOf(SimpleSchemaObjectType::class.java)
+        request.param(OBJECT_TYPE_FIELD)?.split(",")?.forEach { types.add(SimpleSchemaObjectType.fromTagOrDefault(it)) }
+        val cursor: String? = request.param(CURSOR_FIELD)
+        val maxItems = request.paramAsInt(MAX_ITEMS_FIELD, PluginSettings.defaultItemsQueryCount)
+        log.info("$LOG_PREFIX:executeExportRequest types:$types cursor:${cursor != null} maxItems:$maxItems")
+        return RestChannelConsumer {
+            client.execute(
+                ExportSimpleSchemaObjectsAction.ACTION_TYPE,
+                ExportSimpleSchemaObjectsRequest(types, cursor, maxItems),
+                object : RestActionListener<ExportSimpleSchemaObjectsResponse>(it) {
+                    override fun processResponse(response: ExportSimpleSchemaObjectsResponse) {
+                        val restResponse = BytesRestResponse(RestStatus.OK, NDJSON_CONTENT_TYPE, response.content)
+                        response.nextCursor?.let { nextCursor -> restResponse.addHeader(NEXT_CURSOR_HEADER, nextCursor) }
+                        channel.sendResponse(restResponse)
+                    }
+                }
+            )
+        }
+    }
+
+    private fun executeImportRequest(request: RestRequest, client: NodeClient): RestChannelConsumer {
+        val overwrite = request.paramAsBoolean(OVERWRITE_FIELD, false)
+        log.info("$LOG_PREFIX:executeImportRequest overwrite:$overwrite")
+        val content = request.requiredContent()
+        return RestChannelConsumer {
+            client.execute(
+                ImportSimpleSchemaObjectsAction.ACTION_TYPE,
+                ImportSimpleSchemaObjectsRequest(content, overwrite),
+                RestResponseToXContentListener(it)
+            )
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    override fun prepareRequest(request: RestRequest, client: NodeClient): RestChannelConsumer {
+        return when (request.method()) {
+            GET -> executeExportRequest(request, client)
+            POST -> executeImportRequest(request, client)
+            else -> RestChannelConsumer {
+                it.sendResponse(BytesRestResponse(RestStatus.METHOD_NOT_ALLOWED, "${request.method()} is not allowed"))
+            }
+        }
+    }
+}
@@ -10,11 +10,13 @@ import org.opensearch.simpleschema.SimpleSchemaPlugin.Companion.BASE_SIMPLESCHEM
 import org.opensearch.simpleschema.SimpleSchemaPlugin.Companion.LOG_PREFIX
 import org.opensearch.simpleschema.index.SimpleSearchQueryHelper
 import org.opensearch.simpleschema.model.SimpleSchemaObjectType
+import org.opensearch.simpleschema.model.RestTag.CURSOR_FIELD
 import org.opensearch.simpleschema.model.RestTag.FROM_INDEX_FIELD
 import org.opensearch.simpleschema.model.RestTag.MAX_ITEMS_FIELD
 import org.opensearch.simpleschema.model.RestTag.OBJECT_ID_FIELD
 import org.opensearch.simpleschema.model.RestTag.OBJECT_ID_LIST_FIELD
 import org.opensearch.simpleschema.model.RestTag.OBJECT_TYPE_FIELD
+import org.opensearch.simpleschema.model.RestTag.POINT_IN_TIME_ID_FIELD
 import org.opensearch.simpleschema.model.RestTag.SORT_FIELD_FIELD
 import org.opensearch.simpleschema.model.RestTag.SORT_ORDER_FIELD
 import org.opensearch.simpleschema.settings.PluginSettings
@@ -109,6 +111,8 @@ internal class SimpleSchemaRestHandler : BaseRestHandler() {
             SORT_ORDER_FIELD,
             FROM_INDEX_FIELD,
             MAX_ITEMS_FIELD,
+            CURSOR_FIELD,
+            POINT_IN_TIME_ID_FIELD,
         )
     }
 
@@ -146,13 +150,15 @@ internal class SimpleSchemaRestHandler : BaseRestHandler() {
         }
         val fromIndex = request.param(FROM_INDEX_FIELD)?.toIntOrNull() ?: 0
         val maxItems = request.param(MAX_ITEMS_FIELD)?.toIntOrNull() ?: PluginSettings.defaultItemsQueryCount
+        val cursor: String? = request.param(CURSOR_FIELD)
+        val pointInTimeId: String? = request.param(POINT_IN_TIME_ID_FIELD)
         val filterParams = request.params()
             .filter { SimpleSearchQueryHelper.FILTER_PARAMS.contains(it.key) }
             .map { Pair(it.key, request.param(it.key)) }
             .toMap()
         log.info(
             "$LOG_PREFIX:executeGetRequest idList:$objectIdList types:$types, from:$fromIndex, maxItems:$maxItems," +
-                " sortField:$sortField, sortOrder=$sortOrder, filters=$filterParams"
+                " sortField:$sortField, sortOrder=$sortOrder, filters=$filterParams, cursor:${cursor != null}"
         )
         return RestChannelConsumer {
             client.execute(
@@ -164,7 +170,9 @@ internal class SimpleSchemaRestHandler : BaseRestHandler() {
                     maxItems,
                     sortField,
                     sortOrder,
-                    filterParams
+                    filterParams,
+                    cursor,
+                    pointInTimeId
                 ),
                 RestResponseToXContentListener(it)
             )
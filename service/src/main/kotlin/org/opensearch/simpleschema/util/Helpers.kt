@@ -7,6 +7,9 @@ package org.opensearch.simpleschema.util
 
 import org.apache.logging.log4j.LogManager
 import org.apache.logging.log4j.Logger
+import kotlinx.coroutines.suspendCancellableCoroutine
+import org.opensearch.action.ActionListener
+import org.opensearch.client.Client
 import org.opensearch.common.io.stream.StreamInput
 import org.opensearch.common.xcontent.DeprecationHandler
 import org.opensearch.common.xcontent.NamedXContentRegistry
@@ -18,6 +21,8 @@ import org.opensearch.common.xcontent.XContentParser.Token
 import org.opensearch.common.xcontent.XContentParserUtils
 import org.opensearch.common.xcontent.XContentType
 import org.opensearch.rest.RestRequest
+import kotlin.coroutines.resume
+import kotlin.coroutines.resumeWithException
 
 internal fun StreamInput.createJsonParser(): XContentParser {
     return XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY, DeprecationHandler.IGNORE_DEPRECATIONS, this)
@@ -56,3 +61,25 @@ internal fun XContentBuilder.objectIfNotNull(name: String, xContentObject: ToXCo
     }
     return this
 }
+
+/**
+ * Executes the listener based client call and suspends until its response (or failure) arrives - the calling thread is
+ * released while the request is in flight. The wait is cancellable (e.g. by withTimeout); a response or failure arriving
+ * after the cancellation is ignored.
+ */
+internal suspend fun <C : Client, T> C.suspendUntil(block: C.(ActionListener<T>) -> Unit): T =
+    suspendCancellableCoroutine { continuation ->
+        block(object : ActionListener<T> {
+            override fun onResponse(response: T) {
+                if (continuation.isActive) {
+                    continuation.resume(response)
+                }
+            }
+
+            override fun onFailure(exception: Exception) {
+                if (continuation.isActive) {
+                    continuation.resumeWithException(exception)
+                }
+            }
+        })
+    }
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.simpleschema.action
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotNull
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Test
+import org.opensearch.common.bytes.BytesArray
+import org.opensearch.commons.utils.recreateObject
+import org.opensearch.search.sort.SortOrder
+import org.opensearch.simpleschema.createObjectFromJsonString
+import org.opensearch.simpleschema.getJsonString
+import org.opensearch.simpleschema.model.SearchCursor
+import org.opensearch.simpleschema.model.SimpleSchemaObjectType
+import java.util.EnumSet
+
+internal class ExportSimpleSchemaObjectsRequestTests {
+    private fun assertRequestEquals(expected: ExportSimpleSchemaObjectsRequest, actual: ExportSimpleSchemaObjectsRequest) {
+        assertEquals(expected.types, actual.types)
+        assertEquals(expected.cursor, actual.cursor)
+        assertEquals(expected.maxItems, actual.maxItems)
+        assertNull(actual.validate())
+    }
+
+    @Test
+    fun `Export request serialize and deserialize transport object should be equal`() {
+        val cursor = SearchCursor(1234L, "test-id", SortOrder.ASC).encode()
+        val objectRequest = ExportSimpleSchemaObjectsRequest(EnumSet.of(SimpleSchemaObjectType.SCHEMA_ENTITY), cursor, 10)
+        val recreatedObject = recreateObject(objectRequest) { ExportSimpleSchemaObjectsRequest(it) }
+        assertRequestEquals(objectRequest, recreatedObject)
+    }
+
+    @Test
+    fun `Export request serialize and deserialize using json object should be equal`() {
+        val cursor = SearchCursor(1234L, "test-id", SortOrder.ASC).encode()
+        val objectRequest = ExportSimpleSchemaObjectsRequest(EnumSet.of(SimpleSchemaObjectType.SCHEMA_DOMAIN), cursor, 10)
+        val jsonString = getJsonString(objectRequest)
+        val recreatedObject = createObjectFromJsonString(jsonString) { ExportSimpleSchemaObjectsRequest.parse(it) }
+        assertRequestEquals(objectRequest, recreatedObject)
+    }
+
+    @Test
+    fun `Export request with maxItems out of range or invalid cursor should fail validation`() {
+        assertNotNull(ExportSimpleSchemaObjectsRequest(maxItems = 0).validate())
+        assertNotNull(ExportSimpleSchemaObjectsRequest(maxItems = ExportSimpleSchemaObjectsRequest.MAX_EXPORT_ITEMS + 1).validate())
+        assertNotNull(ExportSimpleSchemaObjectsRequest(cursor = "not-a-cursor").validate())
+    }
+
+    @Test
+    fun `Export response serialize and deserialize transport object should be equal`() {
+        val objectResponse = ExportSimpleSchemaObjectsResponse(BytesArray("{}\n"), 1, "next")
+        val recreatedObject = recreateObject(objectResponse) { ExportSimpleSchemaObjectsResponse(it) }
+        assertEquals(objectResponse.content, recreatedObject.content)
+        assertEquals(objectResponse.exportedCount, recreatedObject.exportedCount)
+        assertEquals(objectResponse.nextCursor, recreatedObject.nextCursor)
+    }
+}
@@ -7,11 +7,16 @@ package org.opensearch.simpleschema.action
 
 import com.fasterxml.jackson.core.JsonParseException
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotNull
+import org.junit.jupiter.api.Assertions.assertNull
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
+import org.opensearch.Version
+import org.opensearch.common.io.stream.BytesStreamOutput
 import org.opensearch.commons.utils.recreateObject
 import org.opensearch.simpleschema.createObjectFromJsonString
 import org.opensearch.simpleschema.getJsonString
+import org.opensearch.simpleschema.model.SearchCursor
 import org.opensearch.simpleschema.model.SimpleSchemaObjectType
 import org.opensearch.search.sort.SortOrder
 import java.util.EnumSet
@@ -28,6 +33,8 @@ internal class GetSimpleSchemaObjectRequestTests {
         assertEquals(expected.sortField, actual.sortField)
         assertEquals(expected.sortOrder, actual.sortOrder)
         assertEquals(expected.filterParams, actual.filterParams)
+        assertEquals(expected.cursor, actual.cursor)
+        assertEquals(expected.pointInTimeId, actual.pointInTimeId)
     }
 
     @Test
@@ -132,6 +139,54 @@ internal class GetSimpleSchemaObjectRequestTests {
         assertGetRequestEquals(objectRequest, recreatedObject)
     }
 
+    @Test
+    fun `Get request with cursor serialize and deserialize transport object should be equal`() {
+        val cursor = SearchCursor(1234L, "test-id", SortOrder.DESC, "test-pit").encode()
+        val objectRequest = GetSimpleSchemaObjectRequest(maxItems = 10, cursor = cursor, pointInTimeId = "test-pit")
+        val recreatedObject = recreateObject(objectRequest) { GetSimpleSchemaObjectRequest(it) }
+        assertGetRequestEquals(objectRequest, recreatedObject)
+        assertNull(recreatedObject.validate())
+        assertEquals(SearchCursor(1234L, "test-id", SortOrder.DESC, "test-pit"), SearchCursor.decode(recreatedObject.cursor!!))
+    }
+
+    @Test
+    fun `Get request cursor is not sent to nodes of versions without cursors`() {
+        val cursor = SearchCursor(1234L, "test-id", SortOrder.DESC, "test-pit").encode()
+        val objectRequest = GetSimpleSchemaObjectRequest(maxItems = 10, cursor = cursor, pointInTimeId = "test-pit")
+        BytesStreamOutput().use { output ->
+            output.version = Version.V_2_2_0
+            objectRequest.writeTo(output)
+            val input = output.bytes().streamInput()
+            input.version = Version.V_2_2_0
+            val recreatedObject = GetSimpleSchemaObjectRequest(input)
+            assertEquals(0, input.available())
+            assertEquals(objectRequest.maxItems, recreatedObject.maxItems)
+            assertNull(recreatedObject.cursor)
+            assertNull(recreatedObject.pointInTimeId)
+        }
+    }
+
+    @Test
+    fun `Get request with cursor field should deserialize json object using parser`() {
+        val cursor = SearchCursor(1234L, "test-id", SortOrder.ASC).encode()
+        val objectRequest = GetSimpleSchemaObjectRequest(cursor = cursor)
+        val jsonString = """
+        {
+            "cursor":"$cursor"
+        }
+        """.trimIndent()
+        val recreatedObject = createObjectFromJsonString(jsonString) { GetSimpleSchemaObjectRequest.parse(it) }
+        assertGetRequestEquals(objectRequest, recreatedObject)
+    }
+
+    @Test
+    fun `Get request with cursor and fromIndex or invalid cursor should fail validation`() {
+        val cursor = SearchCursor(1234L, "test-id", SortOrder.ASC).encode()
+        assertNotNull(GetSimpleSchemaObjectRequest(fromIndex = 10, cursor = cursor).validate())
+        assertNotNull(GetSimpleSchemaObjectRequest(sortField = "name", cursor = cursor).validate())
+        assertNotNull(GetSimpleSchemaObjectRequest(cursor = "not-a-cursor").validate())
+    }
+
     @Test
     fun `Get request with only sortField field should deserialize json object using parser`() {
         val objectRequest = GetSimpleSchemaObjectRequest(sortField = "sample_sortField")
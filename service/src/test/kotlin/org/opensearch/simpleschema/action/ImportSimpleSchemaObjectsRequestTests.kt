@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.simpleschema.action
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotNull
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Test
+import org.opensearch.common.bytes.BytesArray
+import org.opensearch.common.xcontent.ToXContent
+import org.opensearch.commons.utils.recreateObject
+import org.opensearch.simpleschema.constructSampleSchemaObjectDoc
+import org.opensearch.simpleschema.createObjectFromJsonString
+import org.opensearch.simpleschema.getJsonString
+import org.opensearch.simpleschema.model.RestTag.OBJECT_ID_FIELD
+import org.opensearch.simpleschema.model.SimpleSchemaObjectDoc
+
+internal class ImportSimpleSchemaObjectsRequestTests {
+    @Test
+    fun `Import request serialize and deserialize transport object should be equal`() {
+        val objectRequest = ImportSimpleSchemaObjectsRequest(BytesArray("{}\n{}\n"), true)
+        val recreatedObject = recreateObject(objectRequest) { ImportSimpleSchemaObjectsRequest(it) }
+        assertEquals(objectRequest.content, recreatedObject.content)
+        assertEquals(objectRequest.overwrite, recreatedObject.overwrite)
+        assertNull(recreatedObject.validate())
+    }
+
+    @Test
+    fun `Import request with empty content should fail validation`() {
+        assertNotNull(ImportSimpleSchemaObjectsRequest(BytesArray("")).validate())
+    }
+
+    @Test
+    fun `Exported object line should be imported as the same object`() {
+        val objectDoc = constructSampleSchemaObjectDoc()
+        val line = getJsonString(objectDoc, ToXContent.MapParams(mapOf(OBJECT_ID_FIELD to "true")))
+        val recreatedObject = createObjectFromJsonString(line) { SimpleSchemaObjectDoc.parse(it) }
+        assertEquals(objectDoc, recreatedObject)
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.simpleschema.action
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import org.opensearch.commons.utils.recreateObject
+import org.opensearch.rest.RestStatus
+import org.opensearch.simpleschema.createObjectFromJsonString
+import org.opensearch.simpleschema.getJsonString
+
+internal class ImportSimpleSchemaObjectsResponseTests {
+    @Test
+    fun `Import response serialize and deserialize transport object should be equal`() {
+        val objectResponse = ImportSimpleSchemaObjectsResponse(
+            mapOf(Pair("test-id", RestStatus.CREATED), Pair("line:2", RestStatus.BAD_REQUEST))
+        )
+        val recreatedObject = recreateObject(objectResponse) { ImportSimpleSchemaObjectsResponse(it) }
+        assertEquals(objectResponse.objectIdToStatus, recreatedObject.objectIdToStatus)
+        assertEquals(RestStatus.MULTI_STATUS, recreatedObject.getStatus())
+    }
+
+    @Test
+    fun `Import response serialize and deserialize using json object should be equal`() {
+        val objectResponse = ImportSimpleSchemaObjectsResponse(mapOf(Pair("test-id", RestStatus.CREATED)))
+        val jsonString = getJsonString(objectResponse)
+        val recreatedObject = createObjectFromJsonString(jsonString) { ImportSimpleSchemaObjectsResponse.parse(it) }
+        assertEquals(objectResponse.objectIdToStatus, recreatedObject.objectIdToStatus)
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.simpleschema.model
+
+import org.junit.jupiter.api.Assertions.assertArrayEquals
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.opensearch.common.bytes.BytesReference
+import org.opensearch.common.io.stream.BytesStreamOutput
+import org.opensearch.search.DocValueFormat
+import org.opensearch.search.SearchHit
+import org.opensearch.search.sort.SortOrder
+import java.util.Base64
+
+internal class SearchCursorTests {
+    private fun hit(id: String, vararg sortValues: Any?): SearchHit {
+        val hit = SearchHit(1, id, emptyMap(), emptyMap())
+        hit.sortValues(arrayOf(*sortValues), Array(sortValues.size) { DocValueFormat.RAW })
+        return hit
+    }
+
+    @Test
+    fun `SearchCursor encode and decode should be equal`() {
+        val cursor = SearchCursor(1234L, "test-id", SortOrder.DESC, "test-pit")
+        assertEquals(cursor, SearchCursor.decode(cursor.encode()))
+    }
+
+    @Test
+    fun `SearchCursor is positioned on the sort values of the hit`() {
+        val cursor = SearchCursor.after(hit("doc-id", 1234L, "object-id"), SortOrder.ASC, null)
+        assertArrayEquals(arrayOf<Any?>(1234L, "object-id"), cursor.sortValues())
+    }
+
+    @Test
+    fun `SearchCursor after a hit without object id keeps the missing sort value`() {
+        val cursor = SearchCursor.after(hit("legacy-id", 1234L, null), SortOrder.ASC, null)
+        assertArrayEquals(arrayOf<Any?>(1234L, null), cursor.sortValues())
+        assertEquals(cursor, SearchCursor.decode(cursor.encode()))
+    }
+
+    @Test
+    fun `SearchCursor of the previous format is decoded`() {
+        val encoded = BytesStreamOutput().use {
+            it.writeVInt(1)
+            it.writeLong(1234L)
+            it.writeString("test-id")
+            it.writeEnum(SortOrder.ASC)
+            it.writeOptionalString(null)
+            Base64.getUrlEncoder().withoutPadding().encodeToString(BytesReference.toBytes(it.bytes()))
+        }
+        assertEquals(SearchCursor(1234L, "test-id", SortOrder.ASC), SearchCursor.decode(encoded))
+    }
+
+    @Test
+    fun `SearchCursor of an unknown format should fail`() {
+        assertThrows<IllegalArgumentException> { SearchCursor.decode("not-a-cursor") }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.simpleschema.util
+
+import com.nhaarman.mockitokotlin2.mock
+import kotlinx.coroutines.TimeoutCancellationException
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withTimeout
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotNull
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.opensearch.action.ActionListener
+import org.opensearch.client.Client
+
+internal class HelpersTests {
+    private val client: Client = mock()
+
+    @Test
+    fun `suspendUntil returns the listener response`() {
+        val response = runBlocking {
+            client.suspendUntil<Client, String> { it.onResponse("done") }
+        }
+        assertEquals("done", response)
+    }
+
+    @Test
+    fun `suspendUntil rethrows the listener failure`() {
+        assertThrows<IllegalStateException> {
+            runBlocking {
+                client.suspendUntil<Client, String> { it.onFailure(IllegalStateException("failed")) }
+            }
+        }
+    }
+
+    @Test
+    fun `suspendUntil is cancelled by timeout when the listener never answers`() {
+        var listener: ActionListener<String>? = null
+        assertThrows<TimeoutCancellationException> {
+            runBlocking {
+                withTimeout(100) {
+                    client.suspendUntil<Client, String> { listener = it }
+                }
+            }
+        }
+        assertNotNull(listener)
+        // late answers after the cancellation are ignored
+        listener!!.onResponse("late")
+        listener!!.onFailure(IllegalStateException("late"))
+    }
+}